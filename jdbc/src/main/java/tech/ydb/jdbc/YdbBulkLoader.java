@@ -0,0 +1,60 @@
+package tech.ydb.jdbc;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Loader of the text data into the YDB table. Rows are parsed according to the table description and uploaded by
+ * chunks with bulk upsert requests, several chunks can be uploaded concurrently. Bulk upsert is not transactional,
+ * so in case of error some of the chunks may be already written.
+ */
+public interface YdbBulkLoader {
+    /**
+     * Sets count of rows in one bulk upsert request
+     *
+     * @param rowsCount count of rows, must be positive
+     * @return this loader
+     * @throws SQLException if value is invalid
+     */
+    YdbBulkLoader withChunkSize(int rowsCount) throws SQLException;
+
+    /**
+     * Sets count of bulk upsert requests executed concurrently
+     *
+     * @param requestsCount count of requests, must be positive
+     * @return this loader
+     * @throws SQLException if value is invalid
+     */
+    YdbBulkLoader withParallelism(int requestsCount) throws SQLException;
+
+    /**
+     * Loads RFC 4180 CSV data. The first line must contain names of the table columns, unquoted empty fields are
+     * loaded as NULL
+     *
+     * @param reader source of CSV data
+     * @return count of loaded rows
+     * @throws SQLException if data cannot be parsed or uploaded
+     */
+    long loadCsv(Reader reader) throws SQLException;
+
+    /**
+     * Loads JSON lines data, every line must contain one JSON object. Keys of the first object define the set of
+     * loaded columns, missing keys and JSON nulls are loaded as NULL
+     *
+     * @param reader source of JSON lines data
+     * @return count of loaded rows
+     * @throws SQLException if data cannot be parsed or uploaded
+     */
+    long loadJsonLines(Reader reader) throws SQLException;
+
+    default long loadCsv(InputStream stream) throws SQLException {
+        return loadCsv(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    default long loadJsonLines(InputStream stream) throws SQLException {
+        return loadJsonLines(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+}
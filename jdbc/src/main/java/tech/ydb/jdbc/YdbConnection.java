@@ -49,23 +49,27 @@ public interface YdbConnection extends Connection {
      * @param params parameters for query
      * @param timeout timeout of operation
      * @param keepInCache flag to store query in server-side cache
+     * @param maxRows limit of rows of each result set, the rest of the response may be not transferred.
+     * Value 0 means no limit
      * @param validator handler for logging and warnings
      * @return list of result set
      * @throws SQLException if query cannot be executed
      */
     List<ResultSetReader> executeDataQuery(YdbQuery query, YdbValidator validator,
-            int timeout, boolean keepInCache, Params params) throws SQLException;
+            int timeout, boolean keepInCache, int maxRows, Params params) throws SQLException;
 
     /**
      * Explicitly execute query as a scan query
      *
      * @param query query to execute
      * @param params parameters for query
+     * @param maxRows limit of rows to read, the rest of the stream is cancelled. Value 0 means no limit
      * @param validator handler for logging and warnings
      * @return single result set with rows
      * @throws SQLException if query cannot be executed
      */
-    ResultSetReader executeScanQuery(YdbQuery query, YdbValidator validator, Params params) throws SQLException;
+    ResultSetReader executeScanQuery(YdbQuery query, YdbValidator validator, int maxRows, Params params)
+            throws SQLException;
 
     /**
      * Explicitly explain this query
@@ -78,6 +82,15 @@ public interface YdbConnection extends Connection {
      */
     ExplainDataQueryResult executeExplainQuery(YdbQuery query, YdbValidator validator) throws SQLException;
 
+    /**
+     * Creates loader of text data into the table
+     *
+     * @param tableName name of the table, relative to the database or absolute
+     * @return bulk loader
+     * @throws SQLException if connection is closed
+     */
+    YdbBulkLoader createBulkLoader(String tableName) throws SQLException;
+
     @Override
     YdbDatabaseMetaData getMetaData() throws SQLException;
 
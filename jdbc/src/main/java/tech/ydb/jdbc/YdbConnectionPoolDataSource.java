@@ -0,0 +1,153 @@
+package tech.ydb.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import javax.sql.ConnectionPoolDataSource;
+
+import tech.ydb.jdbc.common.RefCountedCache;
+import tech.ydb.jdbc.common.SharedScheduler;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.impl.YdbConnectionImpl;
+import tech.ydb.jdbc.impl.YdbPooledConnection;
+import tech.ydb.jdbc.settings.YdbConfig;
+
+/**
+ * Source of physical connections for external connection pools. All connections with the same config share one YDB
+ * context, which is closed together with the last connection.
+ */
+public class YdbConnectionPoolDataSource implements ConnectionPoolDataSource, AutoCloseable {
+    private static final Logger PARENT_LOGGER = Logger.getLogger("tech.ydb.jdbc");
+    private static final int DEFAULT_STATEMENTS_CACHE_SIZE = 64;
+
+    private final SharedScheduler scheduler = new SharedScheduler("ydb-jdbc-datasource-scheduler");
+    private final RefCountedCache<YdbConfig, YdbContext> contexts = new RefCountedCache<>(
+            config -> YdbContext.createContext(config, scheduler), 0
+    );
+    private final Properties properties = new Properties();
+
+    private volatile String url;
+    private volatile int statementsCacheSize = DEFAULT_STATEMENTS_CACHE_SIZE;
+    private volatile int loginTimeout = 0;
+    private volatile PrintWriter logWriter = null;
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public void setUser(String user) {
+        properties.setProperty(YdbConfig.USERNAME_KEY, user);
+    }
+
+    public void setPassword(String password) {
+        properties.setProperty(YdbConfig.PASSWORD_KEY, password);
+    }
+
+    /**
+     * Sets connection property, the full list of properties is provided by {@link YdbDriver#getPropertyInfo}
+     *
+     * @param name name of property
+     * @param value value of property
+     */
+    public void setProperty(String name, String value) {
+        properties.setProperty(name, value);
+    }
+
+    public int getStatementsCacheSize() {
+        return statementsCacheSize;
+    }
+
+    /**
+     * Sets max count of idle prepared statements cached by every physical connection
+     *
+     * @param size max count of statements, value 0 disables caching
+     */
+    public void setStatementsCacheSize(int size) {
+        this.statementsCacheSize = Math.max(0, size);
+    }
+
+    @Override
+    public YdbPooledConnection getPooledConnection() throws SQLException {
+        return new YdbPooledConnection(createConnection(properties), statementsCacheSize);
+    }
+
+    @Override
+    public YdbPooledConnection getPooledConnection(String user, String password) throws SQLException {
+        return new YdbPooledConnection(createConnection(withCredentials(user, password)), statementsCacheSize);
+    }
+
+    /**
+     * Closes YDB contexts of all connections
+     */
+    @Override
+    public void close() {
+        contexts.close();
+    }
+
+    protected Properties withCredentials(String user, String password) {
+        Properties props = new Properties();
+        props.putAll(properties);
+        if (user != null) {
+            props.setProperty(YdbConfig.USERNAME_KEY, user);
+        }
+        if (password != null) {
+            props.setProperty(YdbConfig.PASSWORD_KEY, password);
+        }
+        return props;
+    }
+
+    protected YdbConnectionImpl createConnection(Properties props) throws SQLException {
+        if (url == null || !YdbConfig.isYdb(url)) {
+            throw new SQLException(YdbConst.INVALID_DATA_SOURCE_URL + url);
+        }
+
+        YdbConfig config = YdbConfig.from(url, props);
+        RefCountedCache<YdbConfig, YdbContext>.Lease lease = contexts.acquire(config);
+        try {
+            return new YdbConnectionImpl(lease.get().withConfig(config)) {
+                @Override
+                public void close() throws SQLException {
+                    try {
+                        super.close();
+                    } finally {
+                        lease.release();
+                    }
+                }
+            };
+        } catch (SQLException | RuntimeException ex) {
+            lease.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return loginTimeout;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return PARENT_LOGGER;
+    }
+}
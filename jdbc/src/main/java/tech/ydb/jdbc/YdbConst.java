@@ -22,6 +22,8 @@ public final class YdbConst {
     public static final int MAX_CONNECTIONS = 1000;
     public static final int MAX_ELEMENT_NAME_LENGTH = 255;
     public static final int MAX_STATEMENT_LENGTH = 10 * 1024; // max query size
+    public static final int MAX_STREAM_VALUE_SIZE = 64 * 1024 * 1024; // max gRPC message size
+    public static final int STREAM_BUFFER_SIZE = 64 * 1024;
 
 
     // Messages
@@ -33,6 +35,9 @@ public final class YdbConst {
 
     public static final String PREPARED_CALLS_UNSUPPORTED = "Prepared calls are not supported";
     public static final String ARRAYS_UNSUPPORTED = "Arrays are not supported";
+    public static final String ARRAY_RESULT_SET_UNSUPPORTED = "ResultSet of array is not supported";
+    public static final String ARRAY_TYPE_UNKNOWN = "Unable to find YDB type of array items: ";
+    public static final String INVALID_ARRAY_RANGE = "Invalid range of array: ";
     public static final String STRUCTS_UNSUPPORTED = "Structs are not supported";
     public static final String BLOB_UNSUPPORTED = "Blobs are not supported";
     public static final String NCLOB_UNSUPPORTED = "NClobs are not supported";
@@ -54,10 +59,14 @@ public final class YdbConst {
     public static final String QUERY_EXPECT_RESULT_SET = "Query must return ResultSet";
     public static final String QUERY_EXPECT_UPDATE = "Query must not return ResultSet";
     public static final String UNABLE_TO_SET_NULL_OBJECT = "Unable to set null object, type is required";
+    public static final String OBJECT_TYPE_IS_NULL = "Type of object is required";
     public static final String DIRECTION_UNSUPPORTED = "Direction is not supported: ";
     public static final String RESULT_SET_MODE_UNSUPPORTED = "ResultSet mode is not supported: ";
     public static final String RESULT_SET_UNAVAILABLE = "ResultSet is not available at index: ";
     public static final String RESULT_IS_TRUNCATED = "Result #%s was truncated to %s rows";
+    public static final String CANNOT_SPILL_RESULT = "Cannot spill result set to temporary file: ";
+    public static final String INVALID_MAX_ROWS = "Max rows value cannot be negative: ";
+    public static final String INVALID_FETCH_SIZE = "Fetch size cannot be negative: ";
     public static final String INVALID_FETCH_DIRECTION = "Fetch direction %s cannot be used when result set type is %s";
     public static final String COLUMN_NOT_FOUND = "Column not found: ";
     public static final String COLUMN_NUMBER_NOT_FOUND = "Column is out of range: ";
@@ -67,6 +76,7 @@ public final class YdbConst {
     public static final String INVALID_ROW = "Current row index is out of bounds: ";
     public static final String BATCH_UNSUPPORTED = "Batches are not supported in simple prepared statements";
     public static final String BATCH_INVALID = "Batches are not supported for query type: ";
+    public static final String BATCH_REJECTED = "Batch cannot be executed: ";
     public static final String METADATA_RS_UNSUPPORTED_IN_PS = "ResultSet metadata is not supported " +
             "in prepared statements";
     public static final String CANNOT_UNWRAP_TO = "Cannot unwrap to ";
@@ -80,12 +90,24 @@ public final class YdbConst {
     public static final String CHANGE_ISOLATION_INSIDE_TX = "Cannot change transaction isolation inside a transaction";
     public static final String UNSUPPORTED_TRANSACTION_LEVEL = "Unsupported transaction level: ";
     public static final String CLOSED_CONNECTION = "Connection is closed";
+    public static final String ABORTED_CONNECTION = "Connection is aborted";
+    public static final String INVALID_DATA_SOURCE_URL = "Invalid YDB url of data source: ";
+    public static final String CONNECTION_POOL_IS_CLOSED = "Connection pool is closed";
+    public static final String CONNECTION_POOL_TIMEOUT = "Timeout of waiting for free connection in pool: %d ms";
+    public static final String RESULT_SET_IS_CLOSED = "Result set is closed";
     public static final String DB_QUERY_DEADLINE_EXCEEDED = "DB query deadline exceeded: ";
     public static final String DB_QUERY_CANCELLED = "DB query cancelled: ";
     public static final String DATABASE_QUERY_INTERRUPTED = "Database query interrupted";
     public static final String DATABASE_UNAVAILABLE = "Database is unavailable: ";
     public static final String CANNOT_LOAD_DATA_FROM_IS = "Unable to load data from input stream: ";
     public static final String CANNOT_LOAD_DATA_FROM_READER = "Unable to load data from reader: ";
+    public static final String CANNOT_EXPORT_RESULT = "Unable to export result set: ";
+    public static final String CANNOT_LOAD_DATA = "Unable to load data at line %d: %s";
+    public static final String BULK_LOAD_COLUMN_NOT_FOUND = "Table %s has no column %s";
+    public static final String INVALID_BULK_LOAD_OPTION = "Bulk load %s must be positive: %d";
+    public static final String STREAM_VALUE_TOO_LARGE = "Stream value exceeds max size of %d bytes";
+    public static final String DEFERRED_QUERY_FAILED = "Request failed on deferred statement: ";
+    public static final String DEFERRED_QUERIES_FAILED = "Request with deferred statements failed: ";
     public static final String UNSUPPORTED_QUERY_TYPE_IN_PS = "Query type in prepared statement not supported: ";
     public static final String STATEMENT_IS_NOT_A_BATCH = "Statement cannot be executed as batch statement: ";
     public static final String MULTI_TYPES_IN_ONE_QUERY = "Query cannot contain expressions with different types: ";
@@ -128,6 +150,8 @@ public final class YdbConst {
     // Processing queries
     public static final String EXPLAIN_COLUMN_AST = "AST";
     public static final String EXPLAIN_COLUMN_PLAN = "PLAN";
+    // comment which allows to cache results of query in any transaction mode
+    public static final String RESULT_CACHE_HINT = "/*+ RESULT_CACHE */";
 
     public static final String JDBC_PREFIX = "jdbc:";
     public static final String JDBC_YDB_PREFIX = JDBC_PREFIX + "ydb:";
@@ -0,0 +1,98 @@
+package tech.ydb.jdbc;
+
+import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import tech.ydb.jdbc.impl.YdbConnectionPool;
+
+/**
+ * Data source with the built-in pool of physical connections. Closing of connection returns it to the pool with reset
+ * transaction state, poolable prepared statements are cached by physical connections and reused. The login timeout
+ * limits the waiting for free connection when the pool is exhausted.
+ */
+public class YdbDataSource extends YdbConnectionPoolDataSource implements DataSource {
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+
+    private final ReentrantLock poolLock = new ReentrantLock();
+    private volatile YdbConnectionPool pool = null;
+    private volatile int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * Sets max count of physical connections, must be called before the first connection is requested
+     *
+     * @param size max count of physical connections
+     */
+    public void setMaxPoolSize(int size) {
+        this.maxPoolSize = Math.max(1, size);
+    }
+
+    @Override
+    public YdbConnection getConnection() throws SQLException {
+        return getPool().getConnection(getLoginTimeout() * 1000L);
+    }
+
+    /**
+     * Returns not pooled connection with the specified credentials
+     *
+     * @param username user name
+     * @param password user password
+     * @return new physical connection
+     * @throws SQLException if connection cannot be created
+     */
+    @Override
+    public YdbConnection getConnection(String username, String password) throws SQLException {
+        return createConnection(withCredentials(username, password));
+    }
+
+    /**
+     * Closes the pool, connections in use are closed when they are returned to the pool
+     */
+    @Override
+    public void close() {
+        poolLock.lock();
+        try {
+            if (pool != null) {
+                pool.close();
+            }
+        } finally {
+            poolLock.unlock();
+        }
+        // contexts are closed together with the last physical connection
+    }
+
+    private YdbConnectionPool getPool() {
+        YdbConnectionPool current = pool;
+        if (current != null) {
+            return current;
+        }
+
+        poolLock.lock();
+        try {
+            if (pool == null) {
+                pool = new YdbConnectionPool(this::getPooledConnection, maxPoolSize);
+            }
+            return pool;
+        } finally {
+            poolLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isAssignableFrom(getClass())) {
+            return iface.cast(this);
+        }
+        throw new SQLException(YdbConst.CANNOT_UNWRAP_TO + iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isAssignableFrom(getClass());
+    }
+}
@@ -5,6 +5,7 @@ import java.sql.DriverManager;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
@@ -12,6 +13,8 @@ import java.util.logging.Logger;
 
 import javax.annotation.Nullable;
 
+import tech.ydb.jdbc.common.RefCountedCache;
+import tech.ydb.jdbc.common.SharedScheduler;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.impl.YdbConnectionImpl;
 import tech.ydb.jdbc.settings.YdbConfig;
@@ -38,7 +41,16 @@ public class YdbDriver implements Driver {
         }
     }
 
-    private final ConcurrentHashMap<YdbConfig, YdbContext> cache = new ConcurrentHashMap<>();
+    // unused context is closed with delay, so short-lived connections of clients without pool reuse it
+    private static final long CONTEXT_CLOSE_DELAY_MILLIS = 1000;
+
+    // scheduler for contexts with option useSharedScheduler, threads are stopped when such contexts are closed
+    private final SharedScheduler scheduler = new SharedScheduler("ydb-jdbc-driver-scheduler");
+    private final RefCountedCache<YdbConfig, YdbContext> cache = new RefCountedCache<>(
+            config -> YdbContext.createContext(config, scheduler), CONTEXT_CLOSE_DELAY_MILLIS
+    );
+    // contexts returned by getCachedContext are retained by one lease per config until the driver is closed
+    private final Map<YdbConfig, RefCountedCache<YdbConfig, YdbContext>.Lease> pinned = new ConcurrentHashMap<>();
 
     @Override
     public YdbConnection connect(String url, Properties info) throws SQLException {
@@ -53,7 +65,7 @@ public class YdbDriver implements Driver {
         });
 
         if (!config.isCacheConnectionsInDriver()) {
-            final YdbContext context = YdbContext.createContext(config);
+            final YdbContext context = YdbContext.createContext(config, scheduler);
             return new YdbConnectionImpl(context) {
                 @Override
                 public void close() throws SQLException {
@@ -63,34 +75,44 @@ public class YdbDriver implements Driver {
             };
         }
 
-        YdbContext cached = getCachedContext(config);
-        return new YdbConnectionImpl(cached) {
-            @Override
-            public void close() throws SQLException {
-                super.close();
-                if (!cached.hasConnections() && cache.remove(config, cached)) {
-                    cached.close();
+        RefCountedCache<YdbConfig, YdbContext>.Lease lease = cache.acquire(config);
+        try {
+            return new YdbConnectionImpl(lease.get().withConfig(config)) {
+                @Override
+                public void close() throws SQLException {
+                    try {
+                        super.close();
+                    } finally {
+                        lease.release();
+                    }
                 }
-            }
-        };
+            };
+        } catch (SQLException | RuntimeException ex) {
+            lease.release();
+            throw ex;
+        }
     }
 
+    /**
+     * Returns the cached context for the config. Context acquired by this method stays in cache until the driver is
+     * closed. Configs which differ only in operation properties share one cached context
+     *
+     * @param config config of context
+     * @return cached context
+     * @throws SQLException if context cannot be created
+     */
     public YdbContext getCachedContext(YdbConfig config) throws SQLException {
-        // Workaround for https://bugs.openjdk.java.net/browse/JDK-8161372 to prevent unnecessary locks in Java 8
-        // Was fixed in Java 9+
-        YdbContext context = cache.get(config);
-        if (context != null) {
-            LOGGER.log(Level.FINE, "Reusing YDB connection to {0}", config.getSafeUrl());
-            return context;
-        }
-
-        context = YdbContext.createContext(config);
-        YdbContext old = cache.putIfAbsent(config, context);
-        if (old != null) {
-            context.close();
-            return old;
+        RefCountedCache<YdbConfig, YdbContext>.Lease lease = pinned.get(config);
+        if (lease == null) {
+            RefCountedCache<YdbConfig, YdbContext>.Lease created = cache.acquire(config);
+            lease = pinned.putIfAbsent(config, created);
+            if (lease != null) {
+                created.release();
+            } else {
+                lease = created;
+            }
         }
-        return context;
+        return lease.get().withConfig(config);
     }
 
     @Override
@@ -130,8 +152,8 @@ public class YdbDriver implements Driver {
 
     public void close() {
         LOGGER.log(Level.INFO, "Closing {0} cached connection(s)...", cache.size());
-        cache.values().forEach(YdbContext::close);
-        cache.clear();
+        cache.close();
+        pinned.clear();
     }
 
     public static boolean isRegistered() {
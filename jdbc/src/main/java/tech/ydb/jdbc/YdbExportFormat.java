@@ -0,0 +1,12 @@
+package tech.ydb.jdbc;
+
+public enum YdbExportFormat {
+    /**
+     * RFC 4180 CSV in UTF-8 with the header line
+     */
+    CSV,
+    /**
+     * Apache Arrow IPC streaming format
+     */
+    ARROW_IPC
+}
@@ -1,9 +1,13 @@
 package tech.ydb.jdbc;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
 
+import tech.ydb.jdbc.common.ArrowStreamWriter;
+import tech.ydb.jdbc.common.CsvWriter;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.values.Value;
 
@@ -38,6 +42,33 @@ public interface YdbResultSet extends ResultSet {
      */
     Optional<Value<?>> getNativeColumn(String columnLabel) throws SQLException;
 
+    /**
+     * Writes all rows of this result set to the stream in the given format. Rows are read directly from the
+     * YDB result set reader, the cursor position is not changed. The stream is not closed after writing.
+     * Default implementation writes all rows of {@link #getYdbResultSetReader()} and leaves the reader on the last
+     * row, implementations which use that reader as a cursor must override it.
+     *
+     * @param out output stream
+     * @param format export format
+     * @throws SQLException if result set cannot be exported
+     */
+    default void exportTo(OutputStream out, YdbExportFormat format) throws SQLException {
+        ResultSetReader reader = getYdbResultSetReader();
+        try {
+            switch (format) {
+                case ARROW_IPC:
+                    ArrowStreamWriter.write(reader, reader.getRowCount(), out);
+                    break;
+                case CSV:
+                default:
+                    CsvWriter.write(reader, reader.getRowCount(), out);
+                    break;
+            }
+        } catch (IOException ex) {
+            throw new SQLException(YdbConst.CANNOT_EXPORT_RESULT + ex.getMessage(), ex);
+        }
+    }
+
     //
 
     @Override
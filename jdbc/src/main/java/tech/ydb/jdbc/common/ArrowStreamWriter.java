@@ -0,0 +1,506 @@
+package tech.ydb.jdbc.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.DecimalValue;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+
+/**
+ * Writes result set in the Arrow IPC streaming format. Rows are written by record batches of limited size, every
+ * batch is built directly from the column readers without JDBC getters and boxing. YDB types are mapped to
+ * the nearest Arrow types, types without native Arrow representation are written as UTF-8 strings.
+ */
+public class ArrowStreamWriter {
+    private static final int BATCH_ROWS = 64 * 1024;
+
+    private static final int CONTINUATION = 0xFFFFFFFF;
+    private static final int METADATA_V5 = 4;
+    private static final int HEADER_SCHEMA = 1;
+    private static final int HEADER_RECORD_BATCH = 3;
+
+    private static final int TYPE_INT = 2;
+    private static final int TYPE_FLOATING_POINT = 3;
+    private static final int TYPE_BINARY = 4;
+    private static final int TYPE_UTF8 = 5;
+    private static final int TYPE_BOOL = 6;
+    private static final int TYPE_DECIMAL = 7;
+    private static final int TYPE_DATE = 8;
+    private static final int TYPE_TIMESTAMP = 10;
+    private static final int TYPE_DURATION = 18;
+
+    private static final int PRECISION_SINGLE = 1;
+    private static final int PRECISION_DOUBLE = 2;
+    private static final int DATE_UNIT_DAY = 0;
+    private static final int TIME_UNIT_SECOND = 0;
+    private static final int TIME_UNIT_MICROSECOND = 2;
+
+    private final OutputStream out;
+    private final ResultSetReader rs;
+    private final Vector[] vectors;
+
+    private ArrowStreamWriter(ResultSetReader rs, OutputStream out) {
+        this.out = out;
+        this.rs = rs;
+        this.vectors = new Vector[rs.getColumnCount()];
+        for (int idx = 0; idx < vectors.length; idx++) {
+            vectors[idx] = createVector(rs.getColumnName(idx), rs.getColumnType(idx));
+        }
+    }
+
+    /**
+     * Writes first rows of result set to the stream in the Arrow IPC streaming format. Position of the result set
+     * reader is changed
+     *
+     * @param rs result set reader
+     * @param rowCount count of rows to write
+     * @param out output stream, it is not closed after writing
+     * @throws IOException if stream cannot be written
+     * @throws SQLException if value cannot be converted
+     */
+    public static void write(ResultSetReader rs, int rowCount, OutputStream out) throws IOException, SQLException {
+        ArrowStreamWriter writer = new ArrowStreamWriter(rs, out);
+        writer.writeSchema();
+        for (int from = 0; from < rowCount; from += BATCH_ROWS) {
+            writer.writeBatch(from, Math.min(rowCount, from + BATCH_ROWS));
+        }
+        writer.writeInt(CONTINUATION);
+        writer.writeInt(0);
+        out.flush();
+    }
+
+    private void writeSchema() throws IOException {
+        FlatBufferWriter fb = new FlatBufferWriter();
+        int[] message = fb.table(fb.root())
+                .addShort(0, METADATA_V5)
+                .addByte(1, HEADER_SCHEMA)
+                .addOffset(2)
+                .addLong(3, 0)
+                .end();
+
+        int[] schema = fb.table(message[0]).addOffset(1).end(); // endianness is Little by default
+        int[] fields = fb.vector(schema[0], vectors.length);
+        for (int idx = 0; idx < vectors.length; idx++) {
+            Vector vector = vectors[idx];
+            int[] field = fb.table(fields[idx])
+                    .addOffset(0)
+                    .addBool(1, vector.nullable)
+                    .addByte(2, vector.typeId)
+                    .addOffset(3)
+                    .addOffset(5)
+                    .end();
+            fb.string(field[0], vector.name);
+            vector.writeType(fb, field[1]);
+            fb.vector(field[2], 0); // no children
+        }
+
+        writeMessage(fb.toByteArray(8));
+    }
+
+    private void writeBatch(int from, int to) throws IOException, SQLException {
+        for (Vector vector: vectors) {
+            vector.reset();
+        }
+        for (int row = from; row < to; row++) {
+            rs.setRowIndex(row);
+            for (int idx = 0; idx < vectors.length; idx++) {
+                vectors[idx].append(rs.getColumn(idx));
+            }
+        }
+
+        List<Buffer> buffers = new ArrayList<>();
+        long[] nodes = new long[vectors.length * 2];
+        for (int idx = 0; idx < vectors.length; idx++) {
+            nodes[idx * 2] = vectors[idx].length;
+            nodes[idx * 2 + 1] = vectors[idx].nullCount;
+            vectors[idx].collectBuffers(buffers);
+        }
+
+        long bodyLength = 0;
+        long[] bufferLayout = new long[buffers.size() * 2];
+        for (int idx = 0; idx < buffers.size(); idx++) {
+            bufferLayout[idx * 2] = bodyLength;
+            bufferLayout[idx * 2 + 1] = buffers.get(idx).size;
+            bodyLength += padded(buffers.get(idx).size);
+        }
+
+        FlatBufferWriter fb = new FlatBufferWriter();
+        int[] message = fb.table(fb.root())
+                .addShort(0, METADATA_V5)
+                .addByte(1, HEADER_RECORD_BATCH)
+                .addOffset(2)
+                .addLong(3, bodyLength)
+                .end();
+        int[] batch = fb.table(message[0])
+                .addLong(0, to - from)
+                .addOffset(1)
+                .addOffset(2)
+                .end();
+        fb.structVector(batch[0], 2, nodes);
+        fb.structVector(batch[1], 2, bufferLayout);
+
+        writeMessage(fb.toByteArray(8));
+        for (Buffer buffer: buffers) {
+            out.write(buffer.data, 0, buffer.size);
+            writePadding(buffer.size);
+        }
+    }
+
+    private void writeMessage(byte[] metadata) throws IOException {
+        writeInt(CONTINUATION);
+        writeInt(metadata.length);
+        out.write(metadata);
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private void writePadding(int size) throws IOException {
+        for (int idx = size; idx < padded(size); idx++) {
+            out.write(0);
+        }
+    }
+
+    private static long padded(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static int padded(int size) {
+        return (size + 7) & ~7;
+    }
+
+    private static Vector createVector(String name, Type type) {
+        boolean nullable = type.getKind() == Type.Kind.OPTIONAL;
+        Type itemType = nullable ? ((OptionalType) type).getItemType() : type;
+
+        if (itemType.getKind() == Type.Kind.DECIMAL) {
+            DecimalType decimal = (DecimalType) itemType;
+            return new FixedVector(name, nullable, TYPE_DECIMAL, 16, (fb, ref) -> fb.table(ref)
+                    .addInt(0, decimal.getPrecision())
+                    .addInt(1, decimal.getScale())
+                    .addInt(2, 128)
+                    .end(), (buf, value) -> {
+                        DecimalValue dv = value.getDecimal();
+                        buf.putLong(dv.getLow());
+                        buf.putLong(dv.getHigh());
+                    });
+        }
+
+        if (itemType.getKind() != Type.Kind.PRIMITIVE) {
+            return new BinaryVector(name, nullable, TYPE_UTF8, stringReader(type));
+        }
+
+        switch ((PrimitiveType) itemType) {
+            case Bool:
+                return new BoolVector(name, nullable);
+            case Int8:
+                return intVector(name, nullable, 8, true, (buf, value) -> buf.putByte(value.getInt8()));
+            case Uint8:
+                return intVector(name, nullable, 8, false, (buf, value) -> buf.putByte(value.getUint8()));
+            case Int16:
+                return intVector(name, nullable, 16, true, (buf, value) -> buf.putShort(value.getInt16()));
+            case Uint16:
+                return intVector(name, nullable, 16, false, (buf, value) -> buf.putShort(value.getUint16()));
+            case Int32:
+                return intVector(name, nullable, 32, true, (buf, value) -> buf.putInt(value.getInt32()));
+            case Uint32:
+                return intVector(name, nullable, 32, false, (buf, value) -> buf.putInt((int) value.getUint32()));
+            case Int64:
+                return intVector(name, nullable, 64, true, (buf, value) -> buf.putLong(value.getInt64()));
+            case Uint64:
+                return intVector(name, nullable, 64, false, (buf, value) -> buf.putLong(value.getUint64()));
+            case Float:
+                return new FixedVector(name, nullable, TYPE_FLOATING_POINT, 4,
+                        (fb, ref) -> fb.table(ref).addShort(0, PRECISION_SINGLE).end(),
+                        (buf, value) -> buf.putInt(Float.floatToRawIntBits(value.getFloat())));
+            case Double:
+                return new FixedVector(name, nullable, TYPE_FLOATING_POINT, 8,
+                        (fb, ref) -> fb.table(ref).addShort(0, PRECISION_DOUBLE).end(),
+                        (buf, value) -> buf.putLong(Double.doubleToRawLongBits(value.getDouble())));
+            case Date:
+                return new FixedVector(name, nullable, TYPE_DATE, 4,
+                        (fb, ref) -> fb.table(ref).addShort(0, DATE_UNIT_DAY).end(),
+                        (buf, value) -> buf.putInt((int) value.getDate().toEpochDay()));
+            case Datetime:
+                return new FixedVector(name, nullable, TYPE_TIMESTAMP, 8,
+                        (fb, ref) -> fb.table(ref).addShort(0, TIME_UNIT_SECOND).end(),
+                        (buf, value) -> buf.putLong(value.getDatetime().toEpochSecond(ZoneOffset.UTC)));
+            case Timestamp:
+                return new FixedVector(name, nullable, TYPE_TIMESTAMP, 8,
+                        (fb, ref) -> fb.table(ref).addShort(0, TIME_UNIT_MICROSECOND).end(),
+                        (buf, value) -> {
+                            Instant instant = value.getTimestamp();
+                            buf.putLong(instant.getEpochSecond() * 1000000L + instant.getNano() / 1000);
+                        });
+            case Interval:
+                return new FixedVector(name, nullable, TYPE_DURATION, 8,
+                        (fb, ref) -> fb.table(ref).addShort(0, TIME_UNIT_MICROSECOND).end(),
+                        (buf, value) -> buf.putLong(value.getInterval().toNanos() / 1000));
+            case Bytes:
+                return new BinaryVector(name, nullable, TYPE_BINARY, ValueReader::getBytes);
+            case Yson:
+                return new BinaryVector(name, nullable, TYPE_BINARY, ValueReader::getYson);
+            case Text:
+                return new BinaryVector(name, nullable, TYPE_UTF8,
+                        value -> value.getText().getBytes(StandardCharsets.UTF_8));
+            case Json:
+                return new BinaryVector(name, nullable, TYPE_UTF8,
+                        value -> value.getJson().getBytes(StandardCharsets.UTF_8));
+            case JsonDocument:
+                return new BinaryVector(name, nullable, TYPE_UTF8,
+                        value -> value.getJsonDocument().getBytes(StandardCharsets.UTF_8));
+            case Uuid:
+                return new BinaryVector(name, nullable, TYPE_UTF8,
+                        value -> value.getUuid().toString().getBytes(StandardCharsets.UTF_8));
+            default:
+                return new BinaryVector(name, nullable, TYPE_UTF8, stringReader(type));
+        }
+    }
+
+    private static BytesReader stringReader(Type type) {
+        MappingGetters.Getters getters = TypeDescription.of(type).getters();
+        return value -> getters.readString(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Vector intVector(String name, boolean nullable, int bitWidth, boolean signed, ValueWriter writer) {
+        return new FixedVector(name, nullable, TYPE_INT, bitWidth / 8,
+                (fb, ref) -> fb.table(ref).addInt(0, bitWidth).addBool(1, signed).end(), writer);
+    }
+
+    private interface TypeWriter {
+        void write(FlatBufferWriter fb, int ref);
+    }
+
+    private interface ValueWriter {
+        void write(Buffer buf, ValueReader value) throws SQLException;
+    }
+
+    private interface BytesReader {
+        byte[] read(ValueReader value) throws SQLException;
+    }
+
+    private static final class Buffer {
+        private byte[] data = new byte[64];
+        private int size = 0;
+
+        void clear() {
+            size = 0;
+        }
+
+        void ensureCapacity(int count) {
+            if (size + count > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + count));
+            }
+        }
+
+        void putByte(int value) {
+            ensureCapacity(1);
+            data[size++] = (byte) value;
+        }
+
+        void putShort(int value) {
+            putByte(value);
+            putByte(value >>> 8);
+        }
+
+        void putInt(int value) {
+            putShort(value);
+            putShort(value >>> 16);
+        }
+
+        void putLong(long value) {
+            putInt((int) value);
+            putInt((int) (value >>> 32));
+        }
+
+        void putBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, data, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void setBit(int index, boolean value) {
+            int byteIndex = index >>> 3;
+            while (size <= byteIndex) {
+                putByte(0);
+            }
+            if (value) {
+                data[byteIndex] |= (byte) (1 << (index & 7));
+            }
+        }
+    }
+
+    private abstract static class Vector {
+        private final String name;
+        private final boolean nullable;
+        private final int typeId;
+        private final Buffer validity = new Buffer();
+
+        private int length = 0;
+        private int nullCount = 0;
+
+        Vector(String name, boolean nullable, int typeId) {
+            this.name = name;
+            this.nullable = nullable;
+            this.typeId = typeId;
+        }
+
+        void reset() {
+            validity.clear();
+            length = 0;
+            nullCount = 0;
+        }
+
+        void append(ValueReader value) throws SQLException {
+            boolean isPresent = !nullable || value.isOptionalItemPresent();
+            validity.setBit(length, isPresent);
+            if (isPresent) {
+                appendValue(value);
+            } else {
+                nullCount++;
+                appendNull();
+            }
+            length++;
+        }
+
+        void collectBuffers(List<Buffer> buffers) {
+            buffers.add(validity);
+        }
+
+        void writeType(FlatBufferWriter fb, int ref) {
+            fb.table(ref).end();
+        }
+
+        abstract void appendValue(ValueReader value) throws SQLException;
+
+        abstract void appendNull();
+    }
+
+    private static final class FixedVector extends Vector {
+        private final int width;
+        private final TypeWriter typeWriter;
+        private final ValueWriter valueWriter;
+        private final Buffer values = new Buffer();
+
+        FixedVector(String name, boolean nullable, int typeId, int width, TypeWriter type, ValueWriter writer) {
+            super(name, nullable, typeId);
+            this.width = width;
+            this.typeWriter = type;
+            this.valueWriter = writer;
+        }
+
+        @Override
+        void reset() {
+            super.reset();
+            values.clear();
+        }
+
+        @Override
+        void writeType(FlatBufferWriter fb, int ref) {
+            typeWriter.write(fb, ref);
+        }
+
+        @Override
+        void appendValue(ValueReader value) throws SQLException {
+            valueWriter.write(values, value);
+        }
+
+        @Override
+        void appendNull() {
+            for (int idx = 0; idx < width; idx++) {
+                values.putByte(0);
+            }
+        }
+
+        @Override
+        void collectBuffers(List<Buffer> buffers) {
+            super.collectBuffers(buffers);
+            buffers.add(values);
+        }
+    }
+
+    private static final class BoolVector extends Vector {
+        private final Buffer values = new Buffer();
+        private int count = 0;
+
+        BoolVector(String name, boolean nullable) {
+            super(name, nullable, TYPE_BOOL);
+        }
+
+        @Override
+        void reset() {
+            super.reset();
+            values.clear();
+            count = 0;
+        }
+
+        @Override
+        void appendValue(ValueReader value) {
+            values.setBit(count++, value.getBool());
+        }
+
+        @Override
+        void appendNull() {
+            values.setBit(count++, false);
+        }
+
+        @Override
+        void collectBuffers(List<Buffer> buffers) {
+            super.collectBuffers(buffers);
+            buffers.add(values);
+        }
+    }
+
+    private static final class BinaryVector extends Vector {
+        private final BytesReader reader;
+        private final Buffer offsets = new Buffer();
+        private final Buffer values = new Buffer();
+
+        BinaryVector(String name, boolean nullable, int typeId, BytesReader reader) {
+            super(name, nullable, typeId);
+            this.reader = reader;
+        }
+
+        @Override
+        void reset() {
+            super.reset();
+            offsets.clear();
+            values.clear();
+            offsets.putInt(0);
+        }
+
+        @Override
+        void appendValue(ValueReader value) throws SQLException {
+            values.putBytes(reader.read(value));
+            offsets.putInt(values.size);
+        }
+
+        @Override
+        void appendNull() {
+            offsets.putInt(values.size);
+        }
+
+        @Override
+        void collectBuffers(List<Buffer> buffers) {
+            super.collectBuffers(buffers);
+            buffers.add(offsets);
+            buffers.add(values);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package tech.ydb.jdbc.common;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Input stream which encodes the char sequence lazily by small chunks, so the encoded bytes are never materialized
+ * as a whole array
+ */
+final class CharSequenceInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private boolean isEncoded = false;
+    private boolean isFlushed = false;
+
+    CharSequenceInputStream(CharSequence text, Charset charset) {
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.wrap(text);
+        this.bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        this.bytes.flip();
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return bytes.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, bytes.remaining());
+        bytes.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return bytes.remaining();
+    }
+
+    private boolean fill() {
+        while (!bytes.hasRemaining()) {
+            if (isFlushed) {
+                return false;
+            }
+
+            bytes.compact();
+            if (!isEncoded) {
+                encoder.encode(chars, bytes, true);
+                isEncoded = !chars.hasRemaining();
+            }
+            if (isEncoded) {
+                isFlushed = encoder.flush(bytes).isUnderflow();
+            }
+            bytes.flip();
+        }
+        return true;
+    }
+}
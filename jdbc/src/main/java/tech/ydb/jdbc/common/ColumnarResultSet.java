@@ -0,0 +1,807 @@
+package tech.ydb.jdbc.common;
+
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.DecimalValue;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Read-only result set which keeps all values in compact columnar form. Every column is decoded once from
+ * the source reader into primitive arrays (numbers, dates and intervals), dictionary encoded strings or byte
+ * arrays, optional values are tracked by null bitmap. Random access to any row costs only an array lookup.
+ */
+public class ColumnarResultSet implements ResultSetReader {
+    private final boolean isTruncated;
+    private final int rowCount;
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    private final Column[] columns;
+    private final ColumnValueReader[] readers;
+
+    private int nextRow = 0;
+    private int currentRow = -1;
+
+    private ColumnarResultSet(ResultSetReader source, Column[] columns) {
+        this.isTruncated = source.isTruncated();
+        this.rowCount = source.getRowCount();
+        this.columns = columns;
+        this.names = new String[columns.length];
+        this.indexes = new HashMap<>();
+        this.readers = new ColumnValueReader[columns.length];
+        for (int idx = 0; idx < columns.length; idx += 1) {
+            names[idx] = source.getColumnName(idx);
+            indexes.put(names[idx], idx);
+            readers[idx] = new ColumnValueReader(columns[idx]);
+        }
+    }
+
+    private ColumnarResultSet(ColumnarResultSet origin) {
+        this.isTruncated = origin.isTruncated;
+        this.rowCount = origin.rowCount;
+        this.columns = origin.columns;
+        this.names = origin.names;
+        this.indexes = origin.indexes;
+        this.readers = new ColumnValueReader[columns.length];
+        for (int idx = 0; idx < columns.length; idx += 1) {
+            readers[idx] = new ColumnValueReader(columns[idx]);
+        }
+    }
+
+    /**
+     * Returns new result set with own cursor over the same columns. Columns are not modified after decoding, so
+     * copies may be read concurrently.
+     *
+     * @return copy of result set positioned before the first row
+     */
+    public ColumnarResultSet copy() {
+        return new ColumnarResultSet(this);
+    }
+
+    /**
+     * @return approximate count of bytes used by columns of result set
+     */
+    public long getMemorySize() {
+        long size = 0;
+        for (Column column: columns) {
+            size += column.memorySize();
+            if (column.nulls != null) {
+                size += column.nulls.size() / 8;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Decodes all rows of source result set into columnar buffer. If result set has a column with type which
+     * cannot be stored in columnar form (containers, decimals, timezone types), the source reader is returned as is.
+     * {@link SpilledResultSet} is returned as is too, decoding would load the spilled rows back into the heap.
+     *
+     * @param source result set reader to decode
+     * @return columnar copy of source result set or source itself
+     */
+    public static ResultSetReader decode(ResultSetReader source) {
+        if (source instanceof ColumnarResultSet || source instanceof SpilledResultSet) {
+            return source;
+        }
+
+        int columnCount = source.getColumnCount();
+        PrimitiveType[] types = new PrimitiveType[columnCount];
+        for (int idx = 0; idx < columnCount; idx += 1) {
+            types[idx] = columnarType(source.getColumnType(idx));
+            if (types[idx] == null) {
+                return source;
+            }
+        }
+
+        int rowCount = source.getRowCount();
+        Column[] columns = new Column[columnCount];
+        for (int idx = 0; idx < columnCount; idx += 1) {
+            Type type = source.getColumnType(idx);
+            BitSet nulls = type.getKind() == Type.Kind.OPTIONAL ? new BitSet(rowCount) : null;
+            columns[idx] = createColumn(type, types[idx], nulls, rowCount);
+        }
+
+        for (int row = 0; row < rowCount; row += 1) {
+            source.setRowIndex(row);
+            for (int idx = 0; idx < columnCount; idx += 1) {
+                ValueReader value = source.getColumn(idx);
+                Column column = columns[idx];
+                if (column.nulls != null && !value.isOptionalItemPresent()) {
+                    column.nulls.set(row);
+                    continue;
+                }
+                column.read(row, value);
+            }
+        }
+
+        return new ColumnarResultSet(source, columns);
+    }
+
+    private static PrimitiveType columnarType(Type type) {
+        Type itemType = type;
+        if (type.getKind() == Type.Kind.OPTIONAL) {
+            itemType = ((OptionalType) type).getItemType();
+        }
+        if (itemType.getKind() != Type.Kind.PRIMITIVE) {
+            return null;
+        }
+
+        PrimitiveType id = (PrimitiveType) itemType;
+        switch (id) {
+            case TzDate:
+            case TzDatetime:
+            case TzTimestamp:
+            case DyNumber:
+                return null;
+            default:
+                return id;
+        }
+    }
+
+    private static Column createColumn(Type type, PrimitiveType id, BitSet nulls, int rowCount) {
+        switch (id) {
+            case Float:
+            case Double:
+                return new DoubleColumn(type, id, nulls, rowCount);
+            case Text:
+            case Json:
+            case JsonDocument:
+                return new TextColumn(type, id, nulls, rowCount);
+            case Bytes:
+            case Yson:
+                return new BytesColumn(type, id, nulls, rowCount);
+            case Uuid:
+                return new UuidColumn(type, id, nulls, rowCount);
+            default:
+                return new LongColumn(type, id, nulls, rowCount);
+        }
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return isTruncated;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void setRowIndex(int index) {
+        if (index < 0 || index >= rowCount) {
+            currentRow = -1;
+        } else {
+            nextRow = index;
+            currentRow = index;
+        }
+    }
+
+    @Override
+    public boolean next() {
+        if (nextRow >= rowCount) {
+            currentRow = -1;
+            return false;
+        }
+        currentRow = nextRow++;
+        return true;
+    }
+
+    @Override
+    public String getColumnName(int index) {
+        return names[index];
+    }
+
+    @Override
+    public int getColumnIndex(String name) {
+        Integer index = indexes.get(name);
+        return index != null ? index : -1;
+    }
+
+    @Override
+    public ValueReader getColumn(int index) {
+        if (currentRow < 0) {
+            throw new IllegalStateException("Result set cursor is not positioned on a row");
+        }
+        ColumnValueReader reader = readers[index];
+        reader.row = currentRow;
+        return reader;
+    }
+
+    @Override
+    public ValueReader getColumn(String name) {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("unknown column '" + name + "'");
+        }
+        return getColumn(index);
+    }
+
+    @Override
+    public Type getColumnType(int index) {
+        return columns[index].type;
+    }
+
+    private abstract static class Column {
+        private final Type type;
+        private final PrimitiveType id;
+        private final BitSet nulls;
+
+        Column(Type type, PrimitiveType id, BitSet nulls) {
+            this.type = type;
+            this.id = id;
+            this.nulls = nulls;
+        }
+
+        PrimitiveType id() {
+            return id;
+        }
+
+        boolean isNull(int row) {
+            return nulls != null && nulls.get(row);
+        }
+
+        abstract void read(int row, ValueReader value);
+
+        abstract PrimitiveValue value(int row);
+
+        abstract long memorySize();
+    }
+
+    private static class LongColumn extends Column {
+        private final long[] values;
+
+        LongColumn(Type type, PrimitiveType id, BitSet nulls, int rowCount) {
+            super(type, id, nulls);
+            this.values = new long[rowCount];
+        }
+
+        @Override
+        void read(int row, ValueReader value) {
+            values[row] = readLong(value);
+        }
+
+        private long readLong(ValueReader value) {
+            switch (id()) {
+                case Bool:
+                    return value.getBool() ? 1 : 0;
+                case Int8:
+                    return value.getInt8();
+                case Uint8:
+                    return value.getUint8();
+                case Int16:
+                    return value.getInt16();
+                case Uint16:
+                    return value.getUint16();
+                case Int32:
+                    return value.getInt32();
+                case Uint32:
+                    return value.getUint32();
+                case Int64:
+                    return value.getInt64();
+                case Uint64:
+                    return value.getUint64();
+                case Date:
+                    return value.getDate().toEpochDay();
+                case Datetime:
+                    return value.getDatetime().toEpochSecond(ZoneOffset.UTC);
+                case Timestamp:
+                    Instant instant = value.getTimestamp();
+                    return TimeUnit.SECONDS.toMicros(instant.getEpochSecond())
+                            + TimeUnit.NANOSECONDS.toMicros(instant.getNano());
+                case Interval:
+                    return TimeUnit.NANOSECONDS.toMicros(value.getInterval().toNanos());
+                default:
+                    throw new IllegalStateException("Unsupported columnar type " + id());
+            }
+        }
+
+        @Override
+        PrimitiveValue value(int row) {
+            long v = values[row];
+            switch (id()) {
+                case Bool:
+                    return PrimitiveValue.newBool(v != 0);
+                case Int8:
+                    return PrimitiveValue.newInt8((byte) v);
+                case Uint8:
+                    return PrimitiveValue.newUint8((int) v);
+                case Int16:
+                    return PrimitiveValue.newInt16((short) v);
+                case Uint16:
+                    return PrimitiveValue.newUint16((int) v);
+                case Int32:
+                    return PrimitiveValue.newInt32((int) v);
+                case Uint32:
+                    return PrimitiveValue.newUint32(v);
+                case Int64:
+                    return PrimitiveValue.newInt64(v);
+                case Uint64:
+                    return PrimitiveValue.newUint64(v);
+                case Date:
+                    return PrimitiveValue.newDate(v);
+                case Datetime:
+                    return PrimitiveValue.newDatetime(v);
+                case Timestamp:
+                    return PrimitiveValue.newTimestamp(v);
+                case Interval:
+                    return PrimitiveValue.newInterval(v);
+                default:
+                    throw new IllegalStateException("Unsupported columnar type " + id());
+            }
+        }
+
+        @Override
+        long memorySize() {
+            return 8L * values.length;
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private final double[] values;
+
+        DoubleColumn(Type type, PrimitiveType id, BitSet nulls, int rowCount) {
+            super(type, id, nulls);
+            this.values = new double[rowCount];
+        }
+
+        @Override
+        void read(int row, ValueReader value) {
+            values[row] = id() == PrimitiveType.Float ? value.getFloat() : value.getDouble();
+        }
+
+        @Override
+        PrimitiveValue value(int row) {
+            if (id() == PrimitiveType.Float) {
+                return PrimitiveValue.newFloat((float) values[row]);
+            }
+            return PrimitiveValue.newDouble(values[row]);
+        }
+
+        @Override
+        long memorySize() {
+            return 8L * values.length;
+        }
+    }
+
+    private static class TextColumn extends Column {
+        private final int[] codes;
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+
+        TextColumn(Type type, PrimitiveType id, BitSet nulls, int rowCount) {
+            super(type, id, nulls);
+            this.codes = new int[rowCount];
+        }
+
+        @Override
+        void read(int row, ValueReader value) {
+            String text;
+            switch (id()) {
+                case Json:
+                    text = value.getJson();
+                    break;
+                case JsonDocument:
+                    text = value.getJsonDocument();
+                    break;
+                case Text:
+                default:
+                    text = value.getText();
+                    break;
+            }
+
+            Integer code = dictionaryCodes.get(text);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(text);
+                dictionaryCodes.put(text, code);
+            }
+            codes[row] = code;
+        }
+
+        String text(int row) {
+            return dictionary.get(codes[row]);
+        }
+
+        @Override
+        PrimitiveValue value(int row) {
+            switch (id()) {
+                case Json:
+                    return PrimitiveValue.newJson(text(row));
+                case JsonDocument:
+                    return PrimitiveValue.newJsonDocument(text(row));
+                case Text:
+                default:
+                    return PrimitiveValue.newText(text(row));
+            }
+        }
+
+        @Override
+        long memorySize() {
+            long size = 4L * codes.length;
+            for (String text: dictionary) {
+                // chars, string header and entry of dictionary map
+                size += 2L * text.length() + 64;
+            }
+            return size;
+        }
+    }
+
+    private static class BytesColumn extends Column {
+        private final byte[][] values;
+
+        BytesColumn(Type type, PrimitiveType id, BitSet nulls, int rowCount) {
+            super(type, id, nulls);
+            this.values = new byte[rowCount][];
+        }
+
+        @Override
+        void read(int row, ValueReader value) {
+            values[row] = id() == PrimitiveType.Yson ? value.getYson() : value.getBytes();
+        }
+
+        byte[] bytes(int row) {
+            byte[] bytes = values[row];
+            return bytes != null ? bytes.clone() : new byte[0];
+        }
+
+        @Override
+        PrimitiveValue value(int row) {
+            if (id() == PrimitiveType.Yson) {
+                return PrimitiveValue.newYson(bytes(row));
+            }
+            return PrimitiveValue.newBytesOwn(bytes(row));
+        }
+
+        @Override
+        long memorySize() {
+            long size = 8L * values.length;
+            for (byte[] bytes: values) {
+                if (bytes != null) {
+                    size += bytes.length + 16;
+                }
+            }
+            return size;
+        }
+    }
+
+    private static class UuidColumn extends Column {
+        private final long[] high;
+        private final long[] low;
+
+        UuidColumn(Type type, PrimitiveType id, BitSet nulls, int rowCount) {
+            super(type, id, nulls);
+            this.high = new long[rowCount];
+            this.low = new long[rowCount];
+        }
+
+        @Override
+        void read(int row, ValueReader value) {
+            UUID uuid = value.getUuid();
+            high[row] = uuid.getMostSignificantBits();
+            low[row] = uuid.getLeastSignificantBits();
+        }
+
+        UUID uuid(int row) {
+            return new UUID(high[row], low[row]);
+        }
+
+        @Override
+        PrimitiveValue value(int row) {
+            return PrimitiveValue.newUuid(uuid(row));
+        }
+
+        @Override
+        long memorySize() {
+            return 16L * high.length;
+        }
+    }
+
+    private static class ColumnValueReader implements ValueReader {
+        private final Column column;
+        private int row = -1;
+
+        ColumnValueReader(Column column) {
+            this.column = column;
+        }
+
+        private IllegalStateException error(String method) {
+            return new IllegalStateException("cannot call " + method + ", actual type: " + column.type);
+        }
+
+        private long longValue(PrimitiveType expected, String method) {
+            if (column.id != expected || !(column instanceof LongColumn)) {
+                throw error(method);
+            }
+            return ((LongColumn) column).values[row];
+        }
+
+        @Override
+        public boolean getBool() {
+            return longValue(PrimitiveType.Bool, "getBool") != 0;
+        }
+
+        @Override
+        public byte getInt8() {
+            return (byte) longValue(PrimitiveType.Int8, "getInt8");
+        }
+
+        @Override
+        public int getUint8() {
+            return (int) longValue(PrimitiveType.Uint8, "getUint8");
+        }
+
+        @Override
+        public short getInt16() {
+            return (short) longValue(PrimitiveType.Int16, "getInt16");
+        }
+
+        @Override
+        public int getUint16() {
+            return (int) longValue(PrimitiveType.Uint16, "getUint16");
+        }
+
+        @Override
+        public int getInt32() {
+            return (int) longValue(PrimitiveType.Int32, "getInt32");
+        }
+
+        @Override
+        public long getUint32() {
+            return longValue(PrimitiveType.Uint32, "getUint32");
+        }
+
+        @Override
+        public long getInt64() {
+            return longValue(PrimitiveType.Int64, "getInt64");
+        }
+
+        @Override
+        public long getUint64() {
+            return longValue(PrimitiveType.Uint64, "getUint64");
+        }
+
+        @Override
+        public float getFloat() {
+            if (column.id != PrimitiveType.Float) {
+                throw error("getFloat");
+            }
+            return (float) ((DoubleColumn) column).values[row];
+        }
+
+        @Override
+        public double getDouble() {
+            if (column.id != PrimitiveType.Double) {
+                throw error("getDouble");
+            }
+            return ((DoubleColumn) column).values[row];
+        }
+
+        @Override
+        public LocalDate getDate() {
+            return LocalDate.ofEpochDay(longValue(PrimitiveType.Date, "getDate"));
+        }
+
+        @Override
+        public LocalDateTime getDatetime() {
+            return LocalDateTime.ofEpochSecond(longValue(PrimitiveType.Datetime, "getDatetime"), 0, ZoneOffset.UTC);
+        }
+
+        @Override
+        public Instant getTimestamp() {
+            long micros = longValue(PrimitiveType.Timestamp, "getTimestamp");
+            long seconds = Math.floorDiv(micros, 1000000L);
+            long nanos = TimeUnit.MICROSECONDS.toNanos(Math.floorMod(micros, 1000000L));
+            return Instant.ofEpochSecond(seconds, nanos);
+        }
+
+        @Override
+        public Duration getInterval() {
+            return Duration.of(longValue(PrimitiveType.Interval, "getInterval"), ChronoUnit.MICROS);
+        }
+
+        @Override
+        public ZonedDateTime getTzDate() {
+            throw error("getTzDate");
+        }
+
+        @Override
+        public ZonedDateTime getTzDatetime() {
+            throw error("getTzDatetime");
+        }
+
+        @Override
+        public ZonedDateTime getTzTimestamp() {
+            throw error("getTzTimestamp");
+        }
+
+        @Override
+        public byte[] getBytes() {
+            if (column.id != PrimitiveType.Bytes) {
+                throw error("getBytes");
+            }
+            return ((BytesColumn) column).bytes(row);
+        }
+
+        @Override
+        public String getBytesAsString(Charset charset) {
+            if (column.id != PrimitiveType.Bytes) {
+                throw error("getBytesAsString");
+            }
+            byte[] bytes = ((BytesColumn) column).values[row];
+            return bytes != null ? new String(bytes, charset) : "";
+        }
+
+        @Override
+        public UUID getUuid() {
+            if (column.id != PrimitiveType.Uuid) {
+                throw error("getUuid");
+            }
+            return ((UuidColumn) column).uuid(row);
+        }
+
+        @Override
+        public String getText() {
+            if (column.id != PrimitiveType.Text) {
+                throw error("getText");
+            }
+            return ((TextColumn) column).text(row);
+        }
+
+        @Override
+        public byte[] getYson() {
+            if (column.id != PrimitiveType.Yson) {
+                throw error("getYson");
+            }
+            return ((BytesColumn) column).bytes(row);
+        }
+
+        @Override
+        public String getJson() {
+            if (column.id != PrimitiveType.Json) {
+                throw error("getJson");
+            }
+            return ((TextColumn) column).text(row);
+        }
+
+        @Override
+        public String getJsonDocument() {
+            if (column.id != PrimitiveType.JsonDocument) {
+                throw error("getJsonDocument");
+            }
+            return ((TextColumn) column).text(row);
+        }
+
+        @Override
+        public DecimalValue getDecimal() {
+            throw error("getDecimal");
+        }
+
+        @Override
+        public Value<?> getValue() {
+            if (column.nulls == null) {
+                return column.value(row);
+            }
+            if (column.isNull(row)) {
+                return ((OptionalType) column.type).emptyValue();
+            }
+            return column.value(row).makeOptional();
+        }
+
+        @Override
+        public Type getType() {
+            return column.type;
+        }
+
+        @Override
+        public boolean isOptionalItemPresent() {
+            if (column.nulls == null) {
+                throw error("isOptionalItemPresent");
+            }
+            return !column.isNull(row);
+        }
+
+        @Override
+        public ValueReader getOptionalItem() {
+            if (column.nulls == null) {
+                throw error("getOptionalItem");
+            }
+            return this;
+        }
+
+        @Override
+        public void toString(StringBuilder sb) {
+            sb.append(getValue());
+        }
+
+        @Override
+        public int getTupleElementsCount() {
+            throw error("getTupleElementsCount");
+        }
+
+        @Override
+        public ValueReader getTupleElement(int index) {
+            throw error("getTupleElement");
+        }
+
+        @Override
+        public int getListItemsCount() {
+            throw error("getListItemsCount");
+        }
+
+        @Override
+        public ValueReader getListItem(int index) {
+            throw error("getListItem");
+        }
+
+        @Override
+        public int getDictItemsCount() {
+            throw error("getDictItemsCount");
+        }
+
+        @Override
+        public ValueReader getDictKey(int index) {
+            throw error("getDictKey");
+        }
+
+        @Override
+        public ValueReader getDictValue(int index) {
+            throw error("getDictValue");
+        }
+
+        @Override
+        public int getStructMembersCount() {
+            throw error("getStructMembersCount");
+        }
+
+        @Override
+        public String getStructMemberName(int index) {
+            throw error("getStructMemberName");
+        }
+
+        @Override
+        public ValueReader getStructMember(int index) {
+            throw error("getStructMember");
+        }
+
+        @Override
+        public ValueReader getStructMember(String name) {
+            throw error("getStructMember");
+        }
+
+        @Override
+        public int getVariantTypeIndex() {
+            throw error("getVariantTypeIndex");
+        }
+
+        @Override
+        public ValueReader getVariantItem() {
+            throw error("getVariantItem");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package tech.ydb.jdbc.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader of RFC 4180 CSV records. Quoted fields may contain separators, quotes and line breaks. Unquoted
+ * empty field is returned as {@code null}, quoted empty field is returned as empty string.
+ */
+public class CsvReader {
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber = 0;
+    private long recordLine = 0;
+    private int lookahead = EOF;
+    private boolean hasLookahead = false;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * @return number of the line where the last read record started
+     */
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    /**
+     * Reads next record
+     *
+     * @return fields of record or {@code null} if the end of stream is reached
+     * @throws IOException if reader cannot be read or record is malformed
+     */
+    public String[] readRecord() throws IOException {
+        int ch = next();
+        if (ch == EOF) {
+            return null;
+        }
+
+        lineNumber++;
+        recordLine = lineNumber;
+        List<String> fields = new ArrayList<>();
+        while (true) {
+            boolean isQuoted = ch == '"';
+            field.setLength(0);
+            ch = isQuoted ? readQuoted() : readUnquoted(ch);
+            fields.add(isQuoted || field.length() > 0 ? field.toString() : null);
+
+            if (ch == ',') {
+                ch = next();
+                continue;
+            }
+            if (ch == '\r') {
+                ch = next();
+                if (ch != '\n') {
+                    pushBack(ch);
+                }
+            }
+            return fields.toArray(new String[0]);
+        }
+    }
+
+    private int readUnquoted(int first) throws IOException {
+        int ch = first;
+        while (ch != EOF && ch != ',' && ch != '\r' && ch != '\n') {
+            if (ch == '"') {
+                throw new IOException("Unexpected quote at line " + lineNumber);
+            }
+            field.append((char) ch);
+            ch = next();
+        }
+        return ch;
+    }
+
+    private int readQuoted() throws IOException {
+        while (true) {
+            int ch = next();
+            if (ch == EOF) {
+                throw new IOException("Unterminated quoted field at line " + lineNumber);
+            }
+            if (ch == '"') {
+                ch = next();
+                if (ch != '"') {
+                    if (ch != EOF && ch != ',' && ch != '\r' && ch != '\n') {
+                        throw new IOException("Unexpected character after quote at line " + lineNumber);
+                    }
+                    return ch;
+                }
+            }
+            if (ch == '\n') {
+                lineNumber++;
+            }
+            field.append((char) ch);
+        }
+    }
+
+    private int next() throws IOException {
+        if (hasLookahead) {
+            hasLookahead = false;
+            return lookahead;
+        }
+        return reader.read();
+    }
+
+    private void pushBack(int ch) {
+        lookahead = ch;
+        hasLookahead = true;
+    }
+}
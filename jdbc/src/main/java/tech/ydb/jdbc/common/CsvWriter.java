@@ -0,0 +1,85 @@
+package tech.ydb.jdbc.common;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+
+/**
+ * Writes result set as RFC 4180 CSV in UTF-8 with the header line. Values are formatted like
+ * {@link java.sql.ResultSet#getString(int) }, NULL values are written as empty fields.
+ */
+public class CsvWriter {
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private CsvWriter() { }
+
+    /**
+     * Writes first rows of result set to the stream in the CSV format. Position of the result set reader is changed
+     *
+     * @param rs result set reader
+     * @param rowCount count of rows to write
+     * @param out output stream, it is not closed after writing
+     * @throws IOException if stream cannot be written
+     * @throws SQLException if value cannot be converted
+     */
+    public static void write(ResultSetReader rs, int rowCount, OutputStream out) throws IOException, SQLException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        int columnCount = rs.getColumnCount();
+        TypeDescription[] types = new TypeDescription[columnCount];
+        for (int idx = 0; idx < columnCount; idx++) {
+            types[idx] = TypeDescription.of(rs.getColumnType(idx));
+            if (idx > 0) {
+                writer.write(',');
+            }
+            writeField(writer, rs.getColumnName(idx));
+        }
+        writer.write(LINE_SEPARATOR);
+
+        for (int row = 0; row < rowCount; row++) {
+            rs.setRowIndex(row);
+            for (int idx = 0; idx < columnCount; idx++) {
+                if (idx > 0) {
+                    writer.write(',');
+                }
+                ValueReader value = rs.getColumn(idx);
+                if (!types[idx].isOptional() || value.isOptionalItemPresent()) {
+                    writeField(writer, types[idx].getters().readString(value));
+                }
+            }
+            writer.write(LINE_SEPARATOR);
+        }
+
+        writer.flush();
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        boolean needQuotes = false;
+        for (int idx = 0; idx < value.length() && !needQuotes; idx++) {
+            char ch = value.charAt(idx);
+            needQuotes = ch == ',' || ch == '"' || ch == '\r' || ch == '\n';
+        }
+
+        if (!needQuotes) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int idx = 0; idx < value.length(); idx++) {
+            char ch = value.charAt(idx);
+            if (ch == '"') {
+                writer.write('"');
+            }
+            writer.write(ch);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,122 @@
+package tech.ydb.jdbc.common;
+
+import java.math.BigDecimal;
+
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.DecimalValue;
+
+/**
+ * Conversions of decimal values which use long arithmetic when the unscaled value fits into 64 bits. It's the usual
+ * case for Decimal(22,9) and decimals with small precision. All other values are converted by {@link DecimalValue}
+ * with the same results.
+ */
+public class DecimalCodec {
+    private static final long[] LONG_POW10 = new long[19];
+    // 1e22 is the maximal power of ten which is exactly representable as double, 1e10 - as float
+    private static final double[] DOUBLE_POW10 = new double[23];
+    private static final float[] FLOAT_POW10 = new float[11];
+
+    private static final long MAX_DOUBLE_EXACT = 1L << 53;
+    private static final long MAX_FLOAT_EXACT = 1L << 24;
+
+    static {
+        long value = 1;
+        for (int idx = 0; idx < LONG_POW10.length; idx++) {
+            LONG_POW10[idx] = value;
+            value *= 10;
+        }
+        for (int idx = 0; idx < DOUBLE_POW10.length; idx++) {
+            DOUBLE_POW10[idx] = Double.parseDouble("1e" + idx);
+        }
+        for (int idx = 0; idx < FLOAT_POW10.length; idx++) {
+            FLOAT_POW10[idx] = Float.parseFloat("1e" + idx);
+        }
+    }
+
+    private DecimalCodec() { }
+
+    /**
+     * @param value decimal value
+     * @return true if the 128-bit unscaled value fits into long, special values (inf, nan) never fit
+     */
+    static boolean isLong(DecimalValue value) {
+        long high = value.getHigh();
+        long low = value.getLow();
+        return (high == 0 && low >= 0) || (high == -1 && low < 0);
+    }
+
+    /**
+     * Integer part of value rounded half up, the same as {@link DecimalValue#toBigInteger() }
+     *
+     * @param value decimal value
+     * @return rounded value
+     */
+    public static long toLong(DecimalValue value) {
+        int scale = value.getType().getScale();
+        if (!isLong(value) || scale >= LONG_POW10.length) {
+            return value.toBigInteger().longValue();
+        }
+
+        long unscaled = value.getLow();
+        long divisor = LONG_POW10[scale];
+        long result = unscaled / divisor;
+        long remainder = unscaled % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            result += Long.signum(unscaled);
+        }
+        return result;
+    }
+
+    public static int toInt(DecimalValue value) {
+        return (int) toLong(value);
+    }
+
+    public static double toDouble(DecimalValue value) {
+        int scale = value.getType().getScale();
+        if (isLong(value) && scale < DOUBLE_POW10.length && Math.abs(value.getLow()) <= MAX_DOUBLE_EXACT) {
+            // both operands are exact, so the quotient is correctly rounded
+            return value.getLow() / DOUBLE_POW10[scale];
+        }
+        return value.toBigDecimal().doubleValue();
+    }
+
+    public static float toFloat(DecimalValue value) {
+        int scale = value.getType().getScale();
+        if (isLong(value) && scale < FLOAT_POW10.length && Math.abs(value.getLow()) <= MAX_FLOAT_EXACT) {
+            return value.getLow() / FLOAT_POW10[scale];
+        }
+        return value.toBigDecimal().floatValue();
+    }
+
+    public static BigDecimal toBigDecimal(DecimalValue value) {
+        if (isLong(value)) {
+            return BigDecimal.valueOf(value.getLow(), value.getType().getScale());
+        }
+        return value.toBigDecimal();
+    }
+
+    /**
+     * Creates decimal value without {@link java.math.BigInteger} when the value has not more digits after the point
+     * than the type and the unscaled value fits into long
+     *
+     * @param type decimal type
+     * @param value value
+     * @return decimal value, the same as {@link DecimalType#newValue(java.math.BigDecimal) }
+     */
+    public static DecimalValue fromBigDecimal(DecimalType type, BigDecimal value) {
+        int shift = type.getScale() - value.scale();
+        if (shift < 0 || shift >= LONG_POW10.length || value.precision() >= LONG_POW10.length) {
+            return type.newValue(value);
+        }
+
+        // scale of result is 0, so it's compact and longValue() doesn't inflate it
+        long unscaled = value.scaleByPowerOfTen(value.scale()).longValue();
+        long multiplier = LONG_POW10[shift];
+        if (Math.abs(unscaled) > Long.MAX_VALUE / multiplier) {
+            return type.newValue(value);
+        }
+
+        unscaled *= multiplier;
+        return type.newValue(unscaled < 0 ? -1 : 0, unscaled);
+    }
+}
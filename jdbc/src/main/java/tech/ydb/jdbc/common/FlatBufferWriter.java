@@ -0,0 +1,252 @@
+package tech.ydb.jdbc.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal FlatBuffers encoder, enough to write Arrow IPC metadata. Unlike the original builder it writes buffer
+ * from front to back: every object is written after its parent and the offsets are patched when the child is
+ * placed. Vtables are written directly before their tables and are not deduplicated.
+ */
+final class FlatBufferWriter {
+    private byte[] data = new byte[256];
+    private int size = 0;
+
+    /**
+     * Reserves the root offset, must be called first
+     *
+     * @return reference to resolve with the root table
+     */
+    int root() {
+        return reserveOffset();
+    }
+
+    Table table(int ref) {
+        return new Table(ref);
+    }
+
+    void string(int ref, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        align(4, 0);
+        resolve(ref);
+        writeInt(bytes.length);
+        ensureCapacity(bytes.length + 1);
+        System.arraycopy(bytes, 0, data, size, bytes.length);
+        size += bytes.length;
+        writeByte(0);
+    }
+
+    /**
+     * Writes vector of offsets to tables or strings
+     *
+     * @param ref reference to vector
+     * @param count count of elements
+     * @return references of elements
+     */
+    int[] vector(int ref, int count) {
+        align(4, 0);
+        resolve(ref);
+        writeInt(count);
+        int[] refs = new int[count];
+        for (int idx = 0; idx < count; idx++) {
+            refs[idx] = reserveOffset();
+        }
+        return refs;
+    }
+
+    /**
+     * Writes vector of structs, which consist of long fields only
+     *
+     * @param ref reference to vector
+     * @param fieldsCount count of fields in one struct
+     * @param values all fields of all structs
+     */
+    void structVector(int ref, int fieldsCount, long[] values) {
+        // elements must be aligned to 8 bytes, vector length precedes them
+        align(8, 4);
+        resolve(ref);
+        writeInt(values.length / fieldsCount);
+        for (long value: values) {
+            writeLong(value);
+        }
+    }
+
+    byte[] toByteArray(int alignment) {
+        align(alignment, 0);
+        return Arrays.copyOf(data, size);
+    }
+
+    private int reserveOffset() {
+        align(4, 0);
+        int pos = size;
+        writeInt(0);
+        return pos;
+    }
+
+    private void resolve(int ref) {
+        int offset = size - ref;
+        data[ref] = (byte) offset;
+        data[ref + 1] = (byte) (offset >>> 8);
+        data[ref + 2] = (byte) (offset >>> 16);
+        data[ref + 3] = (byte) (offset >>> 24);
+    }
+
+    private void align(int alignment, int shift) {
+        while (size % alignment != shift) {
+            writeByte(0);
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (size + count > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + count));
+        }
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        data[size++] = (byte) value;
+    }
+
+    private void writeShort(int value) {
+        writeByte(value);
+        writeByte(value >>> 8);
+    }
+
+    private void writeInt(int value) {
+        writeShort(value);
+        writeShort(value >>> 16);
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) value);
+        writeInt((int) (value >>> 32));
+    }
+
+    private static final class Field {
+        private final int slot;
+        private final int size;
+        private final long value;
+        private final boolean isOffset;
+        private int position = 0;
+
+        Field(int slot, int size, long value, boolean isOffset) {
+            this.slot = slot;
+            this.size = size;
+            this.value = value;
+            this.isOffset = isOffset;
+        }
+    }
+
+    final class Table {
+        private final int ref;
+        private final List<Field> fields = new ArrayList<>();
+
+        private Table(int ref) {
+            this.ref = ref;
+        }
+
+        Table addLong(int slot, long value) {
+            fields.add(new Field(slot, 8, value, false));
+            return this;
+        }
+
+        Table addInt(int slot, int value) {
+            fields.add(new Field(slot, 4, value, false));
+            return this;
+        }
+
+        Table addShort(int slot, int value) {
+            fields.add(new Field(slot, 2, value, false));
+            return this;
+        }
+
+        Table addByte(int slot, int value) {
+            fields.add(new Field(slot, 1, value, false));
+            return this;
+        }
+
+        Table addBool(int slot, boolean value) {
+            return addByte(slot, value ? 1 : 0);
+        }
+
+        Table addOffset(int slot) {
+            fields.add(new Field(slot, 4, 0, true));
+            return this;
+        }
+
+        /**
+         * Writes vtable and table
+         *
+         * @return references of offset fields in order of addition
+         */
+        int[] end() {
+            int slotsCount = 0;
+            for (Field field: fields) {
+                slotsCount = Math.max(slotsCount, field.slot + 1);
+            }
+
+            // the largest fields go first, so all fields are naturally aligned
+            List<Field> layout = new ArrayList<>(fields);
+            layout.sort((f1, f2) -> Integer.compare(f2.size, f1.size));
+
+            int[] slotOffsets = new int[slotsCount];
+            int inlineSize = 4; // soffset to vtable
+            for (Field field: layout) {
+                inlineSize = (inlineSize + field.size - 1) / field.size * field.size;
+                field.position = inlineSize;
+                slotOffsets[field.slot] = inlineSize;
+                inlineSize += field.size;
+            }
+
+            align(2, 0);
+            int vtable = size;
+            writeShort(4 + 2 * slotsCount);
+            writeShort(inlineSize);
+            for (int offset: slotOffsets) {
+                writeShort(offset);
+            }
+
+            align(8, 0);
+            int table = size;
+            if (ref >= 0) {
+                resolve(ref);
+            }
+            writeInt(table - vtable);
+
+            for (Field field: layout) {
+                while (size - table < field.position) {
+                    writeByte(0);
+                }
+                field.position = size;
+                switch (field.size) {
+                    case 8:
+                        writeLong(field.value);
+                        break;
+                    case 4:
+                        writeInt((int) field.value);
+                        break;
+                    case 2:
+                        writeShort((int) field.value);
+                        break;
+                    default:
+                        writeByte((int) field.value);
+                        break;
+                }
+            }
+            while (size - table < inlineSize) {
+                writeByte(0);
+            }
+
+            List<Integer> refs = new ArrayList<>();
+            for (Field field: fields) {
+                if (field.isOffset) {
+                    refs.add(field.position);
+                }
+            }
+            return refs.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -1,26 +1,35 @@
 package tech.ydb.jdbc.common;
 
-import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import com.google.protobuf.ByteString;
+
 import tech.ydb.jdbc.impl.YdbTypesImpl;
 import tech.ydb.table.result.PrimitiveReader;
 import tech.ydb.table.result.ValueReader;
 import tech.ydb.table.values.DecimalValue;
 import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 
@@ -53,6 +62,8 @@ import static tech.ydb.table.values.PrimitiveType.Yson;
 import static tech.ydb.table.values.Type.Kind.PRIMITIVE;
 
 public class MappingGetters {
+    private static final long SECONDS_PER_DAY = TimeUnit.DAYS.toSeconds(1);
+
     private MappingGetters() { }
 
     static Getters buildGetters(Type type) {
@@ -76,7 +87,9 @@ public class MappingGetters {
                         valueToNString(id),
                         valueToURL(id),
                         valueToBigDecimal(id),
-                        valueToReader(id)
+                        valueToReader(id),
+                        valueToStream(id),
+                        valueToClass(id)
                 );
             case DECIMAL:
                 return new Getters(
@@ -84,17 +97,19 @@ public class MappingGetters {
                         castToBooleanNotSupported(clazz),
                         castToByteNotSupported(clazz),
                         castToShortNotSupported(clazz),
-                        value -> value.getDecimal().toBigInteger().intValue(),
-                        value -> value.getDecimal().toBigInteger().longValue(),
-                        value -> value.getDecimal().toBigDecimal().floatValue(),
-                        value -> value.getDecimal().toBigDecimal().doubleValue(),
+                        value -> DecimalCodec.toInt(value.getDecimal()),
+                        value -> DecimalCodec.toLong(value.getDecimal()),
+                        value -> DecimalCodec.toFloat(value.getDecimal()),
+                        value -> DecimalCodec.toDouble(value.getDecimal()),
                         castToBytesNotSupported(clazz),
                         PrimitiveReader::getDecimal,
                         castToDateMillisNotSupported(clazz),
                         castToNStringNotSupported(clazz),
                         castToUrlNotSupported(clazz),
-                        value -> value.getDecimal().toBigDecimal(),
-                        castToReaderNotSupported(clazz)
+                        value -> DecimalCodec.toBigDecimal(value.getDecimal()),
+                        castToReaderNotSupported(clazz),
+                        castToStreamNotSupported(clazz),
+                        Collections.emptyMap()
                 );
             default:
                 return new Getters(
@@ -112,7 +127,9 @@ public class MappingGetters {
                         castToNStringNotSupported(clazz),
                         castToUrlNotSupported(clazz),
                         castToBigDecimalNotSupported(clazz),
-                        castToReaderNotSupported(clazz)
+                        castToReaderNotSupported(clazz),
+                        castToStreamNotSupported(clazz),
+                        Collections.emptyMap()
                 );
         }
     }
@@ -541,7 +558,7 @@ public class MappingGetters {
     private static ValueToReader valueToReader(PrimitiveType id) {
         switch (id) {
             case Bytes:
-                return value -> new InputStreamReader(new ByteArrayInputStream(value.getBytes()));
+                return value -> new InputStreamReader(readByteString(value, id).newInput());
             case Text:
                 return value -> new StringReader(value.getText());
             case Json:
@@ -549,7 +566,7 @@ public class MappingGetters {
             case JsonDocument:
                 return value -> new StringReader(value.getJsonDocument());
             case Yson:
-                return value -> new InputStreamReader(new ByteArrayInputStream(value.getYson()));
+                return value -> new InputStreamReader(readByteString(value, id).newInput());
             case Uuid:
                 return value -> new StringReader(value.getUuid().toString());
             default:
@@ -557,6 +574,36 @@ public class MappingGetters {
         }
     }
 
+    private static ValueToStream valueToStream(PrimitiveType id) {
+        switch (id) {
+            case Bytes:
+            case Yson:
+                return value -> readByteString(value, id).newInput();
+            case Text:
+                return value -> new CharSequenceInputStream(value.getText(), StandardCharsets.UTF_8);
+            case Json:
+                return value -> new CharSequenceInputStream(value.getJson(), StandardCharsets.UTF_8);
+            case JsonDocument:
+                return value -> new CharSequenceInputStream(value.getJsonDocument(), StandardCharsets.UTF_8);
+            case Uuid:
+                return value -> new CharSequenceInputStream(value.getUuid().toString(), StandardCharsets.UTF_8);
+            default:
+                return castToStreamNotSupported(id.name());
+        }
+    }
+
+    /**
+     * Returns binary content of the value without copying, PrimitiveReader#getBytes always returns a new array
+     */
+    private static ByteString readByteString(ValueReader reader, PrimitiveType id) {
+        Value<?> value = reader.getValue();
+        while (value.getType().getKind() == Type.Kind.OPTIONAL) {
+            value = value.asOptional().get();
+        }
+        PrimitiveValue primitive = (PrimitiveValue) value;
+        return id == Yson ? primitive.getYsonBytes() : primitive.getBytesAsByteString();
+    }
+
     private static SqlType buildPrimitiveType(int sqlType, PrimitiveType id) {
         switch (id) {
             case Text:
@@ -674,6 +721,65 @@ public class MappingGetters {
         }
     }
 
+    /**
+     * Conversions of primitive type to java.time classes and other typed objects. Every conversion reads wire
+     * representation of value directly, without intermediate java.sql objects or strings
+     */
+    private static Map<Class<?>, ValueToObject> valueToClass(PrimitiveType id) {
+        Map<Class<?>, ValueToObject> map = new HashMap<>();
+        switch (id) {
+            case Uuid:
+                map.put(UUID.class, PrimitiveReader::getUuid);
+                break;
+            case Interval:
+                map.put(Duration.class, PrimitiveReader::getInterval);
+                break;
+            case Date:
+                map.put(LocalDate.class, PrimitiveReader::getDate);
+                map.put(LocalDateTime.class, value -> value.getDate().atStartOfDay());
+                map.put(Instant.class, value -> Instant.ofEpochSecond(value.getDate().toEpochDay() * SECONDS_PER_DAY));
+                map.put(OffsetDateTime.class, value -> value.getDate().atStartOfDay().atOffset(ZoneOffset.UTC));
+                break;
+            case Datetime:
+                map.put(LocalDate.class, value -> value.getDatetime().toLocalDate());
+                map.put(LocalDateTime.class, PrimitiveReader::getDatetime);
+                map.put(Instant.class, value -> value.getDatetime().toInstant(ZoneOffset.UTC));
+                map.put(OffsetDateTime.class, value -> value.getDatetime().atOffset(ZoneOffset.UTC));
+                break;
+            case Timestamp:
+                map.put(LocalDate.class, value -> LocalDate.ofEpochDay(
+                        Math.floorDiv(value.getTimestamp().getEpochSecond(), SECONDS_PER_DAY)
+                ));
+                map.put(LocalDateTime.class, value -> {
+                    Instant instant = value.getTimestamp();
+                    return LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), ZoneOffset.UTC);
+                });
+                map.put(Instant.class, PrimitiveReader::getTimestamp);
+                map.put(OffsetDateTime.class, value -> value.getTimestamp().atOffset(ZoneOffset.UTC));
+                break;
+            case TzDate:
+                putZonedConversions(map, PrimitiveReader::getTzDate);
+                break;
+            case TzDatetime:
+                putZonedConversions(map, PrimitiveReader::getTzDatetime);
+                break;
+            case TzTimestamp:
+                putZonedConversions(map, PrimitiveReader::getTzTimestamp);
+                break;
+            default:
+                break;
+        }
+        return map;
+    }
+
+    private static void putZonedConversions(Map<Class<?>, ValueToObject> map, ValueToZoned reader) {
+        map.put(ZonedDateTime.class, reader::fromValue);
+        map.put(LocalDate.class, value -> reader.fromValue(value).toLocalDate());
+        map.put(LocalDateTime.class, value -> reader.fromValue(value).toLocalDateTime());
+        map.put(Instant.class, value -> reader.fromValue(value).toInstant());
+        map.put(OffsetDateTime.class, value -> reader.fromValue(value).toOffsetDateTime());
+    }
+
     private static SQLException cannotConvert(PrimitiveType type, Class<?> javaType, Object value) {
         return new SQLException(String.format(UNABLE_TO_CONVERT, type, value, javaType));
     }
@@ -760,6 +866,12 @@ public class MappingGetters {
         };
     }
 
+    private static ValueToStream castToStreamNotSupported(String type) {
+        return value -> {
+            throw new SQLException(String.format(UNABLE_TO_CAST, type, InputStream.class));
+        };
+    }
+
     public static class Getters {
         private final ValueToString toString;
         private final ValueToBoolean toBoolean;
@@ -776,6 +888,8 @@ public class MappingGetters {
         private final ValueToURL toURL;
         private final ValueToBigDecimal toBigDecimal;
         private final ValueToReader toReader;
+        private final ValueToStream toStream;
+        private final Map<Class<?>, ValueToObject> toClass;
 
         @SuppressWarnings("ParameterNumber")
         Getters(ValueToString toString,
@@ -792,7 +906,9 @@ public class MappingGetters {
                 ValueToNString toNString,
                 ValueToURL toURL,
                 ValueToBigDecimal toBigDecimal,
-                ValueToReader toReader) {
+                ValueToReader toReader,
+                ValueToStream toStream,
+                Map<Class<?>, ValueToObject> toClass) {
             this.toString = toString;
             this.toBoolean = toBoolean;
             this.toByte = toByte;
@@ -808,6 +924,21 @@ public class MappingGetters {
             this.toURL = toURL;
             this.toBigDecimal = toBigDecimal;
             this.toReader = toReader;
+            this.toStream = toStream;
+
+            Map<Class<?>, ValueToObject> classes = new HashMap<>(toClass);
+            classes.put(Object.class, toObject);
+            classes.put(String.class, toString::fromValue);
+            classes.put(Boolean.class, toBoolean::fromValue);
+            classes.put(Byte.class, toByte::fromValue);
+            classes.put(Short.class, toShort::fromValue);
+            classes.put(Integer.class, toInt::fromValue);
+            classes.put(Long.class, toLong::fromValue);
+            classes.put(Float.class, toFloat::fromValue);
+            classes.put(Double.class, toDouble::fromValue);
+            classes.put(BigDecimal.class, toBigDecimal::fromValue);
+            classes.put(byte[].class, toBytes::fromValue);
+            this.toClass = classes;
         }
 
         public String readString(ValueReader reader) throws SQLException {
@@ -869,6 +1000,27 @@ public class MappingGetters {
         public Reader readReader(ValueReader reader) throws SQLException {
             return toReader.fromValue(reader);
         }
+
+        public InputStream readStream(ValueReader reader) throws SQLException {
+            return toStream.fromValue(reader);
+        }
+
+        public <T> T readObject(ValueReader reader, Class<T> type) throws SQLException {
+            ValueToObject converter = toClass.get(type);
+            if (converter != null) {
+                return type.cast(converter.fromValue(reader));
+            }
+
+            Object value = toObject.fromValue(reader);
+            if (type.isInstance(value)) {
+                return type.cast(value);
+            }
+            Type ydbType = reader.getType();
+            if (ydbType.getKind() == Type.Kind.OPTIONAL) {
+                ydbType = ydbType.unwrapOptional();
+            }
+            throw new SQLException(String.format(UNABLE_TO_CAST, ydbType, type));
+        }
     }
 
     private interface ValueToString {
@@ -911,6 +1063,10 @@ public class MappingGetters {
         Object fromValue(ValueReader reader) throws SQLException;
     }
 
+    private interface ValueToZoned {
+        ZonedDateTime fromValue(ValueReader reader) throws SQLException;
+    }
+
     private interface ValueToDateMillis {
         long fromValue(ValueReader reader) throws SQLException;
     }
@@ -931,6 +1087,10 @@ public class MappingGetters {
         Reader fromValue(ValueReader reader) throws SQLException;
     }
 
+    private interface ValueToStream {
+        InputStream fromValue(ValueReader reader) throws SQLException;
+    }
+
     //
 
     public static class SqlType {
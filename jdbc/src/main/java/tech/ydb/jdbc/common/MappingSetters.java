@@ -2,9 +2,12 @@ package tech.ydb.jdbc.common;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Duration;
@@ -13,14 +16,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 
 import tech.ydb.table.values.DecimalType;
 import tech.ydb.table.values.DecimalValue;
@@ -34,6 +41,9 @@ import tech.ydb.table.values.Value;
 
 import static tech.ydb.jdbc.YdbConst.CANNOT_LOAD_DATA_FROM_IS;
 import static tech.ydb.jdbc.YdbConst.CANNOT_LOAD_DATA_FROM_READER;
+import static tech.ydb.jdbc.YdbConst.MAX_STREAM_VALUE_SIZE;
+import static tech.ydb.jdbc.YdbConst.STREAM_BUFFER_SIZE;
+import static tech.ydb.jdbc.YdbConst.STREAM_VALUE_TOO_LARGE;
 import static tech.ydb.jdbc.YdbConst.UNABLE_TO_CAST;
 
 public class MappingSetters {
@@ -50,7 +60,7 @@ public class MappingSetters {
             PrimitiveType id = (PrimitiveType) type;
             switch (id) {
                 case Bytes:
-                    return x -> PrimitiveValue.newBytesOwn(castAsBytes(id, x));
+                    return x -> PrimitiveValue.newBytes(castAsBytes(id, x));
                 case Text:
                     return x -> PrimitiveValue.newText(castAsString(id, x));
                 case Json:
@@ -58,7 +68,7 @@ public class MappingSetters {
                 case JsonDocument:
                     return x -> PrimitiveValue.newJsonDocument(castAsJson(id, x));
                 case Yson:
-                    return x -> PrimitiveValue.newYsonOwn(castAsYson(id, x));
+                    return x -> PrimitiveValue.newYson(castAsYson(id, x));
                 case Uuid:
                     return x -> castAsUuid(id, x);
                 case Bool:
@@ -134,60 +144,88 @@ public class MappingSetters {
     }
 
     private static ListValue castAsList(ListType type, Setters itemSetter, Object x) throws SQLException {
-        if (x instanceof Collection<?>) {
-            Collection<?> values = (Collection<?>) x;
-            int len = values.size();
-            Value<?>[] result = new Value<?>[len];
-            int index = 0;
-            for (Object value : values) {
-                if (value != null) {
-                    if (value instanceof Value<?>) {
-                        result[index++] = (Value<?>) value;
-                    } else {
-                        result[index++] = itemSetter.toValue(value);
-                    }
+        Collection<?> values = castAsCollection(x);
+        if (values == null) {
+            throw castNotSupported(type.getKind(), x);
+        }
+
+        Type itemType = type.getItemType();
+        boolean isOptionalItem = itemType.getKind() == Type.Kind.OPTIONAL;
+        Value<?>[] result = new Value<?>[values.size()];
+        int index = 0;
+        for (Object value : values) {
+            if (value == null) {
+                if (isOptionalItem) {
+                    result[index++] = ((OptionalType) itemType).emptyValue();
                 }
+                continue;
             }
-            if (index < result.length) {
-                result = Arrays.copyOf(result, index); // Some values are null
+
+            Value<?> item = value instanceof Value<?> ? (Value<?>) value : itemSetter.toValue(value);
+            if (isOptionalItem && item.getType().getKind() != Type.Kind.OPTIONAL) {
+                item = item.makeOptional();
             }
-            return type.newValueOwn(result);
-        } else {
-            throw castNotSupported(type.getKind(), x);
+            result[index++] = item;
+        }
+        if (index < result.length) {
+            result = Arrays.copyOf(result, index); // Some values are null
+        }
+        return type.newValueOwn(result);
+    }
+
+    private static Collection<?> castAsCollection(Object x) throws SQLException {
+        if (x instanceof Collection<?>) {
+            return (Collection<?>) x;
+        }
+        if (x instanceof java.sql.Array) {
+            return castAsCollection(((java.sql.Array) x).getArray());
+        }
+        if (x instanceof Object[]) {
+            return Arrays.asList((Object[]) x);
+        }
+        if (x != null && x.getClass().isArray()) {
+            // arrays of primitives
+            int length = java.lang.reflect.Array.getLength(x);
+            List<Object> list = new ArrayList<>(length);
+            for (int idx = 0; idx < length; idx++) {
+                list.add(java.lang.reflect.Array.get(x, idx));
+            }
+            return list;
         }
+        return null;
     }
 
-    private static byte[] castAsBytes(PrimitiveType type, Object x) throws SQLException {
+    private static ByteString castAsBytes(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof byte[]) {
-            return (byte[]) x;
+            return UnsafeByteOperations.unsafeWrap((byte[]) x);
         } else if (x instanceof String) {
-            return ((String) x).getBytes();
+            return UnsafeByteOperations.unsafeWrap(((String) x).getBytes());
         } else if (x instanceof InputStream) {
-            return ByteStream.fromInputStream((InputStream) x, -1).asByteArray();
+            return ByteStream.fromInputStream((InputStream) x, -1).asByteString();
         } else if (x instanceof Reader) {
-            return CharStream.fromReader((Reader) x, -1).asString().getBytes();
+            return CharStream.fromReader((Reader) x, -1).asByteString();
         } else if (x instanceof ByteStream) {
-            return ((ByteStream) x).asByteArray();
+            return ((ByteStream) x).asByteString();
         } else if (x instanceof CharStream) {
-            return ((CharStream) x).asString().getBytes();
+            return ((CharStream) x).asByteString();
         } else {
-            return castAsString(type, x).getBytes();
+            return UnsafeByteOperations.unsafeWrap(castAsString(type, x).getBytes());
         }
     }
 
-    private static byte[] castAsYson(PrimitiveType type, Object x) throws SQLException {
+    private static ByteString castAsYson(PrimitiveType type, Object x) throws SQLException {
         if (x instanceof byte[]) {
-            return (byte[]) x;
+            return UnsafeByteOperations.unsafeWrap((byte[]) x);
         } else if (x instanceof String) {
-            return ((String) x).getBytes();
+            return UnsafeByteOperations.unsafeWrap(((String) x).getBytes());
         } else if (x instanceof InputStream) {
-            return ByteStream.fromInputStream((InputStream) x, -1).asByteArray();
+            return ByteStream.fromInputStream((InputStream) x, -1).asByteString();
         } else if (x instanceof Reader) {
-            return CharStream.fromReader((Reader) x, -1).asString().getBytes();
+            return CharStream.fromReader((Reader) x, -1).asByteString();
         } else if (x instanceof ByteStream) {
-            return ((ByteStream) x).asByteArray();
+            return ((ByteStream) x).asByteString();
         } else if (x instanceof CharStream) {
-            return ((CharStream) x).asString().getBytes();
+            return ((CharStream) x).asByteString();
         }
         throw castNotSupported(type, x);
     }
@@ -428,7 +466,7 @@ public class MappingSetters {
         if (x instanceof DecimalValue) {
             return (DecimalValue) x;
         } else if (x instanceof BigDecimal) {
-            return type.newValue((BigDecimal) x);
+            return DecimalCodec.fromBigDecimal(type, (BigDecimal) x);
         } else if (x instanceof BigInteger) {
             return type.newValue((BigInteger) x);
         } else if (x instanceof Long) {
@@ -449,38 +487,107 @@ public class MappingSetters {
         Value<?> toValue(Object value) throws SQLException;
     }
 
+    private static SQLException valueTooLarge() {
+        return new SQLException(String.format(STREAM_VALUE_TOO_LARGE, MAX_STREAM_VALUE_SIZE));
+    }
+
+    /**
+     * Character stream parameter. The reader is consumed only once, when the value is converted to the YDB value
+     */
     public interface CharStream {
         String asString() throws SQLException;
 
+        /**
+         * Encodes the reader content to UTF-8 directly into the protobuf {@link ByteString} without intermediate
+         * copy of the whole value
+         *
+         * @return UTF-8 encoded content of the reader
+         * @throws SQLException if reader cannot be read or its content exceeds the max size of the value
+         */
+        ByteString asByteString() throws SQLException;
+
         static CharStream fromReader(Reader reader, long length) {
-            return () -> {
-                try {
-                    if (length >= 0) {
-                        return CharStreams.toString(new LimitedReader(reader, length));
-                    } else {
-                        return CharStreams.toString(reader);
+            return new CharStream() {
+                @Override
+                public String asString() throws SQLException {
+                    if (length > MAX_STREAM_VALUE_SIZE) {
+                        throw valueTooLarge();
+                    }
+                    try {
+                        String value = CharStreams.toString(new LimitedReader(reader,
+                                length >= 0 ? length : MAX_STREAM_VALUE_SIZE + 1L));
+                        if (value.length() > MAX_STREAM_VALUE_SIZE) {
+                            throw valueTooLarge();
+                        }
+                        return value;
+                    } catch (IOException e) {
+                        throw new SQLException(CANNOT_LOAD_DATA_FROM_READER + e.getMessage(), e);
                     }
-                } catch (IOException e) {
-                    throw new RuntimeException(CANNOT_LOAD_DATA_FROM_READER + e.getMessage(), e);
+                }
+
+                @Override
+                public ByteString asByteString() throws SQLException {
+                    if (length > MAX_STREAM_VALUE_SIZE) {
+                        throw valueTooLarge();
+                    }
+                    Reader source = length >= 0 ? new LimitedReader(reader, length) : reader;
+                    ByteString.Output output = ByteString.newOutput(STREAM_BUFFER_SIZE);
+                    char[] buffer = new char[STREAM_BUFFER_SIZE / 4];
+                    try (Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+                        int count = source.read(buffer);
+                        while (count >= 0) {
+                            writer.write(buffer, 0, count);
+                            if (output.size() > MAX_STREAM_VALUE_SIZE) {
+                                throw valueTooLarge();
+                            }
+                            count = source.read(buffer);
+                        }
+                    } catch (IOException e) {
+                        throw new SQLException(CANNOT_LOAD_DATA_FROM_READER + e.getMessage(), e);
+                    }
+
+                    if (output.size() > MAX_STREAM_VALUE_SIZE) {
+                        throw valueTooLarge();
+                    }
+                    return output.toByteString();
                 }
             };
         }
     }
 
+    /**
+     * Binary stream parameter. The stream is consumed only once, when the value is converted to the YDB value
+     */
     public interface ByteStream {
-        byte[] asByteArray() throws SQLException;
+        /**
+         * Reads the stream directly into the protobuf {@link ByteString} by chunks, so the value is never copied
+         * as a whole
+         *
+         * @return content of the stream
+         * @throws SQLException if stream cannot be read or its content exceeds the max size of the value
+         */
+        ByteString asByteString() throws SQLException;
+
+        default byte[] asByteArray() throws SQLException {
+            return asByteString().toByteArray();
+        }
 
         @SuppressWarnings("UnstableApiUsage")
         static ByteStream fromInputStream(InputStream stream, long length) {
             return () -> {
+                if (length > MAX_STREAM_VALUE_SIZE) {
+                    throw valueTooLarge();
+                }
                 try {
-                    if (length >= 0) {
-                        return ByteStreams.toByteArray(ByteStreams.limit(stream, length));
-                    } else {
-                        return ByteStreams.toByteArray(stream);
+                    // read one byte over the limit to detect too large values without reading the whole stream
+                    long limit = length >= 0 ? length : MAX_STREAM_VALUE_SIZE + 1L;
+                    ByteString value = ByteString.readFrom(ByteStreams.limit(stream, limit), STREAM_BUFFER_SIZE);
+                    if (value.size() > MAX_STREAM_VALUE_SIZE) {
+                        throw valueTooLarge();
                     }
+                    return value;
                 } catch (IOException e) {
-                    throw new RuntimeException(CANNOT_LOAD_DATA_FROM_IS + e.getMessage(), e);
+                    throw new SQLException(CANNOT_LOAD_DATA_FROM_IS + e.getMessage(), e);
                 }
             };
         }
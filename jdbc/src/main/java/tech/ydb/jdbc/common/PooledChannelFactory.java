@@ -0,0 +1,253 @@
+package tech.ydb.jdbc.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import tech.ydb.core.impl.pool.DefaultChannelFactory;
+import tech.ydb.core.impl.pool.ManagedChannelFactory;
+
+/**
+ * Channel factory which opens several gRPC channels to every endpoint. Every call is sent to the channel with the
+ * least count of active calls, so concurrent streams of one endpoint are spread over several HTTP/2 connections.
+ */
+public class PooledChannelFactory implements ManagedChannelFactory {
+    private final ManagedChannelFactory factory;
+    private final int channelsCount;
+
+    public PooledChannelFactory(ManagedChannelFactory factory, int channelsCount) {
+        this.factory = factory;
+        this.channelsCount = channelsCount;
+    }
+
+    public static ManagedChannelFactory.Builder builder(int channelsCount) {
+        return transport -> new PooledChannelFactory(DefaultChannelFactory.build(transport), channelsCount);
+    }
+
+    @Override
+    public ManagedChannel newManagedChannel(String host, int port) {
+        ManagedChannel[] channels = new ManagedChannel[channelsCount];
+        for (int idx = 0; idx < channelsCount; idx++) {
+            channels[idx] = factory.newManagedChannel(host, port);
+        }
+        return new PooledChannel(channels);
+    }
+
+    @Override
+    public long getConnectTimeoutMs() {
+        return factory.getConnectTimeoutMs();
+    }
+
+    static class PooledChannel extends ManagedChannel {
+        private final ManagedChannel[] channels;
+        private final AtomicInteger[] activeCalls;
+
+        PooledChannel(ManagedChannel[] channels) {
+            this.channels = channels;
+            this.activeCalls = new AtomicInteger[channels.length];
+            for (int idx = 0; idx < channels.length; idx++) {
+                activeCalls[idx] = new AtomicInteger();
+            }
+        }
+
+        int getActiveCalls(int index) {
+            return activeCalls[index].get();
+        }
+
+        private int leastLoaded() {
+            // random start spreads calls between channels with equal load
+            int start = ThreadLocalRandom.current().nextInt(channels.length);
+            int best = start;
+            int bestCount = activeCalls[start].get();
+            for (int shift = 1; shift < channels.length && bestCount > 0; shift++) {
+                int idx = (start + shift) % channels.length;
+                int count = activeCalls[idx].get();
+                if (count < bestCount) {
+                    best = idx;
+                    bestCount = count;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method,
+                CallOptions options) {
+            int idx = leastLoaded();
+            activeCalls[idx].incrementAndGet();
+            return new CountedCall<>(channels[idx].newCall(method, options), activeCalls[idx]);
+        }
+
+        @Override
+        public String authority() {
+            return channels[0].authority();
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            for (ManagedChannel channel: channels) {
+                channel.shutdown();
+            }
+            return this;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            for (ManagedChannel channel: channels) {
+                channel.shutdownNow();
+            }
+            return this;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            for (ManagedChannel channel: channels) {
+                if (!channel.isShutdown()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            for (ManagedChannel channel: channels) {
+                if (!channel.isTerminated()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            for (ManagedChannel channel: channels) {
+                long left = deadline - System.nanoTime();
+                if (!channel.awaitTermination(Math.max(0, left), TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Pool is ready if at least one channel is ready
+         */
+        @Override
+        public ConnectivityState getState(boolean requestConnection) {
+            ConnectivityState best = ConnectivityState.SHUTDOWN;
+            for (ManagedChannel channel: channels) {
+                ConnectivityState state = channel.getState(requestConnection);
+                if (rank(state) < rank(best)) {
+                    best = state;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+            if (getState(false) != source) {
+                callback.run();
+                return;
+            }
+
+            AtomicBoolean isNotified = new AtomicBoolean(false);
+            Runnable once = () -> {
+                if (isNotified.compareAndSet(false, true)) {
+                    callback.run();
+                }
+            };
+            for (ManagedChannel channel: channels) {
+                channel.notifyWhenStateChanged(channel.getState(false), once);
+            }
+        }
+
+        @Override
+        public void resetConnectBackoff() {
+            for (ManagedChannel channel: channels) {
+                channel.resetConnectBackoff();
+            }
+        }
+
+        @Override
+        public void enterIdle() {
+            for (ManagedChannel channel: channels) {
+                channel.enterIdle();
+            }
+        }
+
+        private static int rank(ConnectivityState state) {
+            switch (state) {
+                case READY:
+                    return 0;
+                case CONNECTING:
+                    return 1;
+                case IDLE:
+                    return 2;
+                case TRANSIENT_FAILURE:
+                    return 3;
+                default:
+                    return 4;
+            }
+        }
+    }
+
+    /**
+     * Call which decrements the counter of active calls of its channel after completion
+     */
+    private static class CountedCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final AtomicInteger activeCalls;
+        private final AtomicBoolean isCompleted = new AtomicBoolean(false);
+        private volatile boolean isStarted = false;
+
+        CountedCall(ClientCall<ReqT, RespT> call, AtomicInteger activeCalls) {
+            super(call);
+            this.activeCalls = activeCalls;
+        }
+
+        private void complete() {
+            if (isCompleted.compareAndSet(false, true)) {
+                activeCalls.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void start(Listener<RespT> listener, Metadata headers) {
+            isStarted = true;
+            try {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        complete();
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException ex) {
+                complete();
+                throw ex;
+            }
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+            // listener of not started call is never closed
+            if (!isStarted) {
+                complete();
+            }
+            super.cancel(message, cause);
+        }
+    }
+}
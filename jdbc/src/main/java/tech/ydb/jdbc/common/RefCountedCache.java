@@ -0,0 +1,174 @@
+package tech.ydb.jdbc.common;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of shared resources with reference counting. Every user acquires a lease of the resource and releases it
+ * after usage. When the last lease is released, the resource is closed after the grace period, if nobody acquired it
+ * again. Acquiring and releasing of the existing resource don't use locks.
+ * @param <K> type of key
+ * @param <V> type of resource
+ */
+public class RefCountedCache<K, V extends AutoCloseable> {
+    private static final Logger LOGGER = Logger.getLogger(RefCountedCache.class.getName());
+
+    public interface Factory<K, V> {
+        V create(K key) throws SQLException;
+    }
+
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+    private final Factory<K, V> factory;
+    private final long closeDelayMillis;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public RefCountedCache(Factory<K, V> factory, long closeDelayMillis) {
+        this.factory = factory;
+        this.closeDelayMillis = closeDelayMillis;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "ydb-jdbc-cache-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // thread is stopped when there are no pending closes
+        this.scheduler.setKeepAliveTime(closeDelayMillis + 1000, TimeUnit.MILLISECONDS);
+        this.scheduler.allowCoreThreadTimeOut(true);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Returns lease of the resource for the key, creates new resource if there is no alive one
+     *
+     * @param key key of resource
+     * @return lease of resource, must be released after usage
+     * @throws SQLException if resource cannot be created
+     */
+    public Lease acquire(K key) throws SQLException {
+        while (true) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.tryRetain()) {
+                    return new Lease(entry);
+                }
+                // entry is closing, it will be replaced by the new one
+                entries.remove(key, entry);
+                continue;
+            }
+
+            Entry created = new Entry(key, factory.create(key));
+            if (entries.putIfAbsent(key, created) == null) {
+                return new Lease(created);
+            }
+            closeResource(created.resource);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Closes all resources immediately, existing leases become invalid
+     */
+    public void close() {
+        for (Entry entry: entries.values()) {
+            entry.refs.set(-1);
+            if (entries.remove(entry.key, entry)) {
+                closeResource(entry.resource);
+            }
+        }
+    }
+
+    private void onRelease(Entry entry) {
+        long generation = entry.releases.incrementAndGet();
+        if (closeDelayMillis <= 0) {
+            closeUnused(entry, generation);
+            return;
+        }
+
+        try {
+            scheduler.schedule(() -> closeUnused(entry, generation), closeDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            closeUnused(entry, generation);
+        }
+    }
+
+    private void closeUnused(Entry entry, long generation) {
+        // resource was acquired and released again after this close was scheduled
+        if (entry.releases.get() != generation || !entry.refs.compareAndSet(0, -1)) {
+            return;
+        }
+        entries.remove(entry.key, entry);
+        closeResource(entry.resource);
+    }
+
+    private static void closeResource(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Unable to close cached resource: " + ex.getMessage(), ex);
+        }
+    }
+
+    private class Entry {
+        private final K key;
+        private final V resource;
+        // count of active leases, negative value means that the resource is closed
+        private final AtomicInteger refs = new AtomicInteger(1);
+        private final AtomicLong releases = new AtomicLong();
+
+        Entry(K key, V resource) {
+            this.key = key;
+            this.resource = resource;
+        }
+
+        boolean tryRetain() {
+            while (true) {
+                int count = refs.get();
+                if (count < 0) {
+                    return false;
+                }
+                if (refs.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            if (refs.decrementAndGet() == 0) {
+                onRelease(this);
+            }
+        }
+    }
+
+    public final class Lease {
+        private final Entry entry;
+        private final AtomicBoolean isReleased = new AtomicBoolean(false);
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public V get() {
+            return entry.resource;
+        }
+
+        /**
+         * Releases the lease, repeated calls do nothing
+         */
+        public void release() {
+            if (isReleased.compareAndSet(false, true)) {
+                entry.release();
+            }
+        }
+    }
+}
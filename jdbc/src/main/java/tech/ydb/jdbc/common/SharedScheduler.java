@@ -0,0 +1,189 @@
+package tech.ydb.jdbc.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scheduler shared by many YDB contexts. Every context gets own lease of the scheduler, shutdown of the lease cancels
+ * delayed tasks of this lease and releases it. Threads are started with the first lease and stopped after the last
+ * lease is released, so count of threads doesn't depend on count of contexts.
+ */
+public class SharedScheduler {
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final String name;
+    private final int threadsCount;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private ScheduledThreadPoolExecutor executor = null;
+    private int leasesCount = 0;
+
+    public SharedScheduler(String name) {
+        this(name, Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public SharedScheduler(String name, int threadsCount) {
+        this.name = name;
+        this.threadsCount = threadsCount;
+    }
+
+    /**
+     * Returns new lease of the scheduler, shutdown of the lease doesn't stop the shared threads
+     *
+     * @return lease of scheduler
+     */
+    public ScheduledExecutorService acquire() {
+        lock.lock();
+        try {
+            if (executor == null) {
+                executor = createExecutor();
+            }
+            leasesCount++;
+            return new Lease(executor);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLeasesCount() {
+        lock.lock();
+        try {
+            return leasesCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(ScheduledThreadPoolExecutor leased) {
+        lock.lock();
+        try {
+            leasesCount--;
+            if (leasesCount == 0 && executor == leased) {
+                executor.shutdown();
+                executor = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ScheduledThreadPoolExecutor createExecutor() {
+        final String namePrefix = name + "-thread-";
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(threadsCount, (Runnable r) -> {
+            Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        pool.setKeepAliveTime(THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        pool.allowCoreThreadTimeOut(true);
+        pool.setRemoveOnCancelPolicy(true);
+        pool.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return pool;
+    }
+
+    private class Lease extends AbstractExecutorService implements ScheduledExecutorService {
+        private final ScheduledThreadPoolExecutor pool;
+        private final Set<ScheduledFuture<?>> scheduled = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean isShutdown = new AtomicBoolean(false);
+
+        Lease(ScheduledThreadPoolExecutor pool) {
+            this.pool = pool;
+        }
+
+        private void checkShutdown() {
+            if (isShutdown.get()) {
+                throw new RejectedExecutionException("Scheduler " + name + " is shut down");
+            }
+        }
+
+        private <T extends ScheduledFuture<?>> T track(T future) {
+            scheduled.removeIf(ScheduledFuture::isDone);
+            scheduled.add(future);
+            // lease may be shut down concurrently
+            if (isShutdown.get()) {
+                future.cancel(false);
+            }
+            return future;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            checkShutdown();
+            pool.execute(command);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            checkShutdown();
+            return track(pool.schedule(command, delay, unit));
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            checkShutdown();
+            return track(pool.schedule(callable, delay, unit));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                TimeUnit unit) {
+            checkShutdown();
+            return track(pool.scheduleAtFixedRate(command, initialDelay, period, unit));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                TimeUnit unit) {
+            checkShutdown();
+            return track(pool.scheduleWithFixedDelay(command, initialDelay, delay, unit));
+        }
+
+        @Override
+        public void shutdown() {
+            if (!isShutdown.compareAndSet(false, true)) {
+                return;
+            }
+
+            for (ScheduledFuture<?> future: scheduled) {
+                future.cancel(false);
+            }
+            scheduled.clear();
+            release(pool);
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown();
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return isShutdown.get();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return isShutdown.get();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            // tasks of the lease are cancelled on shutdown, shared threads are not waited
+            return isShutdown.get();
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package tech.ydb.jdbc.common;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.Type;
+
+/**
+ * Scroll-insensitive result set which keeps rows in the temporary file instead of the heap. Rows are stored as
+ * length delimited protobuf values and read back through memory-mapped segments of the file. The file is deleted
+ * on {@link #close() }
+ */
+public class SpilledResultSet implements ResultSetReader, Closeable {
+    private static final Logger LOGGER = Logger.getLogger(SpilledResultSet.class.getName());
+
+    private static final long SEGMENT_SIZE = 1L << 30; // 1 GiB
+
+    private final Path file;
+    private final FileChannel channel;
+    private final List<ValueProtos.Column> columns;
+    private final Type[] columnTypes;
+    private final Map<String, Integer> columnIndexes;
+    private final MappedByteBuffer[] segments;
+
+    private final int rowCount;
+    private final int[] rowSegments;
+    private final int[] rowOffsets;
+    private final int[] rowLengths;
+
+    private int nextRow = 0;
+    private int currentRow = -1;
+
+    private int decodedRow = -1;
+    private ResultSetReader decodedReader = null;
+    private boolean isClosed = false;
+
+    private SpilledResultSet(Builder builder, FileChannel channel, MappedByteBuffer[] segments) {
+        this.file = builder.file;
+        this.channel = channel;
+        this.columns = builder.columns;
+        this.columnTypes = builder.columnTypes;
+        this.columnIndexes = new HashMap<>();
+        for (int idx = 0; idx < columns.size(); idx += 1) {
+            columnIndexes.put(columns.get(idx).getName(), idx);
+        }
+        this.segments = segments;
+        this.rowCount = builder.rowCount;
+        this.rowSegments = builder.rowSegments;
+        this.rowOffsets = builder.rowOffsets;
+        this.rowLengths = builder.rowLengths;
+    }
+
+    /**
+     * Creates the collector of result set parts, which keeps first {@code threshold} rows in memory and spills all
+     * rows to the temporary file if result exceeds it.
+     *
+     * @param threshold max count of rows kept in the heap
+     * @return new collector
+     */
+    public static Builder newBuilder(int threshold) {
+        return new Builder(threshold);
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return false;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void setRowIndex(int index) {
+        if (index < 0 || index >= rowCount) {
+            currentRow = -1;
+        } else {
+            nextRow = index;
+            currentRow = index;
+        }
+    }
+
+    @Override
+    public boolean next() {
+        if (nextRow >= rowCount) {
+            currentRow = -1;
+            return false;
+        }
+        currentRow = nextRow++;
+        return true;
+    }
+
+    @Override
+    public String getColumnName(int index) {
+        return columns.get(index).getName();
+    }
+
+    @Override
+    public int getColumnIndex(String name) {
+        Integer index = columnIndexes.get(name);
+        return index != null ? index : -1;
+    }
+
+    @Override
+    public ValueReader getColumn(int index) {
+        return currentReader().getColumn(index);
+    }
+
+    @Override
+    public ValueReader getColumn(String name) {
+        return currentReader().getColumn(name);
+    }
+
+    @Override
+    public Type getColumnType(int index) {
+        return columnTypes[index];
+    }
+
+    private ResultSetReader currentReader() {
+        if (isClosed) {
+            throw new IllegalStateException("Result set is already closed");
+        }
+        if (currentRow < 0) {
+            throw new IllegalStateException("Result set cursor is not positioned on a row");
+        }
+
+        if (decodedRow != currentRow) {
+            ByteBuffer buffer = segments[rowSegments[currentRow]].duplicate();
+            buffer.position(rowOffsets[currentRow]);
+            buffer.limit(rowOffsets[currentRow] + rowLengths[currentRow]);
+
+            try {
+                ValueProtos.ResultSet rs = ValueProtos.ResultSet.newBuilder()
+                        .addAllColumns(columns)
+                        .addRows(ValueProtos.Value.parseFrom(buffer))
+                        .build();
+                decodedReader = ProtoValueReaders.forResultSet(rs);
+                decodedReader.setRowIndex(0);
+                decodedRow = currentRow;
+            } catch (InvalidProtocolBufferException ex) {
+                throw new IllegalStateException("Cannot read row " + currentRow + " from " + file, ex);
+            }
+        }
+
+        return decodedReader;
+    }
+
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        decodedReader = null;
+        Arrays.fill(segments, null);
+        try {
+            channel.close();
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cannot delete temporary file " + file, ex);
+        }
+    }
+
+    public static class Builder implements Consumer<ResultSetReader> {
+        private final int threshold;
+        private final List<ResultSetReader> parts = new ArrayList<>();
+
+        private int rowCount = 0;
+        private List<ValueProtos.Column> columns = null;
+        private Type[] columnTypes = null;
+
+        private Path file = null;
+        private OutputStream output = null;
+        private CodedOutputStream coded = null;
+        private IOException writeException = null;
+
+        private long position = 0;
+        private long segmentStart = 0;
+        private final List<Long> segmentStarts = new ArrayList<>();
+        private int[] rowSegments = new int[0];
+        private int[] rowOffsets = new int[0];
+        private int[] rowLengths = new int[0];
+
+        Builder(int threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public synchronized void accept(ResultSetReader part) {
+            if (writeException != null) {
+                return;
+            }
+
+            try {
+                if (file == null && rowCount + part.getRowCount() <= threshold) {
+                    parts.add(part);
+                    rowCount += part.getRowCount();
+                    return;
+                }
+
+                if (file == null) {
+                    startSpill(part);
+                    for (ResultSetReader rs: parts) {
+                        writePart(rs);
+                    }
+                    parts.clear();
+                }
+                writePart(part);
+            } catch (IOException ex) {
+                writeException = ex;
+                cleanFile();
+            }
+        }
+
+        public synchronized ResultSetReader build() throws IOException {
+            if (writeException != null) {
+                throw writeException;
+            }
+
+            if (file == null) {
+                return ProtoValueReaders.forResultSets(parts);
+            }
+
+            FileChannel channel = null;
+            try {
+                coded.flush();
+                output.close();
+
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+                MappedByteBuffer[] segments = new MappedByteBuffer[segmentStarts.size()];
+                for (int idx = 0; idx < segments.length; idx += 1) {
+                    long start = segmentStarts.get(idx);
+                    long end = idx + 1 < segments.length ? segmentStarts.get(idx + 1) : position;
+                    segments[idx] = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                }
+                return new SpilledResultSet(this, channel, segments);
+            } catch (IOException ex) {
+                if (channel != null) {
+                    channel.close();
+                }
+                cleanFile();
+                throw ex;
+            }
+        }
+
+        /**
+         * Releases the temporary file of the result set which will not be built, f.e. after failed reading of the
+         * stream. Parts received after this call are ignored.
+         */
+        public synchronized void discard() {
+            if (writeException == null) {
+                writeException = new IOException("Result set is discarded");
+            }
+            parts.clear();
+            cleanFile();
+        }
+
+        synchronized Path getFile() {
+            return file;
+        }
+
+        private void startSpill(ResultSetReader part) throws IOException {
+            columns = new ArrayList<>();
+            columnTypes = new Type[part.getColumnCount()];
+            for (int idx = 0; idx < part.getColumnCount(); idx += 1) {
+                columnTypes[idx] = part.getColumnType(idx);
+                columns.add(ValueProtos.Column.newBuilder()
+                        .setName(part.getColumnName(idx))
+                        .setType(columnTypes[idx].toPb())
+                        .build());
+            }
+
+            file = Files.createTempFile("ydb-jdbc-", ".rows");
+            output = new BufferedOutputStream(Files.newOutputStream(file));
+            coded = CodedOutputStream.newInstance(output);
+
+            rowCount = 0;
+            segmentStarts.add(0L);
+            int capacity = Math.max(16, threshold * 2);
+            rowSegments = new int[capacity];
+            rowOffsets = new int[capacity];
+            rowLengths = new int[capacity];
+        }
+
+        private void writePart(ResultSetReader part) throws IOException {
+            for (int row = 0; row < part.getRowCount(); row += 1) {
+                part.setRowIndex(row);
+                ValueProtos.Value.Builder value = ValueProtos.Value.newBuilder();
+                for (int idx = 0; idx < part.getColumnCount(); idx += 1) {
+                    value.addItems(part.getColumn(idx).getValue().toPb());
+                }
+                writeRow(value.build());
+            }
+        }
+
+        private void writeRow(ValueProtos.Value row) throws IOException {
+            int length = row.getSerializedSize();
+            int header = CodedOutputStream.computeUInt32SizeNoTag(length);
+            if (position + header + length - segmentStart > SEGMENT_SIZE) {
+                segmentStart = position;
+                segmentStarts.add(segmentStart);
+            }
+
+            if (rowCount == rowLengths.length) {
+                int capacity = rowCount * 2;
+                rowSegments = Arrays.copyOf(rowSegments, capacity);
+                rowOffsets = Arrays.copyOf(rowOffsets, capacity);
+                rowLengths = Arrays.copyOf(rowLengths, capacity);
+            }
+
+            rowSegments[rowCount] = segmentStarts.size() - 1;
+            rowOffsets[rowCount] = (int) (position + header - segmentStart);
+            rowLengths[rowCount] = length;
+            rowCount += 1;
+
+            coded.writeUInt32NoTag(length);
+            row.writeTo(coded);
+            position += header + length;
+        }
+
+        private void cleanFile() {
+            if (file == null) {
+                return;
+            }
+            try {
+                if (output != null) {
+                    output.close();
+                }
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Cannot delete temporary file " + file, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package tech.ydb.jdbc.common;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Parsers of text representation of values, used by bulk loading. Every parser is specialized for the one column
+ * type, so the type dispatching is done once per column instead of once per value.
+ */
+public class TextValueParsers {
+    private TextValueParsers() { }
+
+    /**
+     * Creates parser for the column type. Parser of optional type returns empty value for {@code null} text, parser
+     * of required type throws {@link SQLDataException}
+     *
+     * @param type column type
+     * @return parser of values
+     * @throws SQLException if type is not supported
+     */
+    public static Parser of(Type type) throws SQLException {
+        if (type.getKind() == Type.Kind.OPTIONAL) {
+            OptionalType optional = (OptionalType) type;
+            Parser inner = of(optional.getItemType());
+            Value<?> empty = optional.emptyValue();
+            return text -> text == null ? empty : inner.parse(text).makeOptional();
+        }
+
+        Parser parser = buildParser(type);
+        return text -> {
+            if (text == null) {
+                throw new SQLDataException(String.format(YdbConst.UNABLE_TO_CAST, "null", type));
+            }
+            try {
+                return parser.parse(text);
+            } catch (IllegalArgumentException | DateTimeException | ArithmeticException ex) {
+                throw new SQLDataException(String.format(YdbConst.UNABLE_TO_CAST, text, type), ex);
+            }
+        };
+    }
+
+    private static Parser buildParser(Type type) throws SQLException {
+        if (type.getKind() == Type.Kind.DECIMAL) {
+            DecimalType decimal = (DecimalType) type;
+            return decimal::newValue;
+        }
+
+        if (type.getKind() != Type.Kind.PRIMITIVE) {
+            throw new SQLDataException(String.format(YdbConst.UNABLE_TO_CAST, "text", type));
+        }
+
+        PrimitiveType id = (PrimitiveType) type;
+        switch (id) {
+            case Text:
+                return PrimitiveValue::newText;
+            case Bytes:
+                return text -> PrimitiveValue.newBytesOwn(text.getBytes(StandardCharsets.UTF_8));
+            case Yson:
+                return text -> PrimitiveValue.newYsonOwn(text.getBytes(StandardCharsets.UTF_8));
+            case Json:
+                return PrimitiveValue::newJson;
+            case JsonDocument:
+                return PrimitiveValue::newJsonDocument;
+            case Uuid:
+                return PrimitiveValue::newUuid;
+            case Bool:
+                return TextValueParsers::parseBool;
+            case Int8:
+                return text -> PrimitiveValue.newInt8(Byte.parseByte(text));
+            case Uint8:
+                return text -> PrimitiveValue.newUint8(checkUnsigned(Integer.parseInt(text), 0xFFL));
+            case Int16:
+                return text -> PrimitiveValue.newInt16(Short.parseShort(text));
+            case Uint16:
+                return text -> PrimitiveValue.newUint16(checkUnsigned(Integer.parseInt(text), 0xFFFFL));
+            case Int32:
+                return text -> PrimitiveValue.newInt32(Integer.parseInt(text));
+            case Uint32:
+                return text -> PrimitiveValue.newUint32(Integer.parseUnsignedInt(text) & 0xFFFFFFFFL);
+            case Int64:
+                return text -> PrimitiveValue.newInt64(Long.parseLong(text));
+            case Uint64:
+                return text -> PrimitiveValue.newUint64(Long.parseUnsignedLong(text));
+            case Float:
+                return text -> PrimitiveValue.newFloat(Float.parseFloat(text));
+            case Double:
+                return text -> PrimitiveValue.newDouble(Double.parseDouble(text));
+            case Date:
+                return text -> PrimitiveValue.newDate(LocalDate.parse(text));
+            case Datetime:
+                return text -> PrimitiveValue.newDatetime(parseInstant(text));
+            case Timestamp:
+                return text -> PrimitiveValue.newTimestamp(parseInstant(text));
+            case Interval:
+                return text -> PrimitiveValue.newInterval(Duration.parse(text));
+            case TzDate:
+                return text -> PrimitiveValue.newTzDate(ZonedDateTime.parse(text));
+            case TzDatetime:
+                return text -> PrimitiveValue.newTzDatetime(ZonedDateTime.parse(text));
+            case TzTimestamp:
+                return text -> PrimitiveValue.newTzTimestamp(ZonedDateTime.parse(text));
+            default:
+                throw new SQLDataException(String.format(YdbConst.UNABLE_TO_CAST, "text", type));
+        }
+    }
+
+    private static PrimitiveValue parseBool(String text) {
+        if ("true".equalsIgnoreCase(text) || "1".equals(text)) {
+            return PrimitiveValue.newBool(true);
+        }
+        if ("false".equalsIgnoreCase(text) || "0".equals(text)) {
+            return PrimitiveValue.newBool(false);
+        }
+        throw new IllegalArgumentException("Invalid boolean " + text);
+    }
+
+    private static int checkUnsigned(int value, long max) {
+        if (value < 0 || value > max) {
+            throw new ArithmeticException("Value out of range " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Parses ISO date-time with offset, the value without offset is treated as UTC time
+     */
+    private static Instant parseInstant(String text) {
+        try {
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException ex) {
+            return LocalDateTime.parse(text).toInstant(ZoneOffset.UTC);
+        }
+    }
+
+    public interface Parser {
+        Value<?> parse(String text) throws SQLException;
+    }
+}
@@ -1,15 +1,27 @@
 package tech.ydb.jdbc.context;
 
+import java.io.IOException;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import tech.ydb.core.Result;
+import tech.ydb.core.Status;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.common.SpilledResultSet;
 import tech.ydb.jdbc.exception.ExceptionFactory;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.table.Session;
 import tech.ydb.table.TableClient;
 import tech.ydb.table.query.ExplainDataQueryResult;
@@ -27,15 +39,112 @@ import tech.ydb.table.settings.ExplainDataQuerySettings;
 public abstract class BaseYdbExecutor implements YdbExecutor {
     private final Duration sessionTimeout;
     private final TableClient tableClient;
+    private final boolean isDeferDmlQueries;
+    private final boolean isCommitWithLastQuery;
+    private final DeferredQueries deferredQueries = new DeferredQueries();
 
     public BaseYdbExecutor(YdbContext ctx) {
-        this.sessionTimeout = ctx.getOperationProperties().getSessionTimeout();
-        this.tableClient = ctx.getTableClient();
+        this(ctx.getOperationProperties(), ctx.getTableClient());
+    }
+
+    protected BaseYdbExecutor(YdbOperationProperties operationProps, TableClient tableClient) {
+        this.sessionTimeout = operationProps.getSessionTimeout();
+        this.tableClient = tableClient;
+        this.isDeferDmlQueries = operationProps.isDeferDmlQueries();
+        this.isCommitWithLastQuery = operationProps.isCommitWithLastQuery();
+    }
+
+    /**
+     * Executes YQL request in the current transaction
+     *
+     * @param ctx context
+     * @param validator handler for logging and warnings
+     * @param yql text of request
+     * @param timeout timeout of operation in seconds, value 0 means default timeout
+     * @param keepInCache flag to store query in server-side cache
+     * @param maxRows limit of rows of the only result set of request, the rest of rows may be not transferred.
+     * Value 0 means no limit
+     * @param params parameters of request
+     * @param commitTx flag to commit the transaction after request
+     * @return list of result sets
+     * @throws SQLException if request failed
+     */
+    @SuppressWarnings("ParameterNumber")
+    protected abstract List<ResultSetReader> executeQuery(YdbContext ctx, YdbValidator validator, String yql,
+            long timeout, boolean keepInCache, int maxRows, Params params, boolean commitTx) throws SQLException;
+
+    @Override
+    public List<ResultSetReader> executeDataQuery(YdbContext ctx, YdbValidator validator, YdbQuery query,
+            long timeout, boolean keepInCache, int maxRows, Params params) throws SQLException {
+        ensureOpened();
+
+        final String yql = query.getYqlQuery(params);
+        boolean isDeferEnabled = isDeferDmlQueries || isCommitWithLastQuery;
+        if (isDeferEnabled && !isAutoCommit() && DeferredQueries.isDeferrable(query)) {
+            if (!isDeferDmlQueries && !deferredQueries.isEmpty()) {
+                // Without merging only the last statement is held, the previous one is sent as is
+                executeDeferred(ctx, validator, deferredQueries.drain(), timeout, false);
+            }
+            deferredQueries.add(query, yql, params);
+            if (deferredQueries.isFull()) {
+                executeDeferred(ctx, validator, deferredQueries.drain(), timeout, false);
+            }
+            return Collections.emptyList();
+        }
+
+        if (!deferredQueries.isEmpty()) {
+            // Deferred DML is merged only with other DML or with the commit, because reads of the same request don't
+            // see its changes. So the queue is sent as a separate request before the next query
+            executeDeferred(ctx, validator, deferredQueries.drain(), timeout, false);
+        }
+
+        // The limit can be applied only to the single result set, the rows of other ones are read completely
+        int rowsLimit = isSingleSelect(query) ? maxRows : 0;
+        return executeQuery(ctx, validator, yql, timeout, keepInCache, rowsLimit, params, isAutoCommit());
+    }
+
+    private static boolean isSingleSelect(YdbQuery query) {
+        return query.getExpressions().size() == 1 && query.getExpressions().get(0).isSelect();
+    }
+
+    protected boolean hasDeferredQueries() {
+        return !deferredQueries.isEmpty();
+    }
+
+    /**
+     * Executes all deferred queries in one request with commit of the transaction
+     *
+     * @param ctx context
+     * @param validator handler for logging and warnings
+     * @throws SQLException if request failed
+     */
+    protected void commitDeferredQueries(YdbContext ctx, YdbValidator validator) throws SQLException {
+        validator.clearWarnings();
+        executeDeferred(ctx, validator, deferredQueries.drain(), 0, true);
+    }
+
+    protected void ensureNoDeferredQueries(String message) throws SQLException {
+        if (!deferredQueries.isEmpty()) {
+            throw new SQLFeatureNotSupportedException(message);
+        }
+    }
+
+    protected void discardDeferredQueries() {
+        deferredQueries.clear();
+    }
+
+    private void executeDeferred(YdbContext ctx, YdbValidator validator, DeferredQueries.Request request,
+            long timeout, boolean commitTx) throws SQLException {
+        try {
+            executeQuery(ctx, validator, request.yql(), timeout, true, 0, request.params(), commitTx);
+        } catch (SQLException ex) {
+            throw request.mapError(ex);
+        }
     }
 
     protected Session createNewTableSession(YdbValidator validator) throws SQLException {
         try {
-            Result<Session> session = tableClient.createSession(sessionTimeout).join();
+            Result<Session> session = validator.join("Create session", tableClient.createSession(sessionTimeout));
             validator.addStatusIssues(session.getStatus());
             return session.getValue();
         } catch (UnexpectedResultException ex) {
@@ -68,23 +177,57 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
     }
 
     @Override
-    public ResultSetReader executeScanQuery(YdbContext ctx, YdbValidator validator, YdbQuery query, Params params)
-            throws SQLException {
+    public ResultSetReader executeScanQuery(YdbContext ctx, YdbValidator validator, YdbQuery query, int maxRows,
+            Params params) throws SQLException {
         ensureOpened();
 
         String yql = query.getYqlQuery(params);
-        Collection<ResultSetReader> resultSets = new LinkedBlockingQueue<>();
         Duration scanQueryTimeout = ctx.getOperationProperties().getScanQueryTimeout();
         ExecuteScanQuerySettings settings = ExecuteScanQuerySettings.newBuilder()
                 .withRequestTimeout(scanQueryTimeout)
                 .build();
-        try (Session session = createNewTableSession(validator)) {
-            validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql,
-                    () -> session.executeScanQuery(yql, params, settings).start(resultSets::add));
+
+        int spillThreshold = ctx.getOperationProperties().getScanQuerySpillThreshold();
+        if (spillThreshold > 0) {
+            SpilledResultSet.Builder builder = SpilledResultSet.newBuilder(spillThreshold);
+            try {
+                readScanQuery(validator, yql, params, settings, maxRows, builder);
+            } catch (SQLException | RuntimeException ex) {
+                builder.discard();
+                throw ex;
+            }
+
+            try {
+                return builder.build();
+            } catch (IOException ex) {
+                throw new SQLException(YdbConst.CANNOT_SPILL_RESULT + ex.getMessage(), ex);
+            }
         }
 
+        Collection<ResultSetReader> resultSets = new LinkedBlockingQueue<>();
+        readScanQuery(validator, yql, params, settings, maxRows, resultSets::add);
         return ProtoValueReaders.forResultSets(resultSets);
     }
 
+    private void readScanQuery(YdbValidator validator, String yql, Params params, ExecuteScanQuerySettings settings,
+            int maxRows, Consumer<ResultSetReader> consumer) throws SQLException {
+        try (Session session = createNewTableSession(validator)) {
+            GrpcReadStream<ResultSetReader> stream = session.executeScanQuery(yql, params, settings);
 
+            // When maxRows is reached, the rest of the stream is cancelled and not transferred
+            AtomicInteger readRows = new AtomicInteger(0);
+            AtomicBoolean isLimitReached = new AtomicBoolean(false);
+            validator.onCancel(stream::cancel);
+            validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, () -> stream.start(part -> {
+                if (isLimitReached.get()) {
+                    return;
+                }
+                consumer.accept(part);
+                if (maxRows > 0 && readRows.addAndGet(part.getRowCount()) >= maxRows) {
+                    isLimitReached.set(true);
+                    stream.cancel();
+                }
+            }).thenApply(status -> isLimitReached.get() ? Status.SUCCESS : status));
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package tech.ydb.jdbc.context;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Strategy of waiting for results of asynchronous operations in JDBC calls. Waiting must react to the interruption
+ * of the calling thread and must not hold monitors, so virtual threads are unmounted from their carriers while they
+ * are waiting.
+ */
+public interface BlockingStrategy {
+    /**
+     * Default strategy, parks the calling thread in {@link CompletableFuture#get()} until the result or the deadline
+     */
+    BlockingStrategy INTERRUPTIBLE = new BlockingStrategy() {
+        @Override
+        public <T> T await(CompletableFuture<T> future, long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (timeout <= 0) {
+                return future.get();
+            }
+            return future.get(timeout, unit);
+        }
+    };
+
+    /**
+     * Waits for the completion of the future
+     *
+     * @param <T> type of result
+     * @param future future to wait
+     * @param timeout max time of waiting, value 0 means no timeout
+     * @param unit unit of timeout
+     * @return result of the future
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws ExecutionException if the future completed exceptionally
+     * @throws TimeoutException if the timeout is expired
+     */
+    <T> T await(CompletableFuture<T> future, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException;
+}
@@ -0,0 +1,254 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tech.ydb.core.Issue;
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.exception.YdbStatusable;
+import tech.ydb.jdbc.query.QueryType;
+import tech.ydb.jdbc.query.YdbExpression;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Value;
+
+/**
+ * Queue of DML statements without results, which execution is deferred until the next data query or commit of the
+ * transaction. All queued statements are merged into one YQL request, which is sent alone before the next query or
+ * together with the commit. The parameters of every queued statement are renamed to avoid conflicts. In the commit
+ * with last query mode the queue holds only one statement.
+ */
+class DeferredQueries {
+    static final int MAX_DEFERRED_QUERIES = 100;
+
+    private static final String PARAMETER_SUFFIX = "_d";
+
+    private final List<Deferred> queue = new ArrayList<>();
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    boolean isFull() {
+        return queue.size() >= MAX_DEFERRED_QUERIES;
+    }
+
+    void clear() {
+        queue.clear();
+    }
+
+    /**
+     * Checks if query may be deferred. Only data queries without SELECT and DDL expressions are deferred. Queries
+     * with pragmas are not deferred, because pragmas must be placed at the beginning of the request
+     *
+     * @param query parsed query
+     * @return true if query may be deferred
+     */
+    static boolean isDeferrable(YdbQuery query) {
+        if (query.type() != QueryType.DATA_QUERY || query.getExpressions().isEmpty() || query.hasPragmas()) {
+            return false;
+        }
+        for (YdbExpression exp: query.getExpressions()) {
+            if (exp.isSelect() || exp.isDDL()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void add(YdbQuery query, String yql, Params params) {
+        int idx = queue.size() + 1;
+        Map<String, String> renames = new HashMap<>();
+        Params renamed = Params.create(params.values().size());
+        for (Map.Entry<String, Value<?>> entry: params.values().entrySet()) {
+            String name = entry.getKey() + PARAMETER_SUFFIX + idx;
+            renames.put(entry.getKey(), name);
+            renamed.put(name, entry.getValue());
+        }
+        queue.add(new Deferred(query.originSQL(), renameParameters(yql, renames), renamed));
+    }
+
+    /**
+     * Builds request with all deferred queries and cleans the queue
+     *
+     * @return merged request
+     */
+    Request drain() {
+        Request request = new Request();
+        for (Deferred query: queue) {
+            request.append(query.sql, query.yql, query.params);
+        }
+        queue.clear();
+        return request;
+    }
+
+    static final class Request {
+        private final StringBuilder yql = new StringBuilder();
+        private final Params params = Params.create();
+        private final List<String> sqls = new ArrayList<>();
+        private final List<Integer> firstRows = new ArrayList<>();
+        private int rowsCount = 0;
+
+        String yql() {
+            return yql.toString();
+        }
+
+        Params params() {
+            return params;
+        }
+
+        private void append(String sql, String text, Params values) {
+            sqls.add(sql);
+            firstRows.add(rowsCount + 1);
+
+            String trimmed = text.trim();
+            yql.append(trimmed);
+            if (!trimmed.endsWith(";")) {
+                yql.append(';');
+            }
+            yql.append('\n');
+            for (int idx = 0; idx < trimmed.length(); idx++) {
+                if (trimmed.charAt(idx) == '\n') {
+                    rowsCount++;
+                }
+            }
+            rowsCount++;
+
+            for (Map.Entry<String, Value<?>> entry: values.values().entrySet()) {
+                params.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        /**
+         * Maps error of the merged request to the deferred statement by the positions of issues. The information
+         * about failed statement is added to the exception as the next exception
+         *
+         * @param ex error of request execution
+         * @return the same exception
+         */
+        SQLException mapError(SQLException ex) {
+            if (!(ex instanceof YdbStatusable)) {
+                return ex;
+            }
+
+            int row = findIssueRow(((YdbStatusable) ex).getStatus().getIssues());
+            for (int idx = sqls.size() - 1; idx >= 0 && row > 0; idx--) {
+                if (row >= firstRows.get(idx)) {
+                    ex.setNextException(new SQLException(YdbConst.DEFERRED_QUERY_FAILED + sqls.get(idx)));
+                    return ex;
+                }
+            }
+
+            if (!sqls.isEmpty()) {
+                ex.setNextException(new SQLException(YdbConst.DEFERRED_QUERIES_FAILED + sqls));
+            }
+            return ex;
+        }
+
+        private static int findIssueRow(Issue[] issues) {
+            for (Issue issue: issues) {
+                if (issue.getPosition() != null && issue.getPosition().getRow() > 0) {
+                    return issue.getPosition().getRow();
+                }
+                int row = findIssueRow(issue.getIssues());
+                if (row > 0) {
+                    return row;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Replaces parameter names in YQL text, string literals and comments are not changed
+     */
+    static String renameParameters(String yql, Map<String, String> renames) {
+        if (renames.isEmpty()) {
+            return yql;
+        }
+
+        StringBuilder sb = new StringBuilder(yql.length() + renames.size() * 8);
+        int length = yql.length();
+        int idx = 0;
+        while (idx < length) {
+            char ch = yql.charAt(idx);
+            int end = idx + 1;
+            switch (ch) {
+                case '\'':
+                case '"':
+                case '`':
+                    end = skipQuoted(yql, idx, ch);
+                    break;
+                case '-':
+                    if (end < length && yql.charAt(end) == '-') {
+                        end = yql.indexOf('\n', end);
+                        end = end < 0 ? length : end;
+                    }
+                    break;
+                case '/':
+                    if (end < length && yql.charAt(end) == '*') {
+                        end = yql.indexOf("*/", end + 1);
+                        end = end < 0 ? length : end + 2;
+                    }
+                    break;
+                case '@':
+                    if (end < length && yql.charAt(end) == '@') {
+                        end = yql.indexOf("@@", end + 1);
+                        end = end < 0 ? length : end + 2;
+                    }
+                    break;
+                case '$':
+                    while (end < length && isIdentifierChar(yql.charAt(end))) {
+                        end++;
+                    }
+                    String name = yql.substring(idx, end);
+                    if (renames.containsKey(name)) {
+                        sb.append(renames.get(name));
+                        idx = end;
+                        continue;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            sb.append(yql, idx, end);
+            idx = end;
+        }
+        return sb.toString();
+    }
+
+    private static int skipQuoted(String yql, int start, char quote) {
+        int idx = start + 1;
+        while (idx < yql.length()) {
+            char ch = yql.charAt(idx);
+            if (ch == '\\') {
+                idx += 2;
+                continue;
+            }
+            idx++;
+            if (ch == quote) {
+                return idx;
+            }
+        }
+        return yql.length();
+    }
+
+    private static boolean isIdentifierChar(char ch) {
+        return Character.isLetterOrDigit(ch) || ch == '_';
+    }
+
+    private static final class Deferred {
+        private final String sql;
+        private final String yql;
+        private final Params params;
+
+        Deferred(String sql, String yql, Params params) {
+            this.sql = sql;
+            this.yql = yql;
+            this.params = params;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package tech.ydb.jdbc.context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import tech.ydb.jdbc.common.ColumnarResultSet;
+import tech.ydb.jdbc.query.YdbExpression;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.Value;
+
+/**
+ * Client-side cache of query results. Results are stored as immutable columnar snapshots, every hit returns new
+ * readers over the same columns. Entries are expired after TTL and evicted when total size of snapshots exceeds
+ * the limit.
+ */
+public class QueryResultsCache {
+    private final Cache<Key, Entry> cache;
+
+    public QueryResultsCache(long maxMemorySize, Duration ttl) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxMemorySize)
+                .weigher((Key key, Entry entry) -> (int) Math.min(Integer.MAX_VALUE, entry.memorySize))
+                .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Results may be cached only for queries which contain nothing but selects
+     *
+     * @param query query to check
+     * @return true if results of query may be cached
+     */
+    public static boolean isCacheable(YdbQuery query) {
+        if (query.getExpressions().isEmpty()) {
+            return false;
+        }
+        for (YdbExpression exp: query.getExpressions()) {
+            if (!exp.isSelect()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns cached results of the query
+     *
+     * @param query query
+     * @param params parameters of query
+     * @return new readers of cached results or null if there are no results in cache
+     */
+    public List<ResultSetReader> get(YdbQuery query, Params params) {
+        Entry entry = cache.getIfPresent(new Key(query, params));
+        if (entry == null) {
+            return null;
+        }
+
+        List<ResultSetReader> copies = new ArrayList<>(entry.results.size());
+        for (ColumnarResultSet rs: entry.results) {
+            copies.add(rs.copy());
+        }
+        return copies;
+    }
+
+    /**
+     * Stores results of the query to cache. Results are stored only if all of them can be decoded into columnar
+     * form.
+     *
+     * @param query query
+     * @param params parameters of query
+     * @param results results of query
+     * @return results to read by caller, they are independent from stored snapshots
+     */
+    public List<ResultSetReader> put(YdbQuery query, Params params, List<ResultSetReader> results) {
+        List<ColumnarResultSet> snapshots = new ArrayList<>(results.size());
+        List<ResultSetReader> copies = new ArrayList<>(results.size());
+        long memorySize = 0;
+        for (ResultSetReader rs: results) {
+            ResultSetReader decoded = ColumnarResultSet.decode(rs);
+            if (!(decoded instanceof ColumnarResultSet)) {
+                return results;
+            }
+            ColumnarResultSet snapshot = (ColumnarResultSet) decoded;
+            snapshots.add(snapshot);
+            copies.add(snapshot.copy());
+            memorySize += snapshot.getMemorySize();
+        }
+
+        cache.put(new Key(query, params), new Entry(snapshots, memorySize));
+        return copies;
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public double getHitRate() {
+        CacheStats stats = cache.stats();
+        return stats.requestCount() == 0 ? 0 : stats.hitRate();
+    }
+
+    public long getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return approximate count of bytes used by cached results
+     */
+    public long getMemorySize() {
+        long size = 0;
+        for (Entry entry: cache.asMap().values()) {
+            size += entry.memorySize;
+        }
+        return size;
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static class Entry {
+        private final List<ColumnarResultSet> results;
+        private final long memorySize;
+
+        Entry(List<ColumnarResultSet> results, long memorySize) {
+            this.results = results;
+            this.memorySize = memorySize;
+        }
+    }
+
+    private static class Key {
+        private final String sql;
+        private final Map<String, Value<?>> params;
+        private final int hash;
+
+        Key(YdbQuery query, Params params) {
+            this.sql = query.originSQL();
+            // copy of values, parameters of prepared statements are modified after execution
+            this.params = params == null ? Collections.emptyMap() : new HashMap<>(params.values());
+            this.hash = 31 * sql.hashCode() + this.params.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key o = (Key) other;
+            return hash == o.hash && sql.equals(o.sql) && params.equals(o.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -6,10 +6,15 @@ import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import tech.ydb.common.transaction.TxMode;
 import tech.ydb.core.Result;
+import tech.ydb.core.Status;
 import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.exception.ExceptionFactory;
@@ -17,13 +22,14 @@ import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.query.QueryClient;
 import tech.ydb.query.QuerySession;
+import tech.ydb.query.QueryStream;
 import tech.ydb.query.QueryTransaction;
 import tech.ydb.query.settings.CommitTransactionSettings;
 import tech.ydb.query.settings.ExecuteQuerySettings;
 import tech.ydb.query.settings.RollbackTransactionSettings;
-import tech.ydb.query.tools.QueryReader;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
 
 /**
  *
@@ -55,7 +61,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
 
     protected QuerySession createNewQuerySession(YdbValidator validator) throws SQLException {
         try {
-            Result<QuerySession> session = queryClient.createSession(sessionTimeout).join();
+            Result<QuerySession> session = validator.join("Create session", queryClient.createSession(sessionTimeout));
             validator.addStatusIssues(session.getStatus());
             return session.getValue();
         } catch (UnexpectedResultException ex) {
@@ -65,6 +71,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
 
     @Override
     public void close() {
+        discardDeferredQueries();
         cleanTx();
         isClosed = true;
     }
@@ -82,7 +89,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             return;
         }
 
-        if (tx != null && tx.isActive()) {
+        if (isInsideTransaction()) {
             throw new SQLFeatureNotSupportedException(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
         }
 
@@ -97,7 +104,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             return;
         }
 
-        if (tx != null && tx.isActive()) {
+        if (isInsideTransaction()) {
             throw new SQLFeatureNotSupportedException(YdbConst.READONLY_INSIDE_TRANSACTION);
         }
 
@@ -111,7 +118,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             return;
         }
 
-        if (tx != null && tx.isActive()) {
+        if (isInsideTransaction()) {
             throw new SQLFeatureNotSupportedException(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
         }
 
@@ -131,7 +138,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     @Override
     public boolean isInsideTransaction() throws SQLException {
         ensureOpened();
-        return tx != null && tx.isActive();
+        return tx != null && tx.isActive() || hasDeferredQueries();
     }
 
     @Override
@@ -156,6 +163,12 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     public void commit(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
 
+        if (hasDeferredQueries()) {
+            // commit is sent together with deferred queries
+            commitDeferredQueries(ctx, validator);
+            return;
+        }
+
         if (tx == null || !tx.isActive()) {
             return;
         }
@@ -172,6 +185,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     @Override
     public void rollback(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
+        discardDeferredQueries();
 
         if (tx == null || !tx.isActive()) {
             return;
@@ -189,30 +203,30 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     }
 
     @Override
-    public List<ResultSetReader> executeDataQuery(
-            YdbContext ctx, YdbValidator validator, YdbQuery query, long timeout, boolean keepInCache, Params params
-    ) throws SQLException {
-        ensureOpened();
-
-        final String yql = query.getYqlQuery(params);
+    @SuppressWarnings("ParameterNumber")
+    protected List<ResultSetReader> executeQuery(YdbContext ctx, YdbValidator validator, String yql,
+            long timeout, boolean keepInCache, int maxRows, Params params, boolean commitTx) throws SQLException {
         ExecuteQuerySettings.Builder builder = ExecuteQuerySettings.newBuilder();
         if (timeout > 0) {
             builder = builder.withRequestTimeout(timeout, TimeUnit.SECONDS);
         }
         final ExecuteQuerySettings settings = builder.build();
 
+        if (tx == null && commitTx) {
+            // Single-shot query is executed in the implicit transaction, the session is released right after the call
+            try (QuerySession session = createNewQuerySession(validator)) {
+                return readQuery(validator, yql, session.createQuery(yql, txMode, params, settings), maxRows, true);
+            }
+        }
+
         if (tx == null) {
+            // Transaction is begun lazily together with its first query
             tx = createNewQuerySession(validator).createNewTransaction(txMode);
         }
 
         try {
-            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql,
-                    () -> QueryReader.readFrom(tx.createQuery(yql, isAutoCommit, params, settings))
-            );
-
-            List<ResultSetReader> readers = new ArrayList<>();
-            result.forEach(readers::add);
-            return readers;
+            // Cancelled stream aborts the transaction, so the rows over the limit are only skipped
+            return readQuery(validator, yql, tx.createQuery(yql, commitTx, params, settings), maxRows, false);
         } finally {
             if (!tx.isActive()) {
                 cleanTx();
@@ -220,6 +234,34 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
     }
 
+    private List<ResultSetReader> readQuery(YdbValidator validator, String yql, QueryStream stream, int maxRows,
+            boolean isCancelable) throws SQLException {
+        // Parts of result sets grouped by their indexes
+        Map<Long, List<ResultSetReader>> parts = new TreeMap<>();
+        AtomicInteger readRows = new AtomicInteger(0);
+        AtomicBoolean isLimitReached = new AtomicBoolean(false);
+
+        validator.onCancel(stream::cancel);
+        validator.execute(QueryType.DATA_QUERY + " >>\n" + yql, () -> stream.execute(part -> {
+            if (isLimitReached.get()) {
+                return;
+            }
+            parts.computeIfAbsent(part.getResultSetIndex(), idx -> new ArrayList<>()).add(part.getResultSetReader());
+            if (maxRows > 0 && readRows.addAndGet(part.getResultSetRowsCount()) >= maxRows) {
+                isLimitReached.set(true);
+                if (isCancelable) {
+                    stream.cancel();
+                }
+            }
+        }).thenApply(result -> isLimitReached.get() && isCancelable ? Status.SUCCESS : result.getStatus()));
+
+        List<ResultSetReader> readers = new ArrayList<>();
+        for (List<ResultSetReader> resultSet: parts.values()) {
+            readers.add(ProtoValueReaders.forResultSets(resultSet));
+        }
+        return readers;
+    }
+
     @Override
     public void executeSchemeQuery(YdbContext ctx, YdbValidator validator, YdbQuery query) throws SQLException {
         // Scheme query does not affect transactions or result sets
@@ -6,11 +6,14 @@ import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import tech.ydb.core.Result;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.query.QueryType;
-import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.table.Session;
+import tech.ydb.table.TableClient;
 import tech.ydb.table.query.DataQueryResult;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
@@ -28,12 +31,18 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     private volatile TxState tx;
 
     public TableServiceExecutor(YdbContext ctx, int transactionLevel, boolean autoCommit) throws SQLException {
-        super(ctx);
+        this(ctx.getOperationProperties(), ctx.getTableClient(), transactionLevel, autoCommit);
+    }
+
+    TableServiceExecutor(YdbOperationProperties operationProps, TableClient tableClient, int transactionLevel,
+            boolean autoCommit) throws SQLException {
+        super(operationProps, tableClient);
         this.tx = createTx(transactionLevel, autoCommit);
     }
 
     @Override
     public void close() {
+        discardDeferredQueries();
         tx = null;
     }
 
@@ -46,16 +55,25 @@ public class TableServiceExecutor extends BaseYdbExecutor {
 
     @Override
     public void setTransactionLevel(int level) throws SQLException {
+        if (level != tx.transactionLevel()) {
+            ensureNoDeferredQueries(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
+        }
         updateState(tx.withTransactionLevel(level));
     }
 
     @Override
     public void setReadOnly(boolean readOnly) throws SQLException {
+        if (readOnly != tx.isReadOnly()) {
+            ensureNoDeferredQueries(YdbConst.READONLY_INSIDE_TRANSACTION);
+        }
         updateState(tx.withReadOnly(readOnly));
     }
 
     @Override
     public void setAutoCommit(boolean autoCommit) throws SQLException {
+        if (autoCommit != tx.isAutoCommit()) {
+            ensureNoDeferredQueries(YdbConst.CHANGE_ISOLATION_INSIDE_TX);
+        }
         updateState(tx.withAutoCommit(autoCommit));
     }
 
@@ -72,7 +90,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     @Override
     public boolean isInsideTransaction() throws SQLException {
         ensureOpened();
-        return tx.isInsideTransaction();
+        return tx.isInsideTransaction() || hasDeferredQueries();
     }
 
     @Override
@@ -97,6 +115,12 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     public void commit(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
 
+        if (hasDeferredQueries()) {
+            // commit is sent together with deferred queries
+            commitDeferredQueries(ctx, validator);
+            return;
+        }
+
         if (!isInsideTransaction()) {
             return;
         }
@@ -118,6 +142,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     @Override
     public void rollback(YdbContext ctx, YdbValidator validator) throws SQLException {
         ensureOpened();
+        discardDeferredQueries();
 
         if (!isInsideTransaction()) {
             return;
@@ -152,17 +177,20 @@ public class TableServiceExecutor extends BaseYdbExecutor {
     }
 
     @Override
-    public List<ResultSetReader> executeDataQuery(
-            YdbContext ctx, YdbValidator validator, YdbQuery query, long timeout, boolean keepInCache, Params params
-    ) throws SQLException {
-        ensureOpened();
-
-        final String yql = query.getYqlQuery(params);
+    @SuppressWarnings("ParameterNumber")
+    protected List<ResultSetReader> executeQuery(YdbContext ctx, YdbValidator validator, String yql,
+            long timeout, boolean keepInCache, int maxRows, Params params, boolean commitTx) throws SQLException {
+        // Data query returns all rows in one response, the limit is applied by the result set
         final Session session = tx.getSession(validator);
+        final TxControl<?> txControl = tx.txControl().setCommitTx(commitTx);
+        final CompletableFuture<Result<DataQueryResult>> reply = session.executeDataQuery(
+                yql, txControl, params, dataQuerySettings(timeout, keepInCache)
+        );
         try {
+            // Validator cancels only the copy of the reply, the original one is completed by the server anyway
             DataQueryResult result = validator.call(
                     QueryType.DATA_QUERY + " >>\n" + yql,
-                    () -> session.executeDataQuery(yql, tx.txControl(), params, dataQuerySettings(timeout, keepInCache))
+                    () -> reply.thenApply(r -> r)
             );
             updateState(tx.withDataQuery(session, result.getTxId()));
 
@@ -173,7 +201,12 @@ public class TableServiceExecutor extends BaseYdbExecutor {
 
             return readers;
         } catch (SQLException | RuntimeException ex) {
-            updateState(tx.withRollback(session));
+            if (reply.isDone()) {
+                updateState(tx.withRollback(session));
+            } else {
+                // The query was abandoned by timeout or cancel, but the session is still busy on the server
+                updateState(tx.withAbandonedQuery(session, reply));
+            }
             throw ex;
         }
     }
@@ -297,6 +330,11 @@ public class TableServiceExecutor extends BaseYdbExecutor {
             return this;
         }
 
+        public TxState withAbandonedQuery(Session session, CompletableFuture<?> reply) {
+            reply.whenComplete((result, th) -> session.close());
+            return this;
+        }
+
         public TxState withDataQuery(Session session, String txID) {
             if (txID != null && !txID.isEmpty()) {
                 return new TransactionInProgress(txID, session, this);
@@ -360,6 +398,12 @@ public class TableServiceExecutor extends BaseYdbExecutor {
             return this;
         }
 
+        @Override
+        public TxState withAbandonedQuery(Session session, CompletableFuture<?> reply) {
+            reply.whenComplete((result, th) -> session.close());
+            return previos;
+        }
+
         @Override
         public TxState withDataQuery(Session session, String txID) {
             if (txID == null || txID.isEmpty()) {
@@ -4,8 +4,10 @@ import java.sql.SQLDataException;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,6 +20,7 @@ import tech.ydb.core.grpc.GrpcTransportBuilder;
 import tech.ydb.core.settings.BaseRequestSettings;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbPrepareMode;
+import tech.ydb.jdbc.common.SharedScheduler;
 import tech.ydb.jdbc.exception.ExceptionFactory;
 import tech.ydb.jdbc.query.JdbcParams;
 import tech.ydb.jdbc.query.JdbcQueryLexer;
@@ -25,6 +28,7 @@ import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.query.YdbQueryBuilder;
 import tech.ydb.jdbc.query.params.BatchedParams;
 import tech.ydb.jdbc.query.params.InMemoryParams;
+import tech.ydb.jdbc.query.params.LazyParams;
 import tech.ydb.jdbc.query.params.PreparedParams;
 import tech.ydb.jdbc.settings.YdbClientProperties;
 import tech.ydb.jdbc.settings.YdbConfig;
@@ -54,6 +58,8 @@ public class YdbContext implements AutoCloseable {
     private static final int SESSION_POOL_RESIZE_THRESHOLD = 10;
 
     private final YdbConfig config;
+    // context which owns transport, clients and caches, contexts of other configs are lightweight views of it
+    private final YdbContext owner;
 
     private final YdbOperationProperties operationProps;
     private final YdbQueryProperties queryOptions;
@@ -66,9 +72,17 @@ public class YdbContext implements AutoCloseable {
 
     private final Cache<String, YdbQuery> queriesCache;
     private final Cache<String, Map<String, Type>> queryParamsCache;
+    private final Cache<String, AtomicInteger> queryUsagesCache;
+    private final QueryResultsCache resultsCache;
 
     private final boolean autoResizeSessionPool;
-    private final AtomicInteger connectionsCount = new AtomicInteger();
+    private final AtomicInteger connectionsCount;
+
+    private volatile YdbContext readOnlyContext;
+    private volatile ExecutorService batchExecutor;
+    private SharedScheduler sharedScheduler;
+    private final ReentrantLock readOnlyLock = new ReentrantLock();
+    private final ReentrantLock batchLock = new ReentrantLock();
 
     private YdbContext(
             YdbConfig config,
@@ -80,10 +94,12 @@ public class YdbContext implements AutoCloseable {
             boolean autoResize
     ) {
         this.config = config;
+        this.owner = this;
 
         this.operationProps = operationProperties;
         this.queryOptions = queryProperties;
         this.autoResizeSessionPool = autoResize;
+        this.connectionsCount = new AtomicInteger();
 
         this.grpcTransport = transport;
         this.tableClient = tableClient;
@@ -95,10 +111,56 @@ public class YdbContext implements AutoCloseable {
         if (cacheSize > 0) {
             queriesCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
             queryParamsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+            queryUsagesCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
         } else {
             queriesCache = null;
             queryParamsCache = null;
+            queryUsagesCache = null;
         }
+
+        Duration ttl = config.getResultCacheTtl();
+        if (config.getResultCacheSize() > 0 && !ttl.isZero() && !ttl.isNegative()) {
+            resultsCache = new QueryResultsCache(config.getResultCacheSize(), ttl);
+        } else {
+            resultsCache = null;
+        }
+    }
+
+    private YdbContext(YdbContext owner, YdbConfig config, YdbOperationProperties operationProperties) {
+        this.config = config;
+        this.owner = owner;
+
+        this.operationProps = operationProperties;
+        this.queryOptions = owner.queryOptions;
+        this.autoResizeSessionPool = owner.autoResizeSessionPool;
+        this.connectionsCount = owner.connectionsCount;
+
+        this.grpcTransport = owner.grpcTransport;
+        this.tableClient = owner.tableClient;
+        this.queryClient = owner.queryClient;
+        this.schemeClient = owner.schemeClient;
+        this.retryCtx = owner.retryCtx;
+
+        this.queriesCache = owner.queriesCache;
+        this.queryParamsCache = owner.queryParamsCache;
+        this.queryUsagesCache = owner.queryUsagesCache;
+        this.resultsCache = owner.resultsCache;
+    }
+
+    /**
+     * Returns context for connections of the given config. Configs which differ only in operation properties share
+     * transport, session pools and query caches, so for such config the lightweight view of this context with own
+     * operation properties is created. View doesn't own any resources and must not be cached or closed.
+     *
+     * @param other config of connection, must be equal to config of this context
+     * @return this context or its view with operation properties of the given config
+     * @throws SQLException if operation properties cannot be parsed
+     */
+    public YdbContext withConfig(YdbConfig other) throws SQLException {
+        if (config.hasEqualOperationProperties(other)) {
+            return this;
+        }
+        return new YdbContext(owner, other, new YdbOperationProperties(other));
     }
 
     /**
@@ -142,6 +204,90 @@ public class YdbContext implements AutoCloseable {
         }
     }
 
+    public YdbExecutor createExecutor(int transactionLevel, boolean autoCommit, boolean readOnly) throws SQLException {
+        YdbExecutor executor = config.isUseQueryService()
+                ? new QueryServiceExecutor(this, transactionLevel, autoCommit)
+                : new TableServiceExecutor(this, transactionLevel, autoCommit);
+        if (executor.isReadOnly() != readOnly) {
+            executor.setReadOnly(readOnly);
+        }
+        return executor;
+    }
+
+    /**
+     * Context for read-only connections. If option useReadOnlyContext is enabled, read-only work is served by the
+     * dedicated context with own transport and session pool, so heavy reports cannot starve sessions of OLTP
+     * connections. Otherwise returns this context.
+     *
+     * @return context for read-only connections
+     * @throws SQLException if read-only context cannot be created
+     */
+    public YdbContext getReadOnlyContext() throws SQLException {
+        YdbContext ctx = readOnlyContext;
+        if (ctx == null) {
+            // lock instead of monitor, virtual threads are not pinned while the transport is initialized
+            readOnlyLock.lock();
+            try {
+                ctx = readOnlyContext;
+                if (ctx == null) {
+                    ctx = owner == this ? createContext(config, sharedScheduler, true) : createReadOnlyView();
+                    readOnlyContext = ctx;
+                }
+            } finally {
+                readOnlyLock.unlock();
+            }
+        }
+        return ctx;
+    }
+
+    /**
+     * Threads for concurrent execution of batch groups. Pool is created on the first use, shared by all connections
+     * of the context and stopped together with it. Threads are created on demand and stopped after idle timeout
+     *
+     * @return executor of batch groups
+     */
+    public ExecutorService getBatchExecutor() {
+        if (owner != this) {
+            return owner.getBatchExecutor();
+        }
+
+        ExecutorService pool = batchExecutor;
+        if (pool == null) {
+            batchLock.lock();
+            try {
+                pool = batchExecutor;
+                if (pool == null) {
+                    final String namePrefix = "ydb-jdbc-batch[" + config.hashCode() + "]-thread-";
+                    final AtomicInteger threadNumber = new AtomicInteger(1);
+                    pool = Executors.newCachedThreadPool((Runnable r) -> {
+                        Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+                        t.setDaemon(true);
+                        return t;
+                    });
+                    batchExecutor = pool;
+                }
+            } finally {
+                batchLock.unlock();
+            }
+        }
+        return pool;
+    }
+
+    private YdbContext createReadOnlyView() throws SQLException {
+        YdbContext readOnlyOwner = owner.getReadOnlyContext();
+        if (readOnlyOwner == owner) {
+            return this;
+        }
+        return new YdbContext(readOnlyOwner, config, operationProps);
+    }
+
+    /**
+     * @return cache of query results or null if cache is disabled
+     */
+    public QueryResultsCache getResultsCache() {
+        return resultsCache;
+    }
+
     public int getConnectionsCount() {
         return connectionsCount.get();
     }
@@ -152,6 +298,20 @@ public class YdbContext implements AutoCloseable {
 
     @Override
     public void close() {
+        if (owner != this) {
+            return;
+        }
+
+        YdbContext readOnly = readOnlyContext;
+        if (readOnly != null && readOnly != this) {
+            readOnly.close();
+        }
+
+        ExecutorService batch = batchExecutor;
+        if (batch != null) {
+            batch.shutdownNow();
+        }
+
         try {
             schemeClient.close();
             tableClient.close();
@@ -190,8 +350,29 @@ public class YdbContext implements AutoCloseable {
     }
 
     public static YdbContext createContext(YdbConfig config) throws SQLException {
+        return createContext(config, null, false);
+    }
+
+    /**
+     * Creates new context. If option useSharedScheduler is enabled, the transport of context uses the given shared
+     * scheduler instead of own threads
+     *
+     * @param config config of context
+     * @param scheduler scheduler shared by contexts or null
+     * @return new context
+     * @throws SQLException if context cannot be created
+     */
+    public static YdbContext createContext(YdbConfig config, SharedScheduler scheduler) throws SQLException {
+        return createContext(config, scheduler, false);
+    }
+
+    private static YdbContext createContext(YdbConfig config, SharedScheduler scheduler, boolean isReadOnly)
+            throws SQLException {
         try {
-            LOGGER.log(Level.INFO, "Creating new YDB connection to {0}", config.getConnectionString());
+            LOGGER.log(Level.INFO, "Creating new YDB {0}connection to {1}", new Object[] {
+                isReadOnly ? "read-only " : "",
+                config.getConnectionString()
+            });
 
             YdbConnectionProperties connProps = new YdbConnectionProperties(config);
             YdbClientProperties clientProps = new YdbClientProperties(config);
@@ -201,17 +382,23 @@ public class YdbContext implements AutoCloseable {
             GrpcTransportBuilder builder = GrpcTransport.forConnectionString(config.getConnectionString());
             connProps.applyToGrpcTransport(builder);
 
-            // Use custom single thread scheduler
-            // because JDBC driver doesn't need to execute retries except for DISCOVERY
-            builder.withSchedulerFactory(() -> {
-                final String namePrefix = "ydb-jdbc-scheduler[" + config.hashCode() + "]-thread-";
-                final AtomicInteger threadNumber = new AtomicInteger(1);
-                return Executors.newScheduledThreadPool(2, (Runnable r) -> {
-                    Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
-                    t.setDaemon(true);
-                    return t;
+            if (scheduler != null && config.isUseSharedScheduler()) {
+                // transport shuts down only own lease of the shared scheduler
+                builder.withSchedulerFactory(scheduler::acquire);
+            } else {
+                // Use custom single thread scheduler
+                // because JDBC driver doesn't need to execute retries except for DISCOVERY
+                builder.withSchedulerFactory(() -> {
+                    final String namePrefix = "ydb-jdbc-" + (isReadOnly ? "ro-" : "") + "scheduler["
+                            + config.hashCode() + "]-thread-";
+                    final AtomicInteger threadNumber = new AtomicInteger(1);
+                    return Executors.newScheduledThreadPool(2, (Runnable r) -> {
+                        Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+                        t.setDaemon(true);
+                        return t;
+                    });
                 });
-            });
+            }
 
             GrpcTransport grpcTransport = builder.build();
 
@@ -220,10 +407,17 @@ public class YdbContext implements AutoCloseable {
             );
             QueryClientImpl.Builder queryClient = QueryClientImpl.newClient(grpcTransport);
 
-            boolean autoResize = clientProps.applyToTableClient(tableClient, queryClient);
+            boolean autoResize = isReadOnly
+                    ? clientProps.applyToReadOnlyTableClient(tableClient, queryClient)
+                    : clientProps.applyToTableClient(tableClient, queryClient);
 
-            return new YdbContext(config, operationProps, queryProps, grpcTransport,
+            YdbContext ctx = new YdbContext(config, operationProps, queryProps, grpcTransport,
                     tableClient.build(), queryClient.build(), autoResize);
+            ctx.sharedScheduler = scheduler;
+            if (isReadOnly || !clientProps.isUseReadOnlyContext()) {
+                ctx.readOnlyContext = ctx;
+            }
+            return ctx;
         } catch (RuntimeException ex) {
             StringBuilder sb = new StringBuilder("Cannot connect to YDB: ").append(ex.getMessage());
             Throwable cause = ex.getCause();
@@ -273,22 +467,63 @@ public class YdbContext implements AutoCloseable {
         return cached;
     }
 
-    public JdbcParams findOrCreateJdbcParams(YdbQuery query, YdbPrepareMode mode) throws SQLException {
+    public JdbcParams findOrCreateJdbcParams(YdbValidator validator, YdbQuery query, YdbPrepareMode mode)
+            throws SQLException {
         if (query.hasIndexesParameters()
                 || mode == YdbPrepareMode.IN_MEMORY
                 || !queryOptions.iPrepareDataQueries()) {
-            return new InMemoryParams(query.getIndexesParameters());
+            return new InMemoryParams(query.getIndexesParameters(), query.getListParameters());
+        }
+
+        if (mode == YdbPrepareMode.AUTO && isLazyPrepared(query)) {
+            return new LazyParams(() -> prepareJdbcParams(validator, query, mode));
+        }
+
+        return prepareJdbcParams(validator, query, mode);
+    }
+
+    /**
+     * Checks if the query, which is not prepared yet, may be used without types of parameters. The query is prepared
+     * in background when its usages count reaches {@link YdbQueryProperties#getLazyPrepareThreshold() }, the count is
+     * reset after failed preparing to try again later.
+     *
+     * @param query query
+     * @return true if PreparedStatement of the query has to infer types of parameters from their values
+     */
+    private boolean isLazyPrepared(YdbQuery query) throws SQLException {
+        int threshold = queryOptions.getLazyPrepareThreshold();
+        if (threshold <= 0 || queryUsagesCache == null || queryParamsCache.getIfPresent(query.originSQL()) != null) {
+            return false;
         }
 
+        AtomicInteger usages = queryUsagesCache.asMap().computeIfAbsent(query.originSQL(), sql -> new AtomicInteger());
+        if (usages.incrementAndGet() == threshold) {
+            String yql = query.getYqlQuery(null);
+            PrepareDataQuerySettings settings = withDefaultTimeout(new PrepareDataQuerySettings());
+            retryCtx.supplyResult(session -> session.prepareDataQuery(yql, settings)).whenComplete((result, th) -> {
+                if (th == null && result.isSuccess()) {
+                    queryParamsCache.put(query.originSQL(), result.getValue().types());
+                    return;
+                }
+
+                usages.set(0);
+                Object reason = th != null ? th : result.getStatus();
+                LOGGER.log(Level.FINE, "Unable to prepare data query in background: {0}", reason);
+            });
+        }
+        return true;
+    }
+
+    private JdbcParams prepareJdbcParams(YdbValidator validator, YdbQuery query, YdbPrepareMode mode)
+            throws SQLException {
         String yql = query.getYqlQuery(null);
         PrepareDataQuerySettings settings = withDefaultTimeout(new PrepareDataQuerySettings());
         try {
             Map<String, Type> types = queryParamsCache.getIfPresent(query.originSQL());
             if (types == null) {
-                types = retryCtx.supplyResult(session -> session.prepareDataQuery(yql, settings))
-                        .join()
-                        .getValue()
-                        .types();
+                types = validator.join("Prepare data query",
+                        retryCtx.supplyResult(session -> session.prepareDataQuery(yql, settings))
+                ).getValue().types();
                 queryParamsCache.put(query.originSQL(), types);
             }
 
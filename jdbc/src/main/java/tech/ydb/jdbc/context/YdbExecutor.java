@@ -36,10 +36,10 @@ public interface YdbExecutor {
     void executeSchemeQuery(YdbContext ctx, YdbValidator validator, YdbQuery query) throws SQLException;
 
     List<ResultSetReader> executeDataQuery(YdbContext ctx, YdbValidator validator, YdbQuery query,
-            long timeout, boolean poolable, Params params) throws SQLException;
+            long timeout, boolean poolable, int maxRows, Params params) throws SQLException;
 
-    ResultSetReader executeScanQuery(YdbContext ctx, YdbValidator validator, YdbQuery query, Params params)
-            throws SQLException;
+    ResultSetReader executeScanQuery(YdbContext ctx, YdbValidator validator, YdbQuery query, int maxRows,
+            Params params) throws SQLException;
 
     ExplainDataQueryResult executeExplainQuery(YdbContext ctx, YdbValidator validator, YdbQuery query)
             throws SQLException;
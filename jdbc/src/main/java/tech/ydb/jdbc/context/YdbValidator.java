@@ -5,7 +5,11 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,6 +19,7 @@ import com.google.common.base.Stopwatch;
 import tech.ydb.core.Issue;
 import tech.ydb.core.Result;
 import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
 import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.jdbc.exception.ExceptionFactory;
 
@@ -26,11 +31,21 @@ public class YdbValidator {
     @SuppressWarnings("NonConstantLogger")
     private final Logger logger;
     private final boolean isDebug;
+    private final BlockingStrategy blocking;
     private final List<Issue> issues = new ArrayList<>();
 
+    private volatile int queryTimeout = 0;
+    private volatile CompletableFuture<?> inFlight = null;
+    private volatile Runnable cancelHook = null;
+
     public YdbValidator(Logger logger) {
+        this(logger, BlockingStrategy.INTERRUPTIBLE);
+    }
+
+    public YdbValidator(Logger logger, BlockingStrategy blocking) {
         this.logger = logger;
         this.isDebug = logger.isLoggable(Level.FINE);
+        this.blocking = blocking;
     }
 
     public SQLWarning toSQLWarnings() {
@@ -57,6 +72,40 @@ public class YdbValidator {
         this.issues.clear();
     }
 
+    /**
+     * Sets client side timeout of waiting for the operation result. The server side timeout of operation must be
+     * configured in request settings, client side timeout is used only to free threads blocked by stuck calls.
+     *
+     * @param seconds timeout in seconds, value 0 means no timeout
+     */
+    public void setQueryTimeout(int seconds) {
+        this.queryTimeout = seconds;
+    }
+
+    /**
+     * Registers action to cancel the next streaming call, the action is reset after the call completion
+     *
+     * @param hook action to cancel the gRPC stream
+     */
+    public void onCancel(Runnable hook) {
+        this.cancelHook = hook;
+    }
+
+    /**
+     * Cancels the current in-flight operation. Thread which waits for the result receives {@link SQLException}
+     * immediately, streaming calls are cancelled on the gRPC level.
+     */
+    public void cancel() {
+        Runnable hook = cancelHook;
+        if (hook != null) {
+            hook.run();
+        }
+        CompletableFuture<?> future = inFlight;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
     public void execute(String msg, Supplier<CompletableFuture<Status>> fn) throws SQLException {
         if (!isDebug) {
             runImpl(msg, fn);
@@ -93,8 +142,22 @@ public class YdbValidator {
         }
     }
 
+    /**
+     * Waits for the result of the asynchronous operation. The wait is limited by query timeout and may be cancelled
+     * by {@link #cancel()} or by the interruption of the current thread
+     *
+     * @param <T> type of result
+     * @param msg description of operation
+     * @param future operation to wait
+     * @return result of the operation
+     * @throws SQLException if waiting was cancelled or timed out
+     */
+    public <T> T join(String msg, CompletableFuture<T> future) throws SQLException {
+        return waitResult(msg, future);
+    }
+
     private void runImpl(String msg, Supplier<CompletableFuture<Status>> fn) throws SQLException {
-        Status status = fn.get().join();
+        Status status = waitResult(msg, fn.get());
         addStatusIssues(status);
 
         if (!status.isSuccess()) {
@@ -105,7 +168,7 @@ public class YdbValidator {
 
     private <R> R callImpl(String msg, Supplier<CompletableFuture<Result<R>>> fn) throws SQLException {
         try {
-            Result<R> result = fn.get().join();
+            Result<R> result = waitResult(msg, fn.get());
             addStatusIssues(result.getStatus());
             return result.getValue();
         } catch (UnexpectedResultException ex) {
@@ -113,4 +176,37 @@ public class YdbValidator {
         }
     }
 
+    private <T> T waitResult(String msg, CompletableFuture<T> future) throws SQLException {
+        inFlight = future;
+        try {
+            int timeout = queryTimeout;
+            // server must fail the operation first, so the client deadline has additional gap
+            return blocking.await(future, timeout > 0 ? timeout + 1 : 0, TimeUnit.SECONDS);
+        } catch (TimeoutException ex) {
+            cancel();
+            throw clientException(msg, StatusCode.CLIENT_DEADLINE_EXPIRED);
+        } catch (CancellationException ex) {
+            throw clientException(msg, StatusCode.CLIENT_CANCELLED);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw clientException(msg, StatusCode.CLIENT_CANCELLED);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new SQLException(cause.getMessage(), cause);
+        } finally {
+            inFlight = null;
+            cancelHook = null;
+        }
+    }
+
+    private static SQLException clientException(String msg, StatusCode code) {
+        Status status = Status.of(code);
+        return ExceptionFactory.createException("Cannot execute '" + msg + "' with " + status,
+                new UnexpectedResultException("Unexpected status", status));
+    }
+
 }
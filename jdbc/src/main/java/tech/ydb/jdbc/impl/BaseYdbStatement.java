@@ -15,6 +15,7 @@ import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.ColumnarResultSet;
 import tech.ydb.jdbc.common.FixedResultSetFactory;
 import tech.ydb.jdbc.context.YdbValidator;
 import tech.ydb.jdbc.query.YdbExpression;
@@ -43,11 +44,14 @@ public abstract class BaseYdbStatement implements YdbStatement {
     private final YdbConnection connection;
     private final YdbValidator validator;
     private final int resultSetType;
-    private final int maxRows;
+    private final int defaultFetchSize;
     private final boolean failOnTruncatedResult;
+    private final boolean useColumnarResults;
 
     private ResultState state = EMPTY_STATE;
     private int queryTimeout;
+    private int maxRows = 0;
+    private int fetchSize;
     private boolean isPoolable;
     private boolean isClosed = false;
 
@@ -59,8 +63,11 @@ public abstract class BaseYdbStatement implements YdbStatement {
 
         YdbOperationProperties props = connection.getCtx().getOperationProperties();
         this.queryTimeout = (int) props.getQueryTimeout().getSeconds();
-        this.maxRows = props.getMaxRows();
+        this.validator.setQueryTimeout(queryTimeout);
+        this.defaultFetchSize = props.getMaxRows();
+        this.fetchSize = defaultFetchSize;
         this.failOnTruncatedResult = props.isFailOnTruncatedResult();
+        this.useColumnarResults = props.isUseColumnarResults();
     }
 
     @Override
@@ -69,7 +76,8 @@ public abstract class BaseYdbStatement implements YdbStatement {
     }
 
     @Override
-    public void close() {
+    public void close() throws SQLException {
+        state.close();
         isClosed = true;
     }
 
@@ -102,6 +110,7 @@ public abstract class BaseYdbStatement implements YdbStatement {
     public void setQueryTimeout(int seconds) throws SQLException {
         ensureOpened();
         queryTimeout = seconds;
+        validator.setQueryTimeout(seconds);
     }
 
     @Override
@@ -120,8 +129,12 @@ public abstract class BaseYdbStatement implements YdbStatement {
     }
 
     @Override
-    public void setMaxRows(int max) {
-        // has not effect
+    public void setMaxRows(int max) throws SQLException {
+        ensureOpened();
+        if (max < 0) {
+            throw new SQLException(YdbConst.INVALID_MAX_ROWS + max);
+        }
+        maxRows = max;
     }
 
     @Override
@@ -154,9 +167,22 @@ public abstract class BaseYdbStatement implements YdbStatement {
         }
     }
 
+    /**
+     * Resets results and settings of the statement before its reuse from the statements cache
+     *
+     * @throws SQLException if statement is closed
+     */
+    void reset() throws SQLException {
+        cleanState();
+        setQueryTimeout((int) connection.getCtx().getOperationProperties().getQueryTimeout().getSeconds());
+        maxRows = 0;
+        fetchSize = defaultFetchSize;
+    }
+
     protected void cleanState() throws SQLException {
         ensureOpened();
         clearWarnings();
+        state.close();
         state = EMPTY_STATE;
     }
 
@@ -190,13 +216,13 @@ public abstract class BaseYdbStatement implements YdbStatement {
     }
 
     protected List<YdbResult> executeScanQuery(YdbQuery query, Params params) throws SQLException {
-        ResultSetReader result = connection.executeScanQuery(query, validator, params);
-        return Collections.singletonList(new YdbResult(new YdbResultSetImpl(this, result)));
+        ResultSetReader result = connection.executeScanQuery(query, validator, maxRows, params);
+        return Collections.singletonList(new YdbResult(createResultSet(result)));
     }
 
     protected List<YdbResult> executeDataQuery(YdbQuery query, Params params) throws SQLException {
         List<ResultSetReader> resultSets = connection
-                .executeDataQuery(query, validator, getQueryTimeout(), isPoolable(), params);
+                .executeDataQuery(query, validator, getQueryTimeout(), isPoolable(), maxRows, params);
 
         List<YdbResult> results = new ArrayList<>();
         int idx = 0;
@@ -216,7 +242,7 @@ public abstract class BaseYdbStatement implements YdbStatement {
                     String msg = String.format(YdbConst.RESULT_IS_TRUNCATED, idx, rs.getRowCount());
                     throw new SQLException(msg);
                 }
-                results.add(new YdbResult(new YdbResultSetImpl(this, rs)));
+                results.add(new YdbResult(createResultSet(rs)));
                 idx++;
             }
         }
@@ -227,13 +253,20 @@ public abstract class BaseYdbStatement implements YdbStatement {
                 String msg = String.format(YdbConst.RESULT_IS_TRUNCATED, idx, rs.getRowCount());
                 throw new SQLException(msg);
             }
-            results.add(new YdbResult(new YdbResultSetImpl(this, rs)));
+            results.add(new YdbResult(createResultSet(rs)));
             idx++;
         }
 
         return results;
     }
 
+    private YdbResultSet createResultSet(ResultSetReader rs) {
+        if (useColumnarResults) {
+            return new YdbResultSetImpl(this, ColumnarResultSet.decode(rs), maxRows);
+        }
+        return new YdbResultSetImpl(this, rs, maxRows);
+    }
+
     // UNSUPPORTED
     @Override
     public void setCursorName(String name) throws SQLFeatureNotSupportedException {
@@ -277,7 +310,7 @@ public abstract class BaseYdbStatement implements YdbStatement {
 
     @Override
     public void cancel() {
-        // has not effect
+        validator.cancel();
     }
 
     @Override
@@ -298,14 +331,25 @@ public abstract class BaseYdbStatement implements YdbStatement {
         return ResultSet.FETCH_FORWARD;
     }
 
+    /**
+     * Fetch size is only a hint, it is stored and reported back by {@link #getFetchSize()}, but results are always
+     * read by the parts chosen by the server
+     *
+     * @param rows the number of rows to fetch, value 0 resets the default
+     * @throws SQLException if statement is closed or value is negative
+     */
     @Override
-    public void setFetchSize(int rows) {
-        // has not effect
+    public void setFetchSize(int rows) throws SQLException {
+        ensureOpened();
+        if (rows < 0) {
+            throw new SQLException(YdbConst.INVALID_FETCH_SIZE + rows);
+        }
+        fetchSize = rows > 0 ? rows : defaultFetchSize;
     }
 
     @Override
     public int getFetchSize() {
-        return getMaxRows();
+        return fetchSize;
     }
 
     @Override
@@ -337,6 +381,17 @@ public abstract class BaseYdbStatement implements YdbStatement {
             this.resultIndex = 0;
         }
 
+        void close() throws SQLException {
+            if (results == null) {
+                return;
+            }
+            for (YdbResult result: results) {
+                if (result.resultSet != null) {
+                    result.resultSet.close();
+                }
+            }
+        }
+
         boolean hasResultSets() {
             if (results == null || resultIndex >= results.size()) {
                 return false;
@@ -0,0 +1,65 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tech.ydb.jdbc.YdbStatement;
+
+/**
+ * LRU cache of idle prepared statements of the pooled connection. Evicted statements are closed outside of the lock
+ *
+ * @param <K> type of statement key
+ */
+class StatementsCache<K> {
+    private final int maxSize;
+    private final LinkedHashMap<K, YdbStatement> idle;
+
+    StatementsCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    synchronized int size() {
+        return idle.size();
+    }
+
+    synchronized YdbStatement take(K key) {
+        return idle.remove(key);
+    }
+
+    void put(K key, YdbStatement statement) throws SQLException {
+        List<YdbStatement> evicted = new ArrayList<>();
+        synchronized (this) {
+            YdbStatement old = maxSize > 0 ? idle.put(key, statement) : statement;
+            if (old != null) {
+                evicted.add(old);
+            }
+
+            Iterator<Map.Entry<K, YdbStatement>> it = idle.entrySet().iterator();
+            while (idle.size() > maxSize && it.hasNext()) {
+                evicted.add(it.next().getValue());
+                it.remove();
+            }
+        }
+
+        for (YdbStatement st: evicted) {
+            st.close();
+        }
+    }
+
+    void clear() throws SQLException {
+        List<YdbStatement> evicted;
+        synchronized (this) {
+            evicted = new ArrayList<>(idle.values());
+            idle.clear();
+        }
+
+        for (YdbStatement st: evicted) {
+            st.close();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.Objects;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.common.TypeDescription;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+
+/**
+ * Array of YDB list. Lists of required numeric and boolean items are read into arrays of primitives (int[], long[],
+ * double[] and so on) without boxing, lists of other types are read into typed arrays of objects like
+ * {@link ResultSet#getObject(int) } does.
+ */
+public class YdbArrayImpl implements Array {
+    private final ListType type;
+    private final Object array;
+    private final int length;
+
+    public YdbArrayImpl(Type itemType, Object array) {
+        this.type = ListType.of(Objects.requireNonNull(itemType));
+        this.array = Objects.requireNonNull(array);
+        this.length = java.lang.reflect.Array.getLength(array);
+    }
+
+    public ListType getListType() {
+        return type;
+    }
+
+    @Override
+    public String getBaseTypeName() {
+        return type.getItemType().toString();
+    }
+
+    @Override
+    public int getBaseType() {
+        return YdbTypesImpl.getInstance().toSqlType(type.getItemType());
+    }
+
+    @Override
+    public Object getArray() {
+        return array;
+    }
+
+    @Override
+    public Object getArray(Map<String, Class<?>> map) throws SQLException {
+        checkTypeMap(map);
+        return getArray();
+    }
+
+    @Override
+    public Object getArray(long index, int count) throws SQLException {
+        if (index < 1 || count < 0 || index - 1 + count > length) {
+            throw new SQLException(YdbConst.INVALID_ARRAY_RANGE + index + ", " + count);
+        }
+        Object slice = java.lang.reflect.Array.newInstance(array.getClass().getComponentType(), count);
+        System.arraycopy(array, (int) index - 1, slice, 0, count);
+        return slice;
+    }
+
+    @Override
+    public Object getArray(long index, int count, Map<String, Class<?>> map) throws SQLException {
+        checkTypeMap(map);
+        return getArray(index, count);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        throw new SQLFeatureNotSupportedException(YdbConst.ARRAY_RESULT_SET_UNSUPPORTED);
+    }
+
+    @Override
+    public ResultSet getResultSet(Map<String, Class<?>> map) throws SQLException {
+        throw new SQLFeatureNotSupportedException(YdbConst.ARRAY_RESULT_SET_UNSUPPORTED);
+    }
+
+    @Override
+    public ResultSet getResultSet(long index, int count) throws SQLException {
+        throw new SQLFeatureNotSupportedException(YdbConst.ARRAY_RESULT_SET_UNSUPPORTED);
+    }
+
+    @Override
+    public ResultSet getResultSet(long index, int count, Map<String, Class<?>> map) throws SQLException {
+        throw new SQLFeatureNotSupportedException(YdbConst.ARRAY_RESULT_SET_UNSUPPORTED);
+    }
+
+    @Override
+    public void free() {
+        // nothing to free
+    }
+
+    private static void checkTypeMap(Map<String, Class<?>> map) throws SQLException {
+        if (map != null && !map.isEmpty()) {
+            throw new SQLFeatureNotSupportedException(YdbConst.OBJECT_TYPED_UNSUPPORTED);
+        }
+    }
+
+    /**
+     * Reads list value
+     *
+     * @param type type of list
+     * @param reader reader of list value
+     * @return array with all items of list
+     * @throws SQLException if items cannot be read
+     */
+    static YdbArrayImpl read(ListType type, ValueReader reader) throws SQLException {
+        Type itemType = type.getItemType();
+        int count = reader.getListItemsCount();
+
+        if (itemType.getKind() == Type.Kind.PRIMITIVE) {
+            Object primitives = readPrimitives((PrimitiveType) itemType, reader, count);
+            if (primitives != null) {
+                return new YdbArrayImpl(itemType, primitives);
+            }
+        }
+
+        TypeDescription description = TypeDescription.of(itemType);
+        Class<?> javaType = description.sqlType().getJavaType();
+        Object[] items = (Object[]) java.lang.reflect.Array.newInstance(javaType, count);
+        for (int idx = 0; idx < count; idx++) {
+            ValueReader item = reader.getListItem(idx);
+            if (!description.isOptional() || item.isOptionalItemPresent()) {
+                items[idx] = description.getters().readObject(item);
+            }
+        }
+        return new YdbArrayImpl(itemType, items);
+    }
+
+    private static Object readPrimitives(PrimitiveType itemType, ValueReader reader, int count) {
+        switch (itemType) {
+            case Bool: {
+                boolean[] values = new boolean[count];
+                for (int idx = 0; idx < count; idx++) {
+                    values[idx] = reader.getListItem(idx).getBool();
+                }
+                return values;
+            }
+            case Int8: {
+                byte[] values = new byte[count];
+                for (int idx = 0; idx < count; idx++) {
+                    values[idx] = reader.getListItem(idx).getInt8();
+                }
+                return values;
+            }
+            case Int16: {
+                short[] values = new short[count];
+                for (int idx = 0; idx < count; idx++) {
+                    values[idx] = reader.getListItem(idx).getInt16();
+                }
+                return values;
+            }
+            case Uint8:
+            case Uint16:
+            case Int32: {
+                int[] values = new int[count];
+                for (int idx = 0; idx < count; idx++) {
+                    ValueReader item = reader.getListItem(idx);
+                    values[idx] = itemType == PrimitiveType.Int32 ? item.getInt32()
+                            : itemType == PrimitiveType.Uint16 ? item.getUint16() : item.getUint8();
+                }
+                return values;
+            }
+            case Uint32:
+            case Int64:
+            case Uint64: {
+                long[] values = new long[count];
+                for (int idx = 0; idx < count; idx++) {
+                    ValueReader item = reader.getListItem(idx);
+                    values[idx] = itemType == PrimitiveType.Int64 ? item.getInt64()
+                            : itemType == PrimitiveType.Uint64 ? item.getUint64() : item.getUint32();
+                }
+                return values;
+            }
+            case Float: {
+                float[] values = new float[count];
+                for (int idx = 0; idx < count; idx++) {
+                    values[idx] = reader.getListItem(idx).getFloat();
+                }
+                return values;
+            }
+            case Double: {
+                double[] values = new double[count];
+                for (int idx = 0; idx < count; idx++) {
+                    values[idx] = reader.getListItem(idx).getDouble();
+                }
+                return values;
+            }
+            default:
+                return null;
+        }
+    }
+}
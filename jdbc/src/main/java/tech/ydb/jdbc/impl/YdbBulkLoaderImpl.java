@@ -0,0 +1,282 @@
+package tech.ydb.jdbc.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import tech.ydb.core.Status;
+import tech.ydb.jdbc.YdbBulkLoader;
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.common.CsvReader;
+import tech.ydb.jdbc.common.TextValueParsers;
+import tech.ydb.jdbc.context.SchemeExecutor;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.table.SessionRetryContext;
+import tech.ydb.table.description.TableColumn;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.settings.BulkUpsertSettings;
+import tech.ydb.table.settings.DescribeTableSettings;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+public class YdbBulkLoaderImpl implements YdbBulkLoader {
+    private static final Logger LOGGER = Logger.getLogger(YdbBulkLoaderImpl.class.getName());
+
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private final YdbContext ctx;
+    private final YdbValidator validator;
+    private final String tableName;
+    private final String tablePath;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    public YdbBulkLoaderImpl(YdbContext ctx, String tableName) {
+        this.ctx = ctx;
+        this.validator = new YdbValidator(LOGGER);
+        this.tableName = tableName;
+        this.tablePath = tableName.startsWith("/") ? tableName
+                : YdbDatabaseMetaDataImpl.withSuffix(ctx.getDatabase()) + tableName;
+    }
+
+    @Override
+    public YdbBulkLoader withChunkSize(int rowsCount) throws SQLException {
+        if (rowsCount <= 0) {
+            throw new SQLException(String.format(YdbConst.INVALID_BULK_LOAD_OPTION, "chunk size", rowsCount));
+        }
+        this.chunkSize = rowsCount;
+        return this;
+    }
+
+    @Override
+    public YdbBulkLoader withParallelism(int requestsCount) throws SQLException {
+        if (requestsCount <= 0) {
+            throw new SQLException(String.format(YdbConst.INVALID_BULK_LOAD_OPTION, "parallelism", requestsCount));
+        }
+        this.parallelism = requestsCount;
+        return this;
+    }
+
+    @Override
+    public long loadCsv(Reader reader) throws SQLException {
+        CsvReader csv = new CsvReader(reader);
+        try {
+            String[] header = csv.readRecord();
+            if (header == null) {
+                return 0;
+            }
+
+            RowParser parser = new RowParser(describeColumns(), header);
+            Uploader uploader = new Uploader();
+            try {
+                String[] record = csv.readRecord();
+                while (record != null) {
+                    uploader.add(parser.parse(csv.getLineNumber(), record));
+                    record = csv.readRecord();
+                }
+                return uploader.finish();
+            } finally {
+                uploader.cancel();
+            }
+        } catch (IOException ex) {
+            throw new SQLException(YdbConst.CANNOT_LOAD_DATA_FROM_READER + ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public long loadJsonLines(Reader reader) throws SQLException {
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        try {
+            Map<String, Type> columns = describeColumns();
+            RowParser parser = null;
+            Uploader uploader = new Uploader();
+            try {
+                long lineNumber = 0;
+                String line = lines.readLine();
+                while (line != null) {
+                    lineNumber++;
+                    if (!line.trim().isEmpty()) {
+                        JsonObject json = parseJsonObject(lineNumber, line);
+                        if (parser == null) {
+                            parser = new RowParser(columns, json.keySet().toArray(new String[0]));
+                        }
+                        uploader.add(parser.parse(lineNumber, parser.readJson(lineNumber, json)));
+                    }
+                    line = lines.readLine();
+                }
+                return uploader.finish();
+            } finally {
+                uploader.cancel();
+            }
+        } catch (IOException ex) {
+            throw new SQLException(YdbConst.CANNOT_LOAD_DATA_FROM_READER + ex.getMessage(), ex);
+        }
+    }
+
+    private static JsonObject parseJsonObject(long lineNumber, String line) throws SQLException {
+        try {
+            JsonElement json = JsonParser.parseString(line);
+            if (!json.isJsonObject()) {
+                throw new SQLDataException(String.format(YdbConst.CANNOT_LOAD_DATA, lineNumber, "not a JSON object"));
+            }
+            return json.getAsJsonObject();
+        } catch (JsonParseException ex) {
+            throw new SQLDataException(String.format(YdbConst.CANNOT_LOAD_DATA, lineNumber, ex.getMessage()), ex);
+        }
+    }
+
+    private Map<String, Type> describeColumns() throws SQLException {
+        SchemeExecutor executor = new SchemeExecutor(ctx);
+        DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
+        TableDescription description = validator.call("Describe table " + tableName,
+                () -> executor.describeTable(tablePath, settings));
+
+        Map<String, Type> columns = new HashMap<>();
+        for (TableColumn column: description.getColumns()) {
+            columns.put(column.getName(), column.getType());
+        }
+        return columns;
+    }
+
+    /**
+     * Converts the text fields to the struct value, fields are in the order of the source columns
+     */
+    private class RowParser {
+        private final String[] names;
+        private final StructType structType;
+        private final int[] memberIndexes;
+        private final TextValueParsers.Parser[] parsers;
+
+        RowParser(Map<String, Type> columns, String[] names) throws SQLException {
+            this.names = names;
+            List<Type> types = new ArrayList<>();
+            for (String name: names) {
+                if (!columns.containsKey(name)) {
+                    throw new SQLDataException(String.format(YdbConst.BULK_LOAD_COLUMN_NOT_FOUND, tableName, name));
+                }
+                types.add(columns.get(name));
+            }
+
+            this.structType = StructType.of(Arrays.asList(names), types);
+            this.memberIndexes = new int[names.length];
+            this.parsers = new TextValueParsers.Parser[names.length];
+            for (int idx = 0; idx < names.length; idx++) {
+                memberIndexes[idx] = structType.getMemberIndex(names[idx]);
+                parsers[idx] = TextValueParsers.of(types.get(idx));
+            }
+        }
+
+        String[] readJson(long lineNumber, JsonObject json) throws SQLException {
+            String[] fields = new String[names.length];
+            int keysCount = 0;
+            for (int idx = 0; idx < names.length; idx++) {
+                JsonElement value = json.get(names[idx]);
+                if (value == null) {
+                    continue;
+                }
+                keysCount++;
+                if (!value.isJsonNull()) {
+                    fields[idx] = value.isJsonPrimitive() ? value.getAsString() : value.toString();
+                }
+            }
+
+            if (keysCount < json.size()) {
+                throw new SQLDataException(String.format(YdbConst.CANNOT_LOAD_DATA, lineNumber,
+                        "object has keys not present in the first line " + json.keySet()));
+            }
+            return fields;
+        }
+
+        Value<?> parse(long lineNumber, String[] fields) throws SQLException {
+            if (fields.length > names.length) {
+                throw new SQLDataException(String.format(YdbConst.CANNOT_LOAD_DATA, lineNumber,
+                        "expected " + names.length + " fields but found " + fields.length));
+            }
+
+            Value<?>[] members = new Value<?>[names.length];
+            try {
+                for (int idx = 0; idx < names.length; idx++) {
+                    String text = idx < fields.length ? fields[idx] : null;
+                    members[memberIndexes[idx]] = parsers[idx].parse(text);
+                }
+            } catch (SQLDataException ex) {
+                throw new SQLDataException(String.format(YdbConst.CANNOT_LOAD_DATA, lineNumber, ex.getMessage()), ex);
+            }
+            return structType.newValueUnsafe(members);
+        }
+    }
+
+    /**
+     * Uploads chunks of rows, no more than {@code parallelism} requests are in flight at the same time
+     */
+    private class Uploader {
+        private final SessionRetryContext retryCtx = SessionRetryContext.create(ctx.getTableClient()).build();
+        private final BulkUpsertSettings settings = ctx.withDefaultTimeout(new BulkUpsertSettings());
+        private final Deque<CompletableFuture<Status>> inFlight = new ArrayDeque<>();
+
+        private List<Value<?>> chunk = new ArrayList<>();
+        private long rowsCount = 0;
+
+        void add(Value<?> row) throws SQLException {
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        long finish() throws SQLException {
+            flush();
+            while (!inFlight.isEmpty()) {
+                waitOldest();
+            }
+            return rowsCount;
+        }
+
+        void cancel() {
+            for (CompletableFuture<Status> future: inFlight) {
+                future.cancel(false);
+            }
+            inFlight.clear();
+        }
+
+        private void flush() throws SQLException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            while (inFlight.size() >= parallelism) {
+                waitOldest();
+            }
+
+            ListValue rows = ListValue.of(chunk.toArray(new Value<?>[0]));
+            rowsCount += chunk.size();
+            chunk = new ArrayList<>();
+            inFlight.add(retryCtx.supplyStatus(session -> session.executeBulkUpsert(tablePath, rows, settings)));
+        }
+
+        private void waitOldest() throws SQLException {
+            CompletableFuture<Status> future = inFlight.poll();
+            validator.execute("Bulk upsert to " + tableName, () -> future);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.Clob;
+import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -21,6 +22,7 @@ import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import tech.ydb.jdbc.YdbBulkLoader;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbDatabaseMetaData;
@@ -28,6 +30,7 @@ import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbPreparedStatement;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.YdbTypes;
+import tech.ydb.jdbc.context.QueryResultsCache;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
 import tech.ydb.jdbc.context.YdbValidator;
@@ -39,13 +42,15 @@ import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.table.query.ExplainDataQueryResult;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.Type;
 
 public class YdbConnectionImpl implements YdbConnection {
     private static final Logger LOGGER = Logger.getLogger(YdbConnectionImpl.class.getName());
 
     private final YdbContext ctx;
     private final YdbValidator validator;
-    private final YdbExecutor executor;
+    private YdbContext executorCtx;
+    private YdbExecutor executor;
     private final FakeTxMode scanQueryTxMode;
     private final FakeTxMode schemeQueryTxMode;
 
@@ -58,9 +63,47 @@ public class YdbConnectionImpl implements YdbConnection {
 
         this.validator = new YdbValidator(LOGGER);
         this.executor = ctx.createExecutor();
+        this.executorCtx = ctx;
+        try {
+            routeExecutor();
+        } catch (SQLException | RuntimeException ex) {
+            // connection is not created, so it must not be counted by the context
+            executor.close();
+            throw ex;
+        }
         this.ctx.register();
     }
 
+    /**
+     * Moves connection to the read-only context and back, when read-only flag is changed outside of transaction
+     */
+    private void routeExecutor() throws SQLException {
+        if (executor.isInsideTransaction()) {
+            return;
+        }
+
+        YdbContext target = executor.isReadOnly() ? ctx.getReadOnlyContext() : ctx;
+        if (target == executorCtx) {
+            return;
+        }
+
+        LOGGER.log(Level.FINE, "Route connection to {0} context", target == ctx ? "main" : "read-only");
+        YdbExecutor routed = target.createExecutor(
+                executor.transactionLevel(), executor.isAutoCommit(), executor.isReadOnly()
+        );
+
+        executor.close();
+        if (executorCtx != ctx) {
+            executorCtx.deregister();
+        }
+        if (target != ctx) {
+            target.register();
+        }
+
+        executor = routed;
+        executorCtx = target;
+    }
+
     @Override
     public YdbStatement createStatement() throws SQLException {
         return createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY,
@@ -121,6 +164,9 @@ public class YdbConnectionImpl implements YdbConnection {
         commit(); // like Oracle
         validator.clearWarnings();
         executor.close();
+        if (executorCtx != ctx) {
+            executorCtx.deregister();
+        }
         ctx.deregister();
     }
 
@@ -140,6 +186,7 @@ public class YdbConnectionImpl implements YdbConnection {
             return;
         }
         executor.setReadOnly(readOnly);
+        routeExecutor();
     }
 
     @Override
@@ -165,6 +212,7 @@ public class YdbConnectionImpl implements YdbConnection {
 
         LOGGER.log(Level.FINE, "Set transaction isolation level: {0}", level);
         executor.setTransactionLevel(level);
+        routeExecutor();
     }
 
     @Override
@@ -207,12 +255,34 @@ public class YdbConnectionImpl implements YdbConnection {
 
     @Override
     public List<ResultSetReader> executeDataQuery(YdbQuery query, YdbValidator validator,
-            int timeout, boolean poolable, Params params) throws SQLException {
-        return executor.executeDataQuery(ctx, validator, query, timeout, poolable, params);
+            int timeout, boolean poolable, int maxRows, Params params) throws SQLException {
+        QueryResultsCache cache = ctx.getResultsCache();
+        if (cache == null || !isResultCacheAllowed(query)) {
+            return executor.executeDataQuery(ctx, validator, query, timeout, poolable, maxRows, params);
+        }
+
+        List<ResultSetReader> cached = cache.get(query, params);
+        if (cached != null) {
+            return cached;
+        }
+        // cached results may be reused by statements with another limit, so they are always read completely
+        return cache.put(query, params, executor.executeDataQuery(ctx, validator, query, timeout, poolable, 0, params));
+    }
+
+    private boolean isResultCacheAllowed(YdbQuery query) throws SQLException {
+        // results of another transaction must not be visible inside of the active one
+        if (!executor.isAutoCommit() && executor.isInsideTransaction()) {
+            return false;
+        }
+        // stale results are acceptable only for read-only transaction levels or for explicitly marked queries
+        boolean isAllowed = query.isResultCacheHinted()
+                || executor.transactionLevel() != Connection.TRANSACTION_SERIALIZABLE;
+        return isAllowed && QueryResultsCache.isCacheable(query);
     }
 
     @Override
-    public ResultSetReader executeScanQuery(YdbQuery query, YdbValidator validator, Params params) throws SQLException {
+    public ResultSetReader executeScanQuery(YdbQuery query, YdbValidator validator, int maxRows, Params params)
+            throws SQLException {
         executor.ensureOpened();
 
         if (executor.isInsideTransaction()) {
@@ -228,7 +298,7 @@ public class YdbConnectionImpl implements YdbConnection {
             }
         }
 
-        return executor.executeScanQuery(ctx, validator, query, params);
+        return executor.executeScanQuery(ctx, validator, query, maxRows, params);
     }
 
     @Override
@@ -311,10 +381,16 @@ public class YdbConnectionImpl implements YdbConnection {
             throw new SQLException(YdbConst.UNSUPPORTED_QUERY_TYPE_IN_PS + query.type());
         }
 
-        JdbcParams params = ctx.findOrCreateJdbcParams(query, mode);
+        JdbcParams params = ctx.findOrCreateJdbcParams(validator, query, mode);
         return new YdbPreparedStatementImpl(this, query, params, resultSetType);
     }
 
+    @Override
+    public YdbBulkLoader createBulkLoader(String tableName) throws SQLException {
+        executor.ensureOpened();
+        return new YdbBulkLoaderImpl(ctx, tableName);
+    }
+
     @Override
     public boolean isValid(int timeout) throws SQLException {
         return executor.isValid(validator, timeout);
@@ -433,7 +509,11 @@ public class YdbConnectionImpl implements YdbConnection {
 
     @Override
     public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
-        throw new SQLFeatureNotSupportedException(YdbConst.ARRAYS_UNSUPPORTED);
+        Type itemType = getYdbTypes().toYdbType(typeName);
+        if (itemType == null) {
+            throw new SQLException(YdbConst.ARRAY_TYPE_UNKNOWN + typeName);
+        }
+        return new YdbArrayImpl(itemType, elements);
     }
 
     @Override
@@ -0,0 +1,132 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.YdbConst;
+
+/**
+ * Bounded pool of physical connections. Physical connections are created on demand, idle connections are reused in
+ * LIFO order, so the recently used connection with warm statements cache is returned first.
+ */
+public class YdbConnectionPool implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(YdbConnectionPool.class.getName());
+
+    public interface Factory {
+        YdbPooledConnection create() throws SQLException;
+    }
+
+    private final Factory factory;
+    private final Semaphore permits;
+    private final Deque<YdbPooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final ConnectionEventListener listener = new ConnectionEventListener() {
+        @Override
+        public void connectionClosed(ConnectionEvent event) {
+            idle.push((YdbPooledConnection) event.getSource());
+            // pool may be closed concurrently
+            if (isClosed) {
+                closeIdle();
+            }
+            permits.release();
+        }
+
+        @Override
+        public void connectionErrorOccurred(ConnectionEvent event) {
+            closePhysical((YdbPooledConnection) event.getSource());
+            permits.release();
+        }
+    };
+
+    private volatile boolean isClosed = false;
+
+    public YdbConnectionPool(Factory factory, int maxSize) {
+        this.factory = factory;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Returns logical connection from the pool, waits for free connection if the pool is exhausted
+     *
+     * @param timeoutMillis max time of waiting, value 0 means no timeout
+     * @return logical connection
+     * @throws SQLException if the pool is closed, the timeout is expired or new connection cannot be created
+     */
+    public YdbConnection getConnection(long timeoutMillis) throws SQLException {
+        if (isClosed) {
+            throw new SQLException(YdbConst.CONNECTION_POOL_IS_CLOSED);
+        }
+
+        acquirePermit(timeoutMillis);
+        try {
+            YdbPooledConnection connection = idle.poll();
+            while (connection != null && connection.isClosed()) {
+                connection = idle.poll();
+            }
+
+            if (connection == null) {
+                connection = factory.create();
+                connection.addConnectionEventListener(listener);
+            }
+            return connection.getConnection();
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        closeIdle();
+    }
+
+    private void closeIdle() {
+        YdbPooledConnection connection = idle.poll();
+        while (connection != null) {
+            closePhysical(connection);
+            connection = idle.poll();
+        }
+    }
+
+    private void acquirePermit(long timeoutMillis) throws SQLException {
+        try {
+            if (timeoutMillis <= 0) {
+                permits.acquire();
+                return;
+            }
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        String.format(YdbConst.CONNECTION_POOL_TIMEOUT, timeoutMillis));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(YdbConst.DATABASE_QUERY_INTERRUPTED, ex);
+        }
+    }
+
+    private static void closePhysical(YdbPooledConnection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            LOGGER.log(Level.WARNING, "Cannot close pooled connection: " + ex.getMessage(), ex);
+        }
+    }
+}
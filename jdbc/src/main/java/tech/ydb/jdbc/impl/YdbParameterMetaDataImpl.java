@@ -19,7 +19,7 @@ public class YdbParameterMetaDataImpl implements YdbParameterMetaData {
     }
 
     @Override
-    public int getParameterCount() {
+    public int getParameterCount() throws SQLException {
         return params.parametersCount();
     }
 
@@ -0,0 +1,434 @@
+package tech.ydb.jdbc.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.PooledConnection;
+import javax.sql.StatementEvent;
+import javax.sql.StatementEventListener;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbPreparedStatement;
+import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.YdbStatement;
+
+/**
+ * Physical connection, which hands out lightweight logical connections. Transaction state of the physical connection
+ * is reset when logical connection is closed. Poolable prepared statements are not closed together with the logical
+ * connection, they are kept in the cache and reused by next logical connections.
+ */
+public class YdbPooledConnection implements PooledConnection {
+    private static final Logger LOGGER = Logger.getLogger(YdbPooledConnection.class.getName());
+
+    private final YdbConnection physical;
+    private final StatementsCache<StatementKey> statementsCache;
+    private final List<ConnectionEventListener> connectionListeners = new CopyOnWriteArrayList<>();
+    private final List<StatementEventListener> statementListeners = new CopyOnWriteArrayList<>();
+
+    private final boolean defaultAutoCommit;
+    private final boolean defaultReadOnly;
+    private final int defaultTransactionLevel;
+
+    private volatile LogicalConnection current = null;
+
+    public YdbPooledConnection(YdbConnection physical, int statementsCacheSize) throws SQLException {
+        this.physical = physical;
+        this.statementsCache = new StatementsCache<>(statementsCacheSize);
+        this.defaultAutoCommit = physical.getAutoCommit();
+        this.defaultReadOnly = physical.isReadOnly();
+        this.defaultTransactionLevel = physical.getTransactionIsolation();
+    }
+
+    public boolean isClosed() throws SQLException {
+        return physical.isClosed();
+    }
+
+    @Override
+    public YdbConnection getConnection() throws SQLException {
+        if (physical.isClosed()) {
+            throw new SQLException(YdbConst.CLOSED_CONNECTION);
+        }
+
+        // only one logical connection may be opened, the previous one is closed without notification of listeners
+        LogicalConnection previous = current;
+        if (previous != null) {
+            previous.close(false);
+        }
+
+        LogicalConnection connection = new LogicalConnection();
+        current = connection;
+        return connection.proxy;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        LogicalConnection connection = current;
+        if (connection != null) {
+            connection.isClosed = true;
+        }
+        statementsCache.clear();
+        physical.close();
+    }
+
+    @Override
+    public void addConnectionEventListener(ConnectionEventListener listener) {
+        connectionListeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionEventListener(ConnectionEventListener listener) {
+        connectionListeners.remove(listener);
+    }
+
+    @Override
+    public void addStatementEventListener(StatementEventListener listener) {
+        statementListeners.add(listener);
+    }
+
+    @Override
+    public void removeStatementEventListener(StatementEventListener listener) {
+        statementListeners.remove(listener);
+    }
+
+    /**
+     * Rolls back the current transaction and restores the default settings of the physical connection
+     */
+    private void resetState() throws SQLException {
+        if (!physical.getAutoCommit()) {
+            physical.rollback();
+        }
+        if (physical.getAutoCommit() != defaultAutoCommit) {
+            physical.setAutoCommit(defaultAutoCommit);
+        }
+        // transaction level must be restored first, some levels are available only in read-only mode
+        if (physical.getTransactionIsolation() != defaultTransactionLevel) {
+            physical.setTransactionIsolation(defaultTransactionLevel);
+        }
+        if (physical.isReadOnly() != defaultReadOnly) {
+            physical.setReadOnly(defaultReadOnly);
+        }
+        physical.clearWarnings();
+    }
+
+    private void fireConnectionClosed() {
+        ConnectionEvent event = new ConnectionEvent(this);
+        for (ConnectionEventListener listener: connectionListeners) {
+            listener.connectionClosed(event);
+        }
+    }
+
+    private void fireConnectionError(SQLException ex) {
+        ConnectionEvent event = new ConnectionEvent(this, ex);
+        for (ConnectionEventListener listener: connectionListeners) {
+            listener.connectionErrorOccurred(event);
+        }
+    }
+
+    private void fireStatementClosed(Statement statement) {
+        if (statement instanceof PreparedStatement && !statementListeners.isEmpty()) {
+            StatementEvent event = new StatementEvent(this, (PreparedStatement) statement);
+            for (StatementEventListener listener: statementListeners) {
+                listener.statementClosed(event);
+            }
+        }
+    }
+
+    private static Object unwrap(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        Class<?> iface = (Class<?>) args[0];
+        if ("isWrapperFor".equals(method.getName())) {
+            return iface.isInstance(proxy) || (Boolean) method.invoke(target, args);
+        }
+        if (iface.isInstance(proxy)) {
+            return iface.cast(proxy);
+        }
+        throw new SQLException(YdbConst.CANNOT_UNWRAP_TO + iface);
+    }
+
+    private class LogicalConnection implements InvocationHandler {
+        private final YdbConnection proxy = (YdbConnection) Proxy.newProxyInstance(
+                YdbConnection.class.getClassLoader(), new Class<?>[] {YdbConnection.class}, this
+        );
+        private final List<LogicalStatement> statements = new ArrayList<>();
+        private final AtomicBoolean isErrorReported = new AtomicBoolean(false);
+        private volatile boolean isClosed = false;
+
+        @Override
+        public Object invoke(Object obj, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Logical connection of " + physical;
+                case "isClosed":
+                    return isClosed;
+                case "close":
+                    close(true);
+                    return null;
+                case "abort":
+                    abort();
+                    return null;
+                default:
+                    break;
+            }
+
+            if (isClosed) {
+                throw new SQLException(YdbConst.CLOSED_CONNECTION);
+            }
+
+            switch (method.getName()) {
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(proxy, physical, method, args);
+                case "prepareStatement":
+                    return prepareStatement(method, args);
+                default:
+                    break;
+            }
+
+            Object result = invokePhysical(physical, method, args);
+            if (result instanceof YdbStatement) {
+                return new LogicalStatement(this, (YdbStatement) result, null).proxy;
+            }
+            return result;
+        }
+
+        private Object prepareStatement(Method method, Object[] args) throws Throwable {
+            StatementKey key = new StatementKey(args);
+            YdbStatement statement = statementsCache.take(key);
+            if (statement == null) {
+                statement = (YdbStatement) invokePhysical(physical, method, args);
+            }
+            return new LogicalStatement(this, statement, key).proxy;
+        }
+
+        Object invokePhysical(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof SQLException && physical.isClosed()) {
+                    reportError((SQLException) cause);
+                }
+                throw cause;
+            }
+        }
+
+        /**
+         * Notifies listeners about broken physical connection only once, the logical connection becomes closed and
+         * its closing doesn't notify listeners anymore
+         */
+        void reportError(SQLException ex) {
+            isClosed = true;
+            if (isErrorReported.compareAndSet(false, true)) {
+                fireConnectionError(ex);
+            }
+        }
+
+        /**
+         * Physical connection cannot be reused after abort, so listeners are notified about the error and have to
+         * close it
+         */
+        void abort() {
+            if (!isClosed) {
+                reportError(new SQLException(YdbConst.ABORTED_CONNECTION));
+            }
+        }
+
+        synchronized void register(LogicalStatement statement) {
+            statements.add(statement);
+        }
+
+        synchronized void unregister(LogicalStatement statement) {
+            statements.remove(statement);
+        }
+
+        void close(boolean notifyListeners) throws SQLException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+
+            List<LogicalStatement> opened;
+            synchronized (this) {
+                opened = new ArrayList<>(statements);
+            }
+
+            try {
+                for (LogicalStatement statement: opened) {
+                    statement.close();
+                }
+                resetState();
+            } catch (SQLException ex) {
+                LOGGER.log(Level.WARNING, "Cannot reset pooled connection: " + ex.getMessage(), ex);
+                if (notifyListeners) {
+                    reportError(ex);
+                    return;
+                }
+                throw ex;
+            }
+
+            if (notifyListeners) {
+                fireConnectionClosed();
+            }
+        }
+    }
+
+    private class LogicalStatement implements InvocationHandler {
+        private final LogicalConnection connection;
+        private final YdbStatement statement;
+        private final StatementKey key;
+        private final YdbStatement proxy;
+        private volatile boolean isClosed = false;
+
+        LogicalStatement(LogicalConnection connection, YdbStatement statement, StatementKey key) {
+            this.connection = connection;
+            this.statement = statement;
+            this.key = key;
+
+            Class<?> iface = statement instanceof YdbPreparedStatement ? YdbPreparedStatement.class
+                    : YdbStatement.class;
+            this.proxy = (YdbStatement) Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[] {iface}, this);
+            connection.register(this);
+        }
+
+        @Override
+        public Object invoke(Object obj, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Logical statement of " + statement;
+                case "isClosed":
+                    return isClosed;
+                case "close":
+                    close();
+                    return null;
+                default:
+                    break;
+            }
+
+            if (isClosed) {
+                throw new SQLException(YdbConst.CLOSED_CONNECTION);
+            }
+
+            switch (method.getName()) {
+                case "getConnection":
+                    return connection.proxy;
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(proxy, statement, method, args);
+                default:
+                    break;
+            }
+
+            Object result = connection.invokePhysical(statement, method, args);
+            if (result instanceof ResultSet) {
+                return new LogicalResultSet(this, (ResultSet) result).proxy;
+            }
+            return result;
+        }
+
+        void close() throws SQLException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            connection.unregister(this);
+
+            boolean isCached = key != null && statement.isPoolable() && !statement.isClosed()
+                    && statement instanceof BaseYdbStatement && !physical.isClosed();
+            if (isCached) {
+                try {
+                    ((BaseYdbStatement) statement).reset();
+                    statementsCache.put(key, statement);
+                } catch (SQLException ex) {
+                    statement.close();
+                }
+            } else {
+                statement.close();
+            }
+            fireStatementClosed(proxy);
+        }
+    }
+
+    /**
+     * Result set of the logical statement, which returns that statement instead of the physical one
+     */
+    private class LogicalResultSet implements InvocationHandler {
+        private final LogicalStatement statement;
+        private final ResultSet resultSet;
+        private final ResultSet proxy;
+
+        LogicalResultSet(LogicalStatement statement, ResultSet resultSet) {
+            this.statement = statement;
+            this.resultSet = resultSet;
+
+            Class<?> iface = resultSet instanceof YdbResultSet ? YdbResultSet.class : ResultSet.class;
+            this.proxy = (ResultSet) Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[] {iface}, this);
+        }
+
+        @Override
+        public Object invoke(Object obj, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Logical result set of " + resultSet;
+                case "getStatement":
+                    return statement.proxy;
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(proxy, resultSet, method, args);
+                default:
+                    break;
+            }
+
+            return statement.connection.invokePhysical(resultSet, method, args);
+        }
+    }
+
+    /**
+     * Arguments of prepareStatement method
+     */
+    private static class StatementKey {
+        private final Object[] args;
+        private final int hash;
+
+        StatementKey(Object[] args) {
+            this.args = args;
+            this.hash = Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof StatementKey && Arrays.deepEquals(args, ((StatementKey) other).args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -22,10 +22,12 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
+import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbParameterMetaData;
@@ -33,9 +35,12 @@ import tech.ydb.jdbc.YdbPreparedStatement;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbTypes;
 import tech.ydb.jdbc.common.MappingSetters;
+import tech.ydb.jdbc.exception.YdbStatusable;
 import tech.ydb.jdbc.query.JdbcParams;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.params.LazyParams;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListType;
 import tech.ydb.table.values.Type;
 import tech.ydb.table.values.VoidType;
 
@@ -79,7 +84,14 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
     }
 
     @Override
-    public void close() {
+    void reset() throws SQLException {
+        super.reset();
+        clearParameters();
+        clearBatch();
+    }
+
+    @Override
+    public void close() throws SQLException {
         clearParameters();
         super.close();
     }
@@ -129,7 +141,7 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
         List<YdbResult> newState = null;
         switch (query.type()) {
             case DATA_QUERY:
-                newState = executeDataQuery(query, params.getCurrentParams());
+                newState = executeCurrentDataQuery();
                 break;
             case SCAN_QUERY:
                 newState = executeScanQuery(query, params.getCurrentParams());
@@ -142,6 +154,35 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
         return updateState(newState);
     }
 
+    /**
+     * Types of not prepared parameters are inferred from their values and may differ from the declared ones. Such
+     * query is rejected by the server, so it is prepared and executed again with the precise types. Query of active
+     * transaction is not repeated because the transaction is already broken by the error.
+     */
+    private List<YdbResult> executeCurrentDataQuery() throws SQLException {
+        boolean isLazy = params instanceof LazyParams && !((LazyParams) params).isPrepared()
+                && getConnection().getYdbTxId() == null;
+        try {
+            return executeDataQuery(query, params.getCurrentParams());
+        } catch (SQLException ex) {
+            if (!isLazy || !isBadRequest(ex)) {
+                throw ex;
+            }
+
+            try {
+                ((LazyParams) params).prepare();
+            } catch (SQLException prepareEx) {
+                ex.addSuppressed(prepareEx);
+                throw ex;
+            }
+            return executeDataQuery(query, params.getCurrentParams());
+        }
+    }
+
+    private static boolean isBadRequest(SQLException ex) {
+        return ex instanceof YdbStatusable && ((YdbStatusable) ex).getStatus().getCode() == StatusCode.BAD_REQUEST;
+    }
+
     @Override
     public YdbResultSet executeScanQuery() throws SQLException {
         cleanState();
@@ -167,6 +208,58 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
         return types.toYdbType(clazz);
     }
 
+    private Type ydbType(Object x) throws SQLException {
+        Type type = ydbType(x.getClass());
+        if (type != null) {
+            return type;
+        }
+
+        if (x instanceof YdbArrayImpl) {
+            return ((YdbArrayImpl) x).getListType();
+        }
+        if (x instanceof Array) {
+            Array array = (Array) x;
+            Type itemType = ydbType(array.getBaseType());
+            return itemType != null ? ListType.of(itemType) : ydbListType(array.getArray());
+        }
+        return ydbListType(x);
+    }
+
+    /**
+     * Type of list parameter is detected by the component type of array or by the first not null item. Items of list
+     * with nulls are optional
+     */
+    private Type ydbListType(Object items) throws SQLException {
+        Class<?> itemClass = items.getClass().getComponentType();
+        boolean isCollection = items instanceof Collection<?>;
+        if (itemClass == null && !isCollection) {
+            return null;
+        }
+
+        boolean hasNulls = false;
+        if (isCollection || !itemClass.isPrimitive()) {
+            Iterable<?> values = isCollection ? (Collection<?>) items : Arrays.asList((Object[]) items);
+            Class<?> firstClass = null;
+            for (Object value: values) {
+                if (value == null) {
+                    hasNulls = true;
+                } else if (firstClass == null) {
+                    firstClass = value.getClass();
+                }
+            }
+            if (isCollection || itemClass == Object.class) {
+                itemClass = firstClass;
+            }
+        }
+
+        Type itemType = itemClass != null ? ydbType(itemClass) : null;
+        if (itemType == null) {
+            // empty list or list of nulls
+            throw new SQLException(YdbConst.ARRAY_TYPE_UNKNOWN + (itemClass != null ? itemClass.getName() : "unknown"));
+        }
+        return ListType.of(hasNulls ? itemType.makeOptional() : itemType);
+    }
+
     private void setImplReader(String name, Reader reader, long length) throws SQLException {
         params.setParam(name, MappingSetters.CharStream.fromReader(reader, length), ydbType(Types.VARCHAR));
     }
@@ -198,7 +291,7 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
         if (x == null) {
             throw new SQLDataException(YdbConst.UNABLE_TO_SET_NULL_OBJECT);
         }
-        params.setParam(parameterName, x, ydbType(x.getClass()));
+        params.setParam(parameterName, x, ydbType(x));
     }
 
     @Override
@@ -206,7 +299,7 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
         if (x == null) {
             throw new SQLDataException(YdbConst.UNABLE_TO_SET_NULL_OBJECT);
         }
-        params.setParam(parameterIndex, x, ydbType(x.getClass()));
+        params.setParam(parameterIndex, x, ydbType(x));
     }
 
     @Override
@@ -526,7 +619,10 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
 
     @Override
     public void setArray(int parameterIndex, Array x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(YdbConst.ARRAYS_UNSUPPORTED);
+        if (x == null) {
+            throw new SQLDataException(YdbConst.UNABLE_TO_SET_NULL_OBJECT);
+        }
+        params.setParam(parameterIndex, x, ydbType(x));
     }
 
     @Override
@@ -733,7 +829,10 @@ public class YdbPreparedStatementImpl extends BaseYdbStatement implements YdbPre
 
     @Override
     public void setArray(String parameterName, Array x) throws SQLException {
-        throw new SQLFeatureNotSupportedException(YdbConst.ARRAYS_UNSUPPORTED);
+        if (x == null) {
+            throw new SQLDataException(YdbConst.UNABLE_TO_SET_NULL_OBJECT);
+        }
+        params.setParam(parameterName, x, ydbType(x));
     }
 
 
@@ -1,7 +1,9 @@
 package tech.ydb.jdbc.impl;
 
-import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -28,13 +30,18 @@ import java.util.Optional;
 import java.util.function.LongFunction;
 
 import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbExportFormat;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbResultSetMetaData;
 import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.ArrowStreamWriter;
+import tech.ydb.jdbc.common.CsvWriter;
 import tech.ydb.jdbc.common.TypeDescription;
 import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.ListType;
 import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 
 public class YdbResultSetImpl implements YdbResultSet {
@@ -48,9 +55,14 @@ public class YdbResultSetImpl implements YdbResultSet {
     private final int rowCount;
 
     public YdbResultSetImpl(YdbStatement statement, ResultSetReader result) {
+        this(statement, result, 0);
+    }
+
+    public YdbResultSetImpl(YdbStatement statement, ResultSetReader result, int maxRows) {
         this.statement = Objects.requireNonNull(statement);
         this.result = Objects.requireNonNull(result);
-        this.rowCount = result.getRowCount();
+        // rows beyond the statement limit are silently dropped
+        this.rowCount = maxRows > 0 ? Math.min(maxRows, result.getRowCount()) : result.getRowCount();
         this.metaData = new YdbResultSetMetaDataImpl(result);
     }
 
@@ -61,8 +73,18 @@ public class YdbResultSetImpl implements YdbResultSet {
     }
 
     @Override
-    public void close() {
+    public void close() throws SQLException {
+        if (state.closed) {
+            return;
+        }
         state.closed = true;
+        if (result instanceof Closeable) {
+            try {
+                ((Closeable) result).close();
+            } catch (IOException ex) {
+                throw new SQLException(ex.getMessage(), ex);
+            }
+        }
     }
 
     @Override
@@ -167,8 +189,11 @@ public class YdbResultSetImpl implements YdbResultSet {
 
     @Override
     public InputStream getBinaryStream(int columnIndex) throws SQLException {
-        byte[] bytes = getBytes(columnIndex);
-        return bytes == null ? null : new ByteArrayInputStream(bytes);
+        initValueReader(columnIndex);
+        if (state.nullValue) {
+            return null;
+        }
+        return state.description.getters().readStream(state.value);
     }
 
     //
@@ -279,6 +304,42 @@ public class YdbResultSetImpl implements YdbResultSet {
         return getObject(getColumnIndex(columnLabel));
     }
 
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        if (type == null) {
+            throw new SQLException(YdbConst.OBJECT_TYPE_IS_NULL);
+        }
+        initValueReader(columnIndex);
+        if (state.nullValue) {
+            return null;
+        }
+        return state.description.getters().readObject(state.value, type);
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        return getObject(getColumnIndex(columnLabel), type);
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        initValueReader(columnIndex);
+        if (state.nullValue) {
+            return null;
+        }
+        Type type = state.description.ydbType();
+        if (type.getKind() != Type.Kind.LIST) {
+            throw new SQLException(String.format(YdbConst.UNABLE_TO_CAST, type, Array.class));
+        }
+        ValueReader list = state.description.isOptional() ? state.value.getOptionalItem() : state.value;
+        return YdbArrayImpl.read((ListType) type, list);
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException {
+        return getArray(getColumnIndex(columnLabel));
+    }
+
     @Override
     public int findColumn(String columnLabel) throws SQLException {
         return getColumnIndex(columnLabel);
@@ -287,11 +348,10 @@ public class YdbResultSetImpl implements YdbResultSet {
     @Override
     public Reader getCharacterStream(int columnIndex) throws SQLException {
         initValueReader(columnIndex);
-        Reader copy = state.description.getters().readReader(state.value);
         if (state.nullValue) {
             return null;
         }
-        return copy;
+        return state.description.getters().readReader(state.value);
     }
 
     @Override
@@ -407,13 +467,17 @@ public class YdbResultSetImpl implements YdbResultSet {
     }
 
     @Override
-    public void setFetchSize(int rows) {
-        // do nothing
+    public void setFetchSize(int rows) throws SQLException {
+        // only a hint, the rows are already read by the statement
+        if (rows < 0) {
+            throw new SQLException(YdbConst.INVALID_FETCH_SIZE + rows);
+        }
+        state.fetchSize = rows;
     }
 
     @Override
     public int getFetchSize() throws SQLException {
-        return statement.getFetchSize();
+        return state.fetchSize > 0 ? state.fetchSize : statement.getFetchSize();
     }
 
     @Override
@@ -537,6 +601,29 @@ public class YdbResultSetImpl implements YdbResultSet {
         return getNativeColumn(getColumnIndex(columnLabel));
     }
 
+    @Override
+    public void exportTo(OutputStream out, YdbExportFormat format) throws SQLException {
+        if (state.closed) {
+            throw new SQLException(YdbConst.RESULT_SET_IS_CLOSED);
+        }
+
+        try {
+            switch (format) {
+                case ARROW_IPC:
+                    ArrowStreamWriter.write(result, rowCount, out);
+                    break;
+                case CSV:
+                default:
+                    CsvWriter.write(result, rowCount, out);
+                    break;
+            }
+        } catch (IOException ex) {
+            throw new SQLException(YdbConst.CANNOT_EXPORT_RESULT + ex.getMessage(), ex);
+        } finally {
+            setRowIndex(state.rowIndex); // restore position of reader
+        }
+    }
+
     //
 
     @Override
@@ -607,6 +694,7 @@ public class YdbResultSetImpl implements YdbResultSet {
         boolean nullValue;
 
         private int direction = ResultSet.FETCH_UNKNOWN;
+        private int fetchSize = 0;
         private boolean closed;
     }
 
@@ -1114,11 +1202,6 @@ public class YdbResultSetImpl implements YdbResultSet {
         throw new SQLFeatureNotSupportedException(YdbConst.CLOB_UNSUPPORTED);
     }
 
-    @Override
-    public Array getArray(int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException(YdbConst.ARRAYS_UNSUPPORTED);
-    }
-
     @Override
     public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
         throw new SQLFeatureNotSupportedException(YdbConst.OBJECT_TYPED_UNSUPPORTED);
@@ -1139,11 +1222,6 @@ public class YdbResultSetImpl implements YdbResultSet {
         throw new SQLFeatureNotSupportedException(YdbConst.CLOB_UNSUPPORTED);
     }
 
-    @Override
-    public Array getArray(String columnLabel) throws SQLException {
-        throw new SQLFeatureNotSupportedException(YdbConst.ARRAYS_UNSUPPORTED);
-    }
-
     @Override
     public NClob getNClob(int columnIndex) throws SQLException {
         throw new SQLFeatureNotSupportedException(YdbConst.NCLOB_UNSUPPORTED);
@@ -1174,16 +1252,6 @@ public class YdbResultSetImpl implements YdbResultSet {
         throw new SQLFeatureNotSupportedException(YdbConst.ASCII_STREAM_UNSUPPORTED);
     }
 
-    @Override
-    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
-        throw new SQLFeatureNotSupportedException(YdbConst.OBJECT_TYPED_UNSUPPORTED);
-    }
-
-    @Override
-    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
-        throw new SQLFeatureNotSupportedException(YdbConst.OBJECT_TYPED_UNSUPPORTED);
-    }
-
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
         if (iface.isAssignableFrom(getClass())) {
@@ -1,24 +1,51 @@
 package tech.ydb.jdbc.impl;
 
+import java.sql.BatchUpdateException;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.jdbc.query.QueryType;
+import tech.ydb.jdbc.query.YdbExpression;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.table.query.Params;
 
 public class YdbStatementImpl extends BaseYdbStatement {
     private static final Logger LOGGER = Logger.getLogger(YdbStatementImpl.class.getName());
 
+    // Target table of the simple DML statement - UPSERT/INSERT/REPLACE INTO t, UPDATE t or DELETE FROM t
+    private static final Pattern DML_TARGET = Pattern.compile(
+            "^\\s*(?:(?:UPSERT|INSERT|REPLACE)\\s+INTO|UPDATE|DELETE\\s+FROM)\\s+(`[^`]+`|[\\w/.]+)",
+            Pattern.CASE_INSENSITIVE
+    );
+    // DML with source of other tables must not be reordered with statements which write to these tables
+    private static final Pattern DML_READS_TABLES = Pattern.compile("\\b(?:SELECT|FROM|ON|JOIN)\\b",
+            Pattern.CASE_INSENSITIVE);
+
     private final List<String> batch = new ArrayList<>();
+    private final List<YdbValidator> batchValidators = new CopyOnWriteArrayList<>();
 
     public YdbStatementImpl(YdbConnection connection, int resultSetType) {
         super(LOGGER, connection, resultSetType, false); // is not poolable by default
@@ -124,6 +151,11 @@ public class YdbStatementImpl extends BaseYdbStatement {
         try {
             LOGGER.log(Level.FINE, "Executing batch of {0} item(s)", batch.size());
 
+            int parallelism = getConnection().getCtx().getOperationProperties().getBatchParallelism();
+            if (parallelism > 0 && getConnection().getAutoCommit()) {
+                return executeGroupedBatch(parallelism);
+            }
+
             String sql = String.join(";\n", batch);
             execute(sql);
 
@@ -135,6 +167,165 @@ public class YdbStatementImpl extends BaseYdbStatement {
         }
     }
 
+    @Override
+    public void cancel() {
+        super.cancel();
+        for (YdbValidator validator: batchValidators) {
+            validator.cancel();
+        }
+    }
+
+    /**
+     * Executes batch in autoCommit mode as the set of independent groups. Simple DML statements are grouped by the
+     * target table, every group is compiled and executed as one script in own transaction, groups are executed
+     * concurrently on separate sessions. Scheme and other statements are executed alone and work as barriers: all
+     * previous groups are completed before them.
+     */
+    private int[] executeGroupedBatch(int parallelism) throws SQLException {
+        YdbContext ctx = getConnection().getCtx();
+        int[] updateCounts = new int[batch.size()];
+        Arrays.fill(updateCounts, Statement.EXECUTE_FAILED);
+
+        // threads are shared by the context, so the parallelism of this batch is limited by permits
+        ExecutorService pool = ctx.getBatchExecutor();
+        Semaphore permits = new Semaphore(parallelism);
+
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int idx = 0; idx < batch.size(); idx++) {
+            String target = dmlTarget(ctx.parseYdbQuery(batch.get(idx)));
+            if (target != null) {
+                groups.computeIfAbsent(target, t -> new ArrayList<>()).add(idx);
+                continue;
+            }
+
+            executeGroups(ctx, pool, permits, groups.values(), updateCounts);
+            groups.clear();
+
+            try {
+                execute(batch.get(idx));
+                updateCounts[idx] = Statement.SUCCESS_NO_INFO;
+            } catch (SQLException ex) {
+                throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(),
+                        updateCounts, ex);
+            }
+        }
+
+        executeGroups(ctx, pool, permits, groups.values(), updateCounts);
+        return updateCounts;
+    }
+
+    private void executeGroups(YdbContext ctx, ExecutorService pool, Semaphore permits,
+            Iterable<List<Integer>> groups, int[] updateCounts) throws SQLException {
+        SQLException firstError = null;
+        Map<List<Integer>, Future<?>> futures = new LinkedHashMap<>();
+        for (List<Integer> group: groups) {
+            List<String> sqls = new ArrayList<>();
+            for (int idx: group) {
+                sqls.add(batch.get(idx));
+            }
+
+            try {
+                permits.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancel();
+                firstError = new SQLException(YdbConst.DATABASE_QUERY_INTERRUPTED, ex);
+                break;
+            }
+
+            try {
+                futures.put(group, pool.submit(() -> {
+                    try {
+                        executeGroup(ctx, String.join(";\n", sqls));
+                        return null;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RejectedExecutionException ex) {
+                permits.release();
+                firstError = new SQLException(YdbConst.BATCH_REJECTED + ex.getMessage(), ex);
+                break;
+            }
+        }
+
+        for (Map.Entry<List<Integer>, Future<?>> entry: futures.entrySet()) {
+            try {
+                entry.getValue().get();
+                for (int idx: entry.getKey()) {
+                    updateCounts[idx] = Statement.SUCCESS_NO_INFO;
+                }
+            } catch (ExecutionException ex) {
+                if (firstError == null) {
+                    Throwable cause = ex.getCause();
+                    firstError = cause instanceof SQLException
+                            ? (SQLException) cause
+                            : new SQLException(cause.getMessage(), cause);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancel();
+                if (firstError == null) {
+                    firstError = new SQLException(YdbConst.DATABASE_QUERY_INTERRUPTED, ex);
+                }
+            }
+        }
+
+        if (firstError != null) {
+            throw new BatchUpdateException(firstError.getMessage(), firstError.getSQLState(),
+                    firstError.getErrorCode(), updateCounts, firstError);
+        }
+    }
+
+    private void executeGroup(YdbContext ctx, String sql) throws SQLException {
+        YdbQuery query = ctx.parseYdbQuery(sql);
+        YdbConnection connection = getConnection();
+        YdbValidator validator = new YdbValidator(LOGGER);
+        validator.setQueryTimeout(getQueryTimeout());
+
+        YdbExecutor executor = ctx.createExecutor(connection.getTransactionIsolation(), true, connection.isReadOnly());
+        batchValidators.add(validator);
+        try {
+            executor.executeDataQuery(ctx, validator, query, getQueryTimeout(), isPoolable(), 0, Params.empty());
+        } finally {
+            batchValidators.remove(validator);
+            executor.close();
+        }
+    }
+
+    /**
+     * Returns the table of DML statement which may be executed concurrently with statements of other tables. Only
+     * statements with values or parameters as the source are grouped, statements which read tables are barriers.
+     * Keywords inside of literals are barriers too, at worst such statement is executed alone.
+     *
+     * @param query parsed statement of batch
+     * @return lower-cased name of target table or null if the statement must be executed alone
+     */
+    static String dmlTarget(YdbQuery query) {
+        if (query.type() != QueryType.DATA_QUERY || query.getExpressions().size() != 1) {
+            return null;
+        }
+        YdbExpression expression = query.getExpressions().get(0);
+        if (expression.isSelect() || expression.isDDL()) {
+            return null;
+        }
+
+        Matcher matcher = DML_TARGET.matcher(query.originSQL());
+        if (!matcher.find()) {
+            return null;
+        }
+        if (DML_READS_TABLES.matcher(query.originSQL()).region(matcher.end(), query.originSQL().length()).find()) {
+            return null;
+        }
+
+        // `t`, t and T are grouped together, at worst the statements of different tables are not executed concurrently
+        String target = matcher.group(1);
+        if (target.startsWith("`") && target.endsWith("`")) {
+            target = target.substring(1, target.length() - 1);
+        }
+        return target.toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
         if (autoGeneratedKeys != Statement.NO_GENERATED_KEYS) {
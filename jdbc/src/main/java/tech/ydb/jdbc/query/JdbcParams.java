@@ -26,7 +26,7 @@ public interface JdbcParams {
     void clearBatch();
     int batchSize();
 
-    int parametersCount();
+    int parametersCount() throws SQLException;
 
     TypeDescription getDescription(int index) throws SQLException;
 
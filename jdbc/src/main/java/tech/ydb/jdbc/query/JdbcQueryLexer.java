@@ -3,6 +3,7 @@ package tech.ydb.jdbc.query;
 
 import java.sql.SQLException;
 
+import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
 
 
@@ -44,7 +45,11 @@ public class JdbcQueryLexer {
                     break;
 
                 case '/': // possibly /* */ style comment
-                    i = parseBlockComment(chars, i);
+                    int commentEnd = parseBlockComment(chars, i);
+                    if (isResultCacheHint(chars, i, commentEnd)) {
+                        builder.addResultCacheHint();
+                    }
+                    i = commentEnd;
                     break;
                 case ';': // next chars will be new expression
                     nextExpression = true;
@@ -64,9 +69,28 @@ public class JdbcQueryLexer {
                     }
                     break;
                 default:
+                    if (detectJdbcArgs && options.isReplaceJdbcInLists() && parseInKeyword(chars, i)) {
+                        int listEnd = parseJdbcInList(chars, i + 2);
+                        if (listEnd > 0) {
+                            // replace IN (?, ?, ...) with IN $list
+                            builder.append(chars, fragmentStart, i + 2 - fragmentStart);
+                            builder.append(' ');
+                            builder.append(builder.createNextListArgName(countJdbcArgs(chars, i + 2, listEnd)));
+                            fragmentStart = listEnd + 1;
+                            i = listEnd;
+                            break;
+                        }
+                    }
+
                     if (nextExpression && Character.isJavaIdentifierStart(ch)) {
                         nextExpression = false;
 
+                        // PRAGMA is not an expression, but it must be placed at the beginning of the request
+                        if (parsePragmaKeyword(chars, i)) {
+                            builder.addPragma();
+                            break;
+                        }
+
                         if (!options.isDetectQueryType()) {
                             break;
                         }
@@ -166,6 +190,12 @@ public class JdbcQueryLexer {
         return offset;
     }
 
+    private static boolean isResultCacheHint(final char[] query, int start, int end) {
+        String hint = YdbConst.RESULT_CACHE_HINT;
+        return end < query.length && end - start + 1 == hint.length()
+                && hint.equalsIgnoreCase(new String(query, start, hint.length()));
+    }
+
     private static int parseBlockComment(final char[] query, int offset) {
         if (offset + 1 < query.length && query[offset + 1] == '*') {
             // /* /* */ */ nest, according to SQL spec
@@ -201,6 +231,65 @@ public class JdbcQueryLexer {
         return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
     }
 
+    /**
+     * Checks that the list starting at the offset contains only JDBC parameters - (?, ?, ..., ?)
+     *
+     * @param query query
+     * @param offset position after IN keyword
+     * @return position of closing bracket or -1 if the list has other tokens
+     */
+    private static int parseJdbcInList(char[] query, int offset) {
+        int idx = offset;
+        while (idx < query.length && isSpace(query[idx])) {
+            idx++;
+        }
+        if (idx >= query.length || query[idx] != '(') {
+            return -1;
+        }
+
+        boolean waitParam = true;
+        for (idx++; idx < query.length; idx++) {
+            char ch = query[idx];
+            if (isSpace(ch)) {
+                continue;
+            }
+
+            if (waitParam) {
+                // ?? is not a parameter
+                if (ch != '?' || (idx + 1 < query.length && query[idx + 1] == '?')) {
+                    return -1;
+                }
+                waitParam = false;
+            } else if (ch == ',') {
+                waitParam = true;
+            } else {
+                return ch == ')' ? idx : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int countJdbcArgs(char[] query, int start, int end) {
+        int count = 0;
+        for (int idx = start; idx < end; idx++) {
+            if (query[idx] == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean parseInKeyword(char[] query, int offset) {
+        if (query.length < (offset + 3)) {
+            return false;
+        }
+
+        return (offset == 0 || !Character.isJavaIdentifierPart(query[offset - 1]))
+                && (query[offset] | 32) == 'i'
+                && (query[offset + 1] | 32) == 'n'
+                && (isSpace(query[offset + 2]) || query[offset + 2] == '(');
+    }
+
     private static boolean parseAlterKeyword(char[] query, int offset) {
         if (query.length < (offset + 6)) {
             return false;
@@ -267,6 +356,20 @@ public class JdbcQueryLexer {
                 && isSpace(query[offset + 7]);
     }
 
+    private static boolean parsePragmaKeyword(char[] query, int offset) {
+        if (query.length < (offset + 7)) {
+            return false;
+        }
+
+        return (query[offset] | 32) == 'p'
+                && (query[offset + 1] | 32) == 'r'
+                && (query[offset + 2] | 32) == 'a'
+                && (query[offset + 3] | 32) == 'g'
+                && (query[offset + 4] | 32) == 'm'
+                && (query[offset + 5] | 32) == 'a'
+                && isSpace(query[offset + 6]);
+    }
+
     private static boolean parseSelectKeyword(char[] query, int offset) {
         if (query.length < (offset + 7)) {
             return false;
@@ -4,8 +4,10 @@ package tech.ydb.jdbc.query;
 
 import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
@@ -22,15 +24,24 @@ public class YdbQuery {
     private final String yqlQuery;
     private final QueryType type;
     private final List<String> indexesArgsNames;
+    private final Set<String> listArgsNames;
+    // distinct names of indexed parameters, items of lists have the same name
+    private final Set<String> declaredArgsNames;
     private final List<YdbExpression> expressions;
+    private final boolean isResultCacheHinted;
+    private final boolean hasPragmas;
 
     YdbQuery(YdbQueryProperties opts, YdbQueryBuilder builder) {
         this.opts = opts;
         this.originSQL = builder.getOriginSQL();
         this.yqlQuery = builder.buildYQL();
         this.indexesArgsNames = builder.getIndexedArgs();
+        this.listArgsNames = builder.getListArgs();
+        this.declaredArgsNames = new LinkedHashSet<>(indexesArgsNames);
         this.type = builder.getQueryType();
         this.expressions = builder.getExpressions();
+        this.isResultCacheHinted = builder.hasResultCacheHint();
+        this.hasPragmas = builder.hasPragmas();
     }
 
     public String originSQL() {
@@ -41,6 +52,20 @@ public class YdbQuery {
         return expressions;
     }
 
+    /**
+     * @return true if query is marked by {@link YdbConst#RESULT_CACHE_HINT}
+     */
+    public boolean isResultCacheHinted() {
+        return isResultCacheHinted;
+    }
+
+    /**
+     * @return true if query has PRAGMA statements
+     */
+    public boolean hasPragmas() {
+        return hasPragmas;
+    }
+
     public boolean hasIndexesParameters() {
         return indexesArgsNames != null && !indexesArgsNames.isEmpty();
     }
@@ -49,14 +74,21 @@ public class YdbQuery {
         return indexesArgsNames;
     }
 
+    /**
+     * @return names of parameters which replace JDBC lists {@code IN (?, ?, ...)}, every such name is repeated in
+     * {@link #getIndexesParameters() } as many times as many items the list has
+     */
+    public Set<String> getListParameters() {
+        return listArgsNames;
+    }
+
     public String getYqlQuery(Params params) throws SQLException {
         StringBuilder yql = new StringBuilder();
 
         if (indexesArgsNames != null) {
             if (params != null) {
                 Map<String, Value<?>> values = params.values();
-                for (int idx = 0; idx < indexesArgsNames.size(); idx += 1) {
-                    String prm = indexesArgsNames.get(idx);
+                for (String prm: declaredArgsNames) {
                     if (!values.containsKey(prm)) {
                         throw new SQLDataException(YdbConst.MISSING_VALUE_FOR_PARAMETER + prm);
                     }
@@ -72,9 +104,9 @@ public class YdbQuery {
 
 
                 }
-            } else if (!indexesArgsNames.isEmpty() && opts.isDeclareJdbcParameters()) {
+            } else if (!declaredArgsNames.isEmpty() && opts.isDeclareJdbcParameters()) {
                 // Comment in place where must be declare section
-                yql.append("-- DECLARE ").append(indexesArgsNames.size()).append(" PARAMETERS").append("\n");
+                yql.append("-- DECLARE ").append(declaredArgsNames.size()).append(" PARAMETERS").append("\n");
             }
         }
 
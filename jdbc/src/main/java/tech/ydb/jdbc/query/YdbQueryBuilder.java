@@ -3,7 +3,9 @@ package tech.ydb.jdbc.query;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
@@ -16,11 +18,14 @@ public class YdbQueryBuilder {
     private final String origin;
     private final StringBuilder query;
     private final List<String> args = new ArrayList<>();
+    private final Set<String> listArgs = new HashSet<>();
     private final QueryType forcedType;
     private final List<YdbExpression> expressions = new ArrayList<>();
 
     private int argsCounter = 0;
     private QueryType currentType = null;
+    private boolean hasPragmas = false;
+    private boolean hasResultCacheHint = false;
 
     public YdbQueryBuilder(String origin, QueryType forcedType) {
         this.origin = origin;
@@ -29,11 +34,32 @@ public class YdbQueryBuilder {
     }
 
     public String createNextArgName() {
+        String next = nextArgName();
+        args.add(next);
+        return next;
+    }
+
+    /**
+     * Creates name of list parameter which replaces several JDBC parameters, all of them have the same name in
+     * {@link #getIndexedArgs() } and their values are packed into one list
+     *
+     * @param itemsCount count of JDBC parameters in the list
+     * @return name of list parameter
+     */
+    public String createNextListArgName(int itemsCount) {
+        String next = nextArgName();
+        for (int idx = 0; idx < itemsCount; idx += 1) {
+            args.add(next);
+        }
+        listArgs.add(next);
+        return next;
+    }
+
+    private String nextArgName() {
         while (true) {
             argsCounter += 1;
             String next = YdbConst.AUTO_GENERATED_PARAMETER_PREFIX + argsCounter;
             if (!origin.contains(next)) {
-                args.add(next);
                 return next;
             }
         }
@@ -52,6 +78,22 @@ public class YdbQueryBuilder {
         this.currentType = type;
     }
 
+    public void addPragma() {
+        this.hasPragmas = true;
+    }
+
+    public boolean hasPragmas() {
+        return hasPragmas;
+    }
+
+    public void addResultCacheHint() {
+        this.hasResultCacheHint = true;
+    }
+
+    public boolean hasResultCacheHint() {
+        return hasResultCacheHint;
+    }
+
     public QueryType getQueryType() {
         if (forcedType != null) {
             return forcedType;
@@ -80,6 +122,10 @@ public class YdbQueryBuilder {
         return args;
     }
 
+    public Set<String> getListArgs() {
+        return listArgs;
+    }
+
     public void append(char[] chars, int start, int end) {
         query.append(chars, start, end);
     }
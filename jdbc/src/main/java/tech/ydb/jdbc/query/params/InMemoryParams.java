@@ -2,16 +2,23 @@ package tech.ydb.jdbc.query.params;
 
 
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.common.TypeDescription;
 import tech.ydb.jdbc.query.JdbcParams;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 
@@ -21,19 +28,55 @@ import tech.ydb.table.values.Value;
  * @author Aleksandr Gorshenin
  */
 public class InMemoryParams implements JdbcParams {
+    private static final List<PrimitiveType> SIGNED = Arrays.asList(
+            PrimitiveType.Int8, PrimitiveType.Int16, PrimitiveType.Int32, PrimitiveType.Int64
+    );
+    private static final List<PrimitiveType> UNSIGNED = Arrays.asList(
+            PrimitiveType.Uint8, PrimitiveType.Uint16, PrimitiveType.Uint32, PrimitiveType.Uint64
+    );
+
     private final String[] paramNames;
+    // position of parameter in the list or -1 for usual parameters
+    private final int[] listPositions;
     private final Map<String, Value<?>> paramValues;
+    private final Map<String, Value<?>[]> listValues;
     private final List<Params> batchList;
 
-    public InMemoryParams(List<String> params) {
+    public InMemoryParams(List<String> params, Set<String> listParams) {
         this.paramNames = params.toArray(new String[0]);
+        this.listPositions = new int[paramNames.length];
         this.paramValues = new HashMap<>();
+        this.listValues = new HashMap<>();
         this.batchList = new ArrayList<>();
+
+        Map<String, Integer> listSizes = new HashMap<>();
+        for (int idx = 0; idx < paramNames.length; idx += 1) {
+            String name = paramNames[idx];
+            if (listParams.contains(name)) {
+                int position = listSizes.getOrDefault(name, 0);
+                listPositions[idx] = position;
+                listSizes.put(name, position + 1);
+            } else {
+                listPositions[idx] = -1;
+            }
+        }
+
+        for (Map.Entry<String, Integer> list: listSizes.entrySet()) {
+            listValues.put(list.getKey(), new Value<?>[list.getValue()]);
+        }
     }
 
     @Override
     public int parametersCount() {
-        return paramValues.size();
+        int count = paramValues.size();
+        for (Value<?>[] items: listValues.values()) {
+            for (Value<?> item: items) {
+                if (item != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
     }
 
     @Override
@@ -42,9 +85,9 @@ public class InMemoryParams implements JdbcParams {
     }
 
     @Override
-    public void addBatch() {
-        batchList.add(Params.copyOf(paramValues));
-        paramValues.clear();
+    public void addBatch() throws SQLException {
+        batchList.add(getCurrentParams());
+        clearParameters();
     }
 
     @Override
@@ -55,6 +98,9 @@ public class InMemoryParams implements JdbcParams {
     @Override
     public void clearParameters() {
         paramValues.clear();
+        for (Value<?>[] items: listValues.values()) {
+            Arrays.fill(items, null);
+        }
     }
 
     @Override
@@ -63,8 +109,19 @@ public class InMemoryParams implements JdbcParams {
     }
 
     @Override
-    public Params getCurrentParams() {
-        return Params.copyOf(paramValues);
+    public Params getCurrentParams() throws SQLException {
+        if (listValues.isEmpty()) {
+            return Params.copyOf(paramValues);
+        }
+
+        Map<String, Value<?>> values = new HashMap<>(paramValues);
+        for (Map.Entry<String, Value<?>[]> list: listValues.entrySet()) {
+            Value<?> value = buildList(list.getKey(), list.getValue());
+            if (value != null) {
+                values.put(list.getKey(), value);
+            }
+        }
+        return Params.copyOf(values);
     }
 
     @Override
@@ -81,7 +138,8 @@ public class InMemoryParams implements JdbcParams {
             throw new SQLException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
         String name = paramNames[index - 1];
-        Value<?> arg = paramValues.get(name);
+        int position = listPositions[index - 1];
+        Value<?> arg = position < 0 ? paramValues.get(name) : listValues.get(name)[position];
         return arg == null ? null : TypeDescription.of(arg.getType());
     }
 
@@ -91,17 +149,165 @@ public class InMemoryParams implements JdbcParams {
             throw new SQLException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
 
-        setParam(paramNames[index - 1], obj, type);
+        String name = paramNames[index - 1];
+        int position = listPositions[index - 1];
+        if (position < 0) {
+            setParam(name, obj, type);
+            return;
+        }
+
+        listValues.get(name)[position] = toValue(name, obj, type);
     }
 
     @Override
     public void setParam(String name, Object obj, Type type) throws SQLException {
+        paramValues.put(name, toValue(name, obj, type));
+    }
+
+    private static Value<?> toValue(String name, Object obj, Type type) throws SQLException {
         if (obj instanceof Value<?>) {
-            paramValues.put(name, (Value<?>) obj);
-            return;
+            return (Value<?>) obj;
         }
 
         ParamDescription desc = new ParamDescription(-1, name, TypeDescription.of(type));
-        paramValues.put(name, desc.getValue(obj));
+        return desc.getValue(obj);
+    }
+
+    /**
+     * Packs items of JDBC list into one value. If some items are nulls, all items become optional. Numeric and text
+     * items of different types are widened to the common type, for example Int32 and Int64 items become Int64.
+     *
+     * @param name name of list parameter
+     * @param items values of JDBC parameters
+     * @return list value or null if not all items are set
+     * @throws SQLException if items have types without common one
+     */
+    private static Value<?> buildList(String name, Value<?>[] items) throws SQLException {
+        Type itemType = null;
+        boolean isOptional = false;
+        for (Value<?> item: items) {
+            if (item == null) {
+                return null;
+            }
+
+            Type type = item.getType();
+            if (type.getKind() == Type.Kind.OPTIONAL) {
+                isOptional = true;
+                type = type.unwrapOptional();
+            }
+
+            if (itemType == null) {
+                itemType = type;
+            } else {
+                Type common = commonType(itemType, type);
+                if (common == null) {
+                    throw new SQLException(String.format(YdbConst.INVALID_PARAMETER_TYPE, name, type, itemType));
+                }
+                itemType = common;
+            }
+        }
+
+        List<Value<?>> values = new ArrayList<>(items.length);
+        for (Value<?> item: items) {
+            if (!(item instanceof OptionalValue)) {
+                Value<?> value = castItem(item, itemType);
+                values.add(isOptional ? value.makeOptional() : value);
+            } else if (((OptionalValue) item).isPresent()) {
+                values.add(castItem(((OptionalValue) item).get(), itemType).makeOptional());
+            } else {
+                values.add(itemType.makeOptional().emptyValue());
+            }
+        }
+        return ListType.of(isOptional ? itemType.makeOptional() : itemType).newValue(values);
+    }
+
+    private static Type commonType(Type first, Type second) {
+        if (first.equals(second)) {
+            return first;
+        }
+        if (first.getKind() != Type.Kind.PRIMITIVE || second.getKind() != Type.Kind.PRIMITIVE) {
+            return null;
+        }
+
+        PrimitiveType p1 = (PrimitiveType) first;
+        PrimitiveType p2 = (PrimitiveType) second;
+        if (isInteger(p1) && isInteger(p2)) {
+            int signed = Math.max(SIGNED.indexOf(p1), SIGNED.indexOf(p2));
+            int unsigned = Math.max(UNSIGNED.indexOf(p1), UNSIGNED.indexOf(p2));
+            if (signed < 0) {
+                return UNSIGNED.get(unsigned);
+            }
+            // signed type must be wider than unsigned one, there is no common type for Uint64 and signed integers
+            int rank = Math.max(signed, unsigned + 1);
+            return rank < SIGNED.size() ? SIGNED.get(rank) : null;
+        }
+        if (isFloating(p1) && isFloating(p2)) {
+            return PrimitiveType.Double;
+        }
+        if (isString(p1) && isString(p2)) {
+            return PrimitiveType.Bytes;
+        }
+        return null;
+    }
+
+    private static boolean isInteger(PrimitiveType type) {
+        return SIGNED.contains(type) || UNSIGNED.contains(type);
+    }
+
+    private static boolean isFloating(PrimitiveType type) {
+        return type == PrimitiveType.Float || type == PrimitiveType.Double;
+    }
+
+    private static boolean isString(PrimitiveType type) {
+        return type == PrimitiveType.Text || type == PrimitiveType.Bytes;
+    }
+
+    private static Value<?> castItem(Value<?> item, Type type) {
+        if (item.getType().equals(type)) {
+            return item;
+        }
+
+        PrimitiveValue value = (PrimitiveValue) item;
+        switch ((PrimitiveType) type) {
+            case Int16:
+                return PrimitiveValue.newInt16((short) longValue(value));
+            case Int32:
+                return PrimitiveValue.newInt32((int) longValue(value));
+            case Int64:
+                return PrimitiveValue.newInt64(longValue(value));
+            case Uint16:
+                return PrimitiveValue.newUint16((int) longValue(value));
+            case Uint32:
+                return PrimitiveValue.newUint32(longValue(value));
+            case Uint64:
+                return PrimitiveValue.newUint64(longValue(value));
+            case Double:
+                return PrimitiveValue.newDouble(value.getFloat());
+            case Bytes:
+                return PrimitiveValue.newBytes(value.getText().getBytes(StandardCharsets.UTF_8));
+            default:
+                return item;
+        }
+    }
+
+    private static long longValue(PrimitiveValue value) {
+        switch (value.getType()) {
+            case Int8:
+                return value.getInt8();
+            case Int16:
+                return value.getInt16();
+            case Int32:
+                return value.getInt32();
+            case Uint8:
+                return value.getUint8();
+            case Uint16:
+                return value.getUint16();
+            case Uint32:
+                return value.getUint32();
+            case Uint64:
+                return value.getUint64();
+            default:
+                return value.getInt64();
+        }
     }
 }
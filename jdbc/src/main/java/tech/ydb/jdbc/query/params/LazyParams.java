@@ -0,0 +1,145 @@
+package tech.ydb.jdbc.query.params;
+
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.common.TypeDescription;
+import tech.ydb.jdbc.query.JdbcParams;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Type;
+
+/**
+ * Parameters of query which is not prepared yet. Values set by name are kept in memory with types inferred from the
+ * values, like {@link InMemoryParams} does. Access by index requires types of all parameters, so the first such call
+ * prepares the query and switches to the prepared parameters, all values set before are set again. Batches are always
+ * built by the prepared parameters, so the first {@link #addBatch() } prepares the query too.
+ */
+public class LazyParams implements JdbcParams {
+    public interface Resolver {
+        JdbcParams resolve() throws SQLException;
+    }
+
+    private final Resolver resolver;
+    private final InMemoryParams inMemory = new InMemoryParams(Collections.emptyList(), Collections.emptySet());
+    private final Map<String, NamedValue> namedValues = new LinkedHashMap<>();
+
+    private JdbcParams prepared = null;
+
+    public LazyParams(Resolver resolver) {
+        this.resolver = resolver;
+    }
+
+    public boolean isPrepared() {
+        return prepared != null;
+    }
+
+    /**
+     * Prepares the query if it is not prepared yet, for example when the server has rejected inferred types of values
+     *
+     * @throws SQLException if the query cannot be prepared
+     */
+    public void prepare() throws SQLException {
+        prepared();
+    }
+
+    private JdbcParams prepared() throws SQLException {
+        if (prepared == null) {
+            JdbcParams params = resolver.resolve();
+            for (Map.Entry<String, NamedValue> entry: namedValues.entrySet()) {
+                String name = entry.getKey();
+                if (name.startsWith(YdbConst.VARIABLE_PARAMETER_PREFIX)) {
+                    name = name.substring(YdbConst.VARIABLE_PARAMETER_PREFIX.length());
+                }
+                params.setParam(name, entry.getValue().value, entry.getValue().type);
+            }
+            namedValues.clear();
+            inMemory.clearParameters();
+            prepared = params;
+        }
+        return prepared;
+    }
+
+    @Override
+    public void clearParameters() {
+        inMemory.clearParameters();
+        namedValues.clear();
+        if (prepared != null) {
+            prepared.clearParameters();
+        }
+    }
+
+    @Override
+    public void setParam(int index, Object obj, Type type) throws SQLException {
+        prepared().setParam(index, obj, type);
+    }
+
+    @Override
+    public void setParam(String name, Object obj, Type type) throws SQLException {
+        if (prepared != null) {
+            prepared.setParam(name, obj, type);
+            return;
+        }
+
+        String varName = name.startsWith(YdbConst.VARIABLE_PARAMETER_PREFIX) ? name
+                : YdbConst.VARIABLE_PARAMETER_PREFIX + name;
+        inMemory.setParam(varName, obj, type);
+        namedValues.put(name, new NamedValue(obj, type));
+    }
+
+    @Override
+    public String getNameByIndex(int index) throws SQLException {
+        return prepared().getNameByIndex(index);
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        prepared().addBatch();
+    }
+
+    @Override
+    public void clearBatch() {
+        if (prepared != null) {
+            prepared.clearBatch();
+        }
+    }
+
+    @Override
+    public int batchSize() {
+        return prepared != null ? prepared.batchSize() : 0;
+    }
+
+    @Override
+    public int parametersCount() throws SQLException {
+        return prepared().parametersCount();
+    }
+
+    @Override
+    public TypeDescription getDescription(int index) throws SQLException {
+        return prepared().getDescription(index);
+    }
+
+    @Override
+    public List<Params> getBatchParams() throws SQLException {
+        return prepared != null ? prepared.getBatchParams() : Collections.emptyList();
+    }
+
+    @Override
+    public Params getCurrentParams() throws SQLException {
+        return prepared != null ? prepared.getCurrentParams() : inMemory.getCurrentParams();
+    }
+
+    private static class NamedValue {
+        private final Object value;
+        private final Type type;
+
+        NamedValue(Object value, Type type) {
+            this.value = value;
+            this.type = type;
+        }
+    }
+}
@@ -32,11 +32,21 @@ public class YdbClientProperties {
             "sessionPoolSizeMax", "Session pool max size (with with sessionPoolSizeMin)"
     );
 
+    static final YdbProperty<Boolean> USE_READ_ONLY_CONTEXT = YdbProperty.bool("useReadOnlyContext",
+            "Serve read-only connections by the dedicated context with own transport and session pool", false
+    );
+
+    static final YdbProperty<Integer> READ_ONLY_SESSION_POOL_SIZE_MAX = YdbProperty.integer(
+            "readOnlySessionPoolSizeMax", "Session pool max size of the read-only context (with useReadOnlyContext)"
+    );
+
     private final YdbValue<Boolean> keepQueryText;
     private final YdbValue<Duration> sessionKeepAliveTime;
     private final YdbValue<Duration> sessionMaxIdleTime;
     private final YdbValue<Integer> sessionPoolMinSize;
     private final YdbValue<Integer> sessionPoolMaxSize;
+    private final YdbValue<Boolean> useReadOnlyContext;
+    private final YdbValue<Integer> readOnlySessionPoolMaxSize;
 
     public YdbClientProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -46,9 +56,27 @@ public class YdbClientProperties {
         this.sessionMaxIdleTime = SESSION_MAX_IDLE_TIME.readValue(props);
         this.sessionPoolMinSize = SESSION_POOL_SIZE_MIN.readValue(props);
         this.sessionPoolMaxSize = SESSION_POOL_SIZE_MAX.readValue(props);
+        this.useReadOnlyContext = USE_READ_ONLY_CONTEXT.readValue(props);
+        this.readOnlySessionPoolMaxSize = READ_ONLY_SESSION_POOL_SIZE_MAX.readValue(props);
+    }
+
+    public boolean isUseReadOnlyContext() {
+        return useReadOnlyContext.getValue();
     }
 
     public boolean applyToTableClient(TableClient.Builder table, QueryClient.Builder query) {
+        return applyToTableClient(table, query, sessionPoolMaxSize);
+    }
+
+    public boolean applyToReadOnlyTableClient(TableClient.Builder table, QueryClient.Builder query) {
+        if (readOnlySessionPoolMaxSize.hasValue()) {
+            return applyToTableClient(table, query, readOnlySessionPoolMaxSize);
+        }
+        return applyToTableClient(table, query, sessionPoolMaxSize);
+    }
+
+    private boolean applyToTableClient(TableClient.Builder table, QueryClient.Builder query,
+            YdbValue<Integer> poolMaxSize) {
         if (keepQueryText.hasValue()) {
             table.keepQueryText(keepQueryText.getValue());
         }
@@ -62,7 +90,7 @@ public class YdbClientProperties {
             query.sessionMaxIdleTime(sessionMaxIdleTime.getValue());
         }
 
-        if (!sessionPoolMinSize.hasValue() && !sessionPoolMaxSize.hasValue()) {
+        if (!sessionPoolMinSize.hasValue() && !poolMaxSize.hasValue()) {
             return true;
         }
 
@@ -73,8 +101,8 @@ public class YdbClientProperties {
             minSize = Math.max(0, sessionPoolMinSize.getValue());
             maxSize = Math.max(maxSize, minSize);
         }
-        if (sessionPoolMaxSize.hasValue()) {
-            maxSize = Math.max(minSize + 1, sessionPoolMaxSize.getValue());
+        if (poolMaxSize.hasValue()) {
+            maxSize = Math.max(minSize + 1, poolMaxSize.getValue());
         }
 
         table.sessionPoolSize(minSize, maxSize);
@@ -6,10 +6,11 @@ import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import tech.ydb.core.utils.URITools;
 import tech.ydb.jdbc.YdbConst;
@@ -21,11 +22,10 @@ import tech.ydb.jdbc.YdbConst;
  *
  * @author Aleksandr Gorshenin
  */
-// TODO: implement cache based on connection and client properties only (excluding operation properties)
 public class YdbConfig {
     static final String TOKEN_KEY = "token";
-    static final String USERNAME_KEY = "user";
-    static final String PASSWORD_KEY = "password";
+    public static final String USERNAME_KEY = "user";
+    public static final String PASSWORD_KEY = "password";
 
     static final YdbProperty<Boolean> CACHE_CONNECTIONS_IN_DRIVER = YdbProperty.bool(
             "cacheConnectionsInDriver",
@@ -37,9 +37,21 @@ public class YdbConfig {
             "Specifies the maximum number of entries in per-transport cache of prepared statements. A value of "
                     + "{@code 0} disables the cache.", 256
     );
+    static final YdbProperty<Integer> RESULT_CACHE_SIZE = YdbProperty.integer("resultCacheSize",
+            "Specifies the maximum size in bytes of per-transport cache of query results. Results are cached only for "
+                    + "read-only transaction levels or for queries with hint " + YdbConst.RESULT_CACHE_HINT
+                    + ". A value of {@code 0} disables the cache.", 0
+    );
+    static final YdbProperty<Duration> RESULT_CACHE_TTL = YdbProperty.duration("resultCacheTtl",
+            "Time to live of cached query results", "1s"
+    );
     static final YdbProperty<Boolean> USE_QUERY_SERVICE = YdbProperty.bool("useQueryService",
             "Use QueryService intead of TableService", false
     );
+    static final YdbProperty<Boolean> USE_SHARED_SCHEDULER = YdbProperty.bool("useSharedScheduler",
+            "Use scheduler shared by all connections of the driver instead of own scheduler threads of every "
+                    + "database connection", false
+    );
 
 
     private final String url;
@@ -52,7 +64,14 @@ public class YdbConfig {
     private final Properties properties;
     private final boolean isCacheConnectionsInDriver;
     private final int preparedStatementsCacheSize;
+    private final int resultCacheSize;
+    private final Duration resultCacheTtl;
     private final boolean useQueryService;
+    private final boolean useSharedScheduler;
+    // precomputed keys, config is used as key of contexts cache on every connect
+    private final String cacheKey;
+    private final int cacheKeyHash;
+    private final String operationKey;
 
     private YdbConfig(
             String url, String safeUrl, String connectionString, String username, String password, Properties props
@@ -65,7 +84,29 @@ public class YdbConfig {
         this.properties = props;
         this.isCacheConnectionsInDriver = CACHE_CONNECTIONS_IN_DRIVER.readValue(props).getValue();
         this.preparedStatementsCacheSize = Math.max(0, PREPARED_STATEMENT_CACHE_SIZE.readValue(props).getValue());
+        this.resultCacheSize = Math.max(0, RESULT_CACHE_SIZE.readValue(props).getValue());
+        this.resultCacheTtl = RESULT_CACHE_TTL.readValue(props).getValue();
         this.useQueryService = USE_QUERY_SERVICE.readValue(props).getValue();
+        this.useSharedScheduler = USE_SHARED_SCHEDULER.readValue(props).getValue();
+        this.cacheKey = buildKey(connectionString + '\n' + username + '\n' + password, props, false);
+        this.cacheKeyHash = cacheKey.hashCode();
+        this.operationKey = buildKey(url, props, true);
+    }
+
+    private static String buildKey(String prefix, Properties props, boolean operationProperties) {
+        Map<String, String> sorted = new TreeMap<>();
+        for (Map.Entry<Object, Object> entry: props.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (YdbOperationProperties.isOperationProperty(key) == operationProperties) {
+                sorted.put(key, String.valueOf(entry.getValue()));
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(prefix);
+        for (Map.Entry<String, String> entry: sorted.entrySet()) {
+            sb.append('\n').append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return sb.toString();
     }
 
     public Properties getSafeProps() {
@@ -92,14 +133,37 @@ public class YdbConfig {
         return this.preparedStatementsCacheSize;
     }
 
+    public int getResultCacheSize() {
+        return this.resultCacheSize;
+    }
+
+    public Duration getResultCacheTtl() {
+        return this.resultCacheTtl;
+    }
+
     public boolean isUseQueryService() {
         return this.useQueryService;
     }
 
+    public boolean isUseSharedScheduler() {
+        return this.useSharedScheduler;
+    }
+
     static boolean isSensetive(String key) {
         return TOKEN_KEY.equalsIgnoreCase(key)  || PASSWORD_KEY.equalsIgnoreCase(key);
     }
 
+    /**
+     * Checks that configs have the same url and operation properties. Configs are equal if they differ only in
+     * operation properties, so connections of such configs share one context
+     *
+     * @param other other config
+     * @return true if connections of other config can use the context of this config as is
+     */
+    public boolean hasEqualOperationProperties(YdbConfig other) {
+        return operationKey.equals(other.operationKey);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -109,12 +173,12 @@ public class YdbConfig {
             return false;
         }
         YdbConfig that = (YdbConfig) o;
-        return Objects.equals(url, that.url) && Objects.equals(properties, that.properties);
+        return cacheKeyHash == that.cacheKeyHash && cacheKey.equals(that.cacheKey);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(url, properties);
+        return cacheKeyHash;
     }
 
     public String getUrl() {
@@ -141,7 +205,10 @@ public class YdbConfig {
         return new DriverPropertyInfo[] {
             YdbConfig.CACHE_CONNECTIONS_IN_DRIVER.toInfo(properties),
             YdbConfig.PREPARED_STATEMENT_CACHE_SIZE.toInfo(properties),
+            YdbConfig.RESULT_CACHE_SIZE.toInfo(properties),
+            YdbConfig.RESULT_CACHE_TTL.toInfo(properties),
             YdbConfig.USE_QUERY_SERVICE.toInfo(properties),
+            YdbConfig.USE_SHARED_SCHEDULER.toInfo(properties),
 
             YdbConnectionProperties.LOCAL_DATACENTER.toInfo(properties),
             YdbConnectionProperties.USE_SECURE_CONNECTION.toInfo(properties),
@@ -151,12 +218,15 @@ public class YdbConfig {
             YdbConnectionProperties.USE_METADATA.toInfo(properties),
             YdbConnectionProperties.IAM_ENDPOINT.toInfo(properties),
             YdbConnectionProperties.METADATA_URL.toInfo(properties),
+            YdbConnectionProperties.CHANNEL_POOL_SIZE.toInfo(properties),
 
             YdbClientProperties.KEEP_QUERY_TEXT.toInfo(properties),
             YdbClientProperties.SESSION_KEEP_ALIVE_TIME.toInfo(properties),
             YdbClientProperties.SESSION_MAX_IDLE_TIME.toInfo(properties),
             YdbClientProperties.SESSION_POOL_SIZE_MIN.toInfo(properties),
             YdbClientProperties.SESSION_POOL_SIZE_MAX.toInfo(properties),
+            YdbClientProperties.USE_READ_ONLY_CONTEXT.toInfo(properties),
+            YdbClientProperties.READ_ONLY_SESSION_POOL_SIZE_MAX.toInfo(properties),
 
             YdbOperationProperties.JOIN_DURATION.toInfo(properties),
             YdbOperationProperties.QUERY_TIMEOUT.toInfo(properties),
@@ -168,12 +238,19 @@ public class YdbConfig {
             YdbOperationProperties.TRANSACTION_LEVEL.toInfo(properties),
             YdbOperationProperties.SCHEME_QUERY_TX_MODE.toInfo(properties),
             YdbOperationProperties.SCAN_QUERY_TX_MODE.toInfo(properties),
+            YdbOperationProperties.USE_COLUMNAR_RESULTS.toInfo(properties),
+            YdbOperationProperties.SCAN_QUERY_SPILL_THRESHOLD.toInfo(properties),
+            YdbOperationProperties.BATCH_PARALLELISM.toInfo(properties),
+            YdbOperationProperties.DEFER_DML_QUERIES.toInfo(properties),
+            YdbOperationProperties.COMMIT_WITH_LAST_QUERY.toInfo(properties),
 
             YdbQueryProperties.DISABLE_PREPARE_DATAQUERY.toInfo(properties),
+            YdbQueryProperties.LAZY_PREPARE_THRESHOLD.toInfo(properties),
             YdbQueryProperties.DISABLE_AUTO_PREPARED_BATCHES.toInfo(properties),
             YdbQueryProperties.DISABLE_DETECT_SQL_OPERATIONS.toInfo(properties),
             YdbQueryProperties.DISABLE_JDBC_PARAMETERS.toInfo(properties),
             YdbQueryProperties.DISABLE_JDBC_PARAMETERS_DECLARE.toInfo(properties),
+            YdbQueryProperties.DISABLE_JDBC_IN_LIST_PARAMETERS.toInfo(properties),
             YdbQueryProperties.FORCE_QUERY_MODE.toInfo(properties),
         };
     }
@@ -8,6 +8,7 @@ import tech.ydb.auth.iam.CloudAuthHelper;
 import tech.ydb.core.auth.StaticCredentials;
 import tech.ydb.core.grpc.BalancingSettings;
 import tech.ydb.core.grpc.GrpcTransportBuilder;
+import tech.ydb.jdbc.common.PooledChannelFactory;
 
 
 public class YdbConnectionProperties {
@@ -34,6 +35,11 @@ public class YdbConnectionProperties {
     static final YdbProperty<String> METADATA_URL = YdbProperty.content("metadataURL",
             "Custom URL for the metadata service authentication");
 
+    static final YdbProperty<Integer> CHANNEL_POOL_SIZE = YdbProperty.integer("channelPoolSize",
+            "Count of gRPC channels to every YDB node, calls are sent to the channel with the least count of active "
+                    + "calls. Several channels help to avoid the limit of concurrent streams of one HTTP/2 connection",
+            1);
+
     private final String username;
     private final String password;
 
@@ -45,6 +51,7 @@ public class YdbConnectionProperties {
     private final YdbValue<Boolean> useMetadata;
     private final YdbValue<String> iamEndpoint;
     private final YdbValue<String> metadataUrl;
+    private final YdbValue<Integer> channelPoolSize;
 
     public YdbConnectionProperties(YdbConfig config) throws SQLException {
         this.username = config.getUsername();
@@ -60,6 +67,7 @@ public class YdbConnectionProperties {
         this.useMetadata = USE_METADATA.readValue(props);
         this.iamEndpoint = IAM_ENDPOINT.readValue(props);
         this.metadataUrl = METADATA_URL.readValue(props);
+        this.channelPoolSize = CHANNEL_POOL_SIZE.readValue(props);
     }
 
     String getLocalDataCenter() {
@@ -74,6 +82,10 @@ public class YdbConnectionProperties {
         return secureConnectionCertificate.getValue();
     }
 
+    int getChannelPoolSize() {
+        return channelPoolSize.getValue();
+    }
+
     public GrpcTransportBuilder applyToGrpcTransport(GrpcTransportBuilder builder) {
         if (localDatacenter.hasValue()) {
             builder = builder.withBalancingSettings(BalancingSettings.fromLocation(localDatacenter.getValue()));
@@ -114,6 +126,10 @@ public class YdbConnectionProperties {
             builder = builder.withAuthProvider(new StaticCredentials(username, password));
         }
 
+        if (channelPoolSize.getValue() > 1) {
+            builder = builder.withChannelFactoryBuilder(PooledChannelFactory.builder(channelPoolSize.getValue()));
+        }
+
         return builder;
     }
 }
@@ -4,6 +4,9 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 public class YdbOperationProperties {
@@ -46,6 +49,33 @@ public class YdbOperationProperties {
             FakeTxMode.ERROR
     );
 
+    static final YdbProperty<Boolean> USE_COLUMNAR_RESULTS = YdbProperty.bool("useColumnarResults",
+            "Decode results of data and scan queries into compact columnar buffers, that makes scrolling "
+                    + "and reading of large results cheaper", false);
+
+    static final YdbProperty<Integer> SCAN_QUERY_SPILL_THRESHOLD = YdbProperty.integer("scanQuerySpillThreshold",
+            "Max count of scan query result rows kept in memory, larger results are spilled to temporary "
+                    + "memory-mapped file. Value 0 disables spilling", 0);
+
+    static final YdbProperty<Integer> BATCH_PARALLELISM = YdbProperty.integer("batchParallelism",
+            "Max count of concurrently executed groups of Statement.executeBatch in autoCommit mode. Batch "
+                    + "statements are grouped by target table, value 0 disables grouping", 0);
+
+    static final YdbProperty<Boolean> DEFER_DML_QUERIES = YdbProperty.bool("deferDmlQueries",
+            "Defer DML statements without results inside explicit transactions. Deferred statements are merged "
+                    + "into one request, which is sent before the next data query or with the commit", false);
+
+    static final YdbProperty<Boolean> COMMIT_WITH_LAST_QUERY = YdbProperty.bool("commitWithLastQuery",
+            "Hold the last DML statement without results inside explicit transactions until the next query or "
+                    + "commit, so commit is sent in the same request with the statement", false);
+
+    private static final Set<String> NAMES = Stream.of(
+            JOIN_DURATION, QUERY_TIMEOUT, SCAN_QUERY_TIMEOUT, FAIL_ON_TRUNCATED_RESULT, SESSION_TIMEOUT,
+            DEADLINE_TIMEOUT, AUTOCOMMIT, TRANSACTION_LEVEL, SCAN_QUERY_TX_MODE, SCHEME_QUERY_TX_MODE,
+            USE_COLUMNAR_RESULTS, SCAN_QUERY_SPILL_THRESHOLD, BATCH_PARALLELISM, DEFER_DML_QUERIES,
+            COMMIT_WITH_LAST_QUERY
+    ).map(YdbProperty::getName).collect(Collectors.toSet());
+
     private static final int MAX_ROWS = 1000; // TODO: how to figure out the max rows of current connection?
 
     private final YdbValue<Duration> joinDuration;
@@ -59,6 +89,11 @@ public class YdbOperationProperties {
 
     private final YdbValue<FakeTxMode> scanQueryTxMode;
     private final YdbValue<FakeTxMode> schemeQueryTxMode;
+    private final YdbValue<Boolean> useColumnarResults;
+    private final YdbValue<Integer> scanQuerySpillThreshold;
+    private final YdbValue<Integer> batchParallelism;
+    private final YdbValue<Boolean> deferDmlQueries;
+    private final YdbValue<Boolean> commitWithLastQuery;
 
     public YdbOperationProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -74,6 +109,21 @@ public class YdbOperationProperties {
 
         this.scanQueryTxMode = SCAN_QUERY_TX_MODE.readValue(props);
         this.schemeQueryTxMode = SCHEME_QUERY_TX_MODE.readValue(props);
+        this.useColumnarResults = USE_COLUMNAR_RESULTS.readValue(props);
+        this.scanQuerySpillThreshold = SCAN_QUERY_SPILL_THRESHOLD.readValue(props);
+        this.batchParallelism = BATCH_PARALLELISM.readValue(props);
+        this.deferDmlQueries = DEFER_DML_QUERIES.readValue(props);
+        this.commitWithLastQuery = COMMIT_WITH_LAST_QUERY.readValue(props);
+    }
+
+    /**
+     * Operation properties are applied per connection and don't affect transport and session pools
+     *
+     * @param name name of property
+     * @return true if property is operation property
+     */
+    static boolean isOperationProperty(String name) {
+        return NAMES.contains(name);
     }
 
     public Duration getJoinDuration() {
@@ -116,6 +166,26 @@ public class YdbOperationProperties {
         return transactionLevel.getValue();
     }
 
+    public boolean isUseColumnarResults() {
+        return useColumnarResults.getValue();
+    }
+
+    public int getScanQuerySpillThreshold() {
+        return scanQuerySpillThreshold.getValue();
+    }
+
+    public int getBatchParallelism() {
+        return batchParallelism.getValue();
+    }
+
+    public boolean isDeferDmlQueries() {
+        return deferDmlQueries.getValue();
+    }
+
+    public boolean isCommitWithLastQuery() {
+        return commitWithLastQuery.getValue();
+    }
+
     public int getMaxRows() {
         return MAX_ROWS;
     }
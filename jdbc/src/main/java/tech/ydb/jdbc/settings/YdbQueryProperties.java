@@ -18,6 +18,11 @@ public class YdbQueryProperties {
     static final YdbProperty<Boolean> DISABLE_PREPARE_DATAQUERY = YdbProperty.bool("disablePrepareDataQuery",
             "Disable executing #prepareDataQuery when creating PreparedStatements", false);
 
+    static final YdbProperty<Integer> LAZY_PREPARE_THRESHOLD = YdbProperty.integer("lazyPrepareThreshold",
+            "Count of PreparedStatements of the query which infer types of parameters from the bound values, the "
+                    + "query is prepared in background after that. Value 0 prepares the query on creating of the "
+                    + "first PreparedStatement", 0);
+
     static final YdbProperty<Boolean> DISABLE_AUTO_PREPARED_BATCHES = YdbProperty.bool("disableAutoPreparedBatches",
             "Disable automatically detect list of tuples or structs in prepared statement", false);
 
@@ -27,6 +32,10 @@ public class YdbQueryProperties {
     static final YdbProperty<Boolean> DISABLE_JDBC_PARAMETERS_DECLARE = YdbProperty.bool("disableJdbcParameterDeclare",
             "Disable enforce DECLARE section for JDBC parameters '?'", false);
 
+    static final YdbProperty<Boolean> DISABLE_JDBC_IN_LIST_PARAMETERS = YdbProperty.bool(
+            "disableJdbcInListParameters",
+            "Disable replacing of JDBC lists IN (?, ?, ...) by single YQL parameter with type List", false);
+
     static final YdbProperty<QueryType> FORCE_QUERY_MODE = YdbProperty.enums("forceQueryMode", QueryType.class,
             "Force usage one of query modes (DATA_QUERY, SCAN_QUERY, SCHEME_QUERY or EXPLAIN_QUERYn) for all statements"
     );
@@ -34,9 +43,11 @@ public class YdbQueryProperties {
     private final boolean isDetectQueryType;
     private final boolean isDetectJdbcParameters;
     private final boolean isDeclareJdbcParameters;
+    private final boolean isReplaceJdbcInLists;
 
     private final boolean isPrepareDataQueries;
     private final boolean isDetectBatchQueries;
+    private final int lazyPrepareThreshold;
 
     private final QueryType forcedType;
 
@@ -48,15 +59,18 @@ public class YdbQueryProperties {
 
         this.isPrepareDataQueries = !disablePrepareDataQueries;
         this.isDetectBatchQueries = !disablePrepareDataQueries && !disableAutoPreparedBatches;
+        this.lazyPrepareThreshold = LAZY_PREPARE_THRESHOLD.readValue(props).getValue();
 
         boolean disableJdbcParametersDeclare = DISABLE_JDBC_PARAMETERS_DECLARE.readValue(props).getValue();
         boolean disableJdbcParametersParse = DISABLE_JDBC_PARAMETERS.readValue(props).getValue();
         boolean disableSqlOperationsDetect = DISABLE_DETECT_SQL_OPERATIONS.readValue(props).getValue();
+        boolean disableJdbcInLists = DISABLE_JDBC_IN_LIST_PARAMETERS.readValue(props).getValue();
 
         this.isDetectQueryType = !disableSqlOperationsDetect;
         this.isDetectJdbcParameters = !disableSqlOperationsDetect && !disableJdbcParametersParse;
         this.isDeclareJdbcParameters = !disableSqlOperationsDetect && !disableJdbcParametersParse
                 && !disableJdbcParametersDeclare;
+        this.isReplaceJdbcInLists = this.isDetectJdbcParameters && !disableJdbcInLists;
 
         this.forcedType = FORCE_QUERY_MODE.readValue(props).getValue();
     }
@@ -73,10 +87,18 @@ public class YdbQueryProperties {
         return isDeclareJdbcParameters;
     }
 
+    public boolean isReplaceJdbcInLists() {
+        return isReplaceJdbcInLists;
+    }
+
     public boolean iPrepareDataQueries() {
         return isPrepareDataQueries;
     }
 
+    public int getLazyPrepareThreshold() {
+        return lazyPrepareThreshold;
+    }
+
     public boolean isDetectBatchQueries() {
         return isDetectBatchQueries;
     }
@@ -0,0 +1,150 @@
+package tech.ydb.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.impl.YdbPooledConnection;
+import tech.ydb.jdbc.impl.helper.ExceptionAssert;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+public class YdbDataSourceTest {
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb);
+
+    private static YdbDataSource createDataSource(int poolSize) {
+        YdbDataSource ds = new YdbDataSource();
+        ds.setUrl(jdbcURL.build());
+        ds.setMaxPoolSize(poolSize);
+        ds.setLoginTimeout(1);
+        return ds;
+    }
+
+    private static int selectInt(PreparedStatement ps, int value) throws SQLException {
+        ps.setInt(1, value);
+        try (ResultSet rs = ps.executeQuery()) {
+            Assertions.assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    public void poolTest() throws SQLException {
+        try (YdbDataSource ds = createDataSource(1)) {
+            Connection first = ds.getConnection();
+            Assertions.assertTrue(first.isValid(5));
+            Assertions.assertSame(first, first.unwrap(YdbConnection.class));
+
+            SQLTransientConnectionException ex = Assertions.assertThrows(SQLTransientConnectionException.class,
+                    ds::getConnection);
+            Assertions.assertEquals("Timeout of waiting for free connection in pool: 1000 ms", ex.getMessage());
+
+            Statement statement = first.createStatement();
+            Assertions.assertSame(first, statement.getConnection());
+
+            first.close();
+            Assertions.assertTrue(first.isClosed());
+            Assertions.assertTrue(statement.isClosed());
+            ExceptionAssert.sqlException("Connection is closed", first::createStatement);
+
+            try (Connection second = ds.getConnection()) {
+                Assertions.assertNotSame(first, second);
+                Assertions.assertTrue(second.isValid(5));
+            }
+        }
+    }
+
+    @Test
+    public void resetStateTest() throws SQLException {
+        try (YdbDataSource ds = createDataSource(1)) {
+            try (Connection connection = ds.getConnection()) {
+                connection.setAutoCommit(false);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("select 1");
+                }
+                Assertions.assertNotNull(connection.unwrap(YdbConnection.class).getYdbTxId());
+            }
+
+            try (Connection connection = ds.getConnection()) {
+                // transaction is rolled back, auto-commit is restored
+                Assertions.assertTrue(connection.getAutoCommit());
+                Assertions.assertNull(connection.unwrap(YdbConnection.class).getYdbTxId());
+
+                connection.setReadOnly(true);
+                connection.setTransactionIsolation(YdbConst.ONLINE_CONSISTENT_READ_ONLY);
+            }
+
+            try (Connection connection = ds.getConnection()) {
+                Assertions.assertFalse(connection.isReadOnly());
+                Assertions.assertEquals(Connection.TRANSACTION_SERIALIZABLE, connection.getTransactionIsolation());
+            }
+        }
+    }
+
+    @Test
+    public void statementsCacheTest() throws SQLException {
+        String sql = "declare $p1 as Int32; select $p1 + 1";
+        try (YdbDataSource ds = createDataSource(1)) {
+            String cached;
+            try (Connection connection = ds.getConnection()) {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                Assertions.assertEquals(2, selectInt(ps, 1));
+                cached = ps.toString();
+                ps.setMaxRows(10);
+                ps.close();
+                Assertions.assertTrue(ps.isClosed());
+            }
+
+            try (Connection connection = ds.getConnection()) {
+                // the same physical statement is returned with reset settings
+                try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                    Assertions.assertEquals(cached, ps.toString());
+                    Assertions.assertEquals(0, ps.getMaxRows());
+                    Assertions.assertEquals(3, selectInt(ps, 2));
+
+                    // statement in use is not shared
+                    try (PreparedStatement other = connection.prepareStatement(sql)) {
+                        Assertions.assertNotEquals(cached, other.toString());
+                    }
+                }
+
+                // not poolable statement is closed
+                try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                    Assertions.assertEquals(cached, ps.toString());
+                    ps.setPoolable(false);
+                }
+                try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                    Assertions.assertNotEquals(cached, ps.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void pooledConnectionTest() throws SQLException {
+        try (YdbConnectionPoolDataSource ds = new YdbConnectionPoolDataSource()) {
+            ds.setUrl(jdbcURL.build());
+            YdbPooledConnection pooled = ds.getPooledConnection();
+
+            Connection first = pooled.getConnection();
+            Connection second = pooled.getConnection();
+            // opening of new logical connection closes the previous one
+            Assertions.assertTrue(first.isClosed());
+            Assertions.assertFalse(second.isClosed());
+
+            pooled.close();
+            Assertions.assertTrue(second.isClosed());
+            ExceptionAssert.sqlException("Connection is closed", pooled::getConnection);
+        }
+    }
+}
@@ -77,6 +77,18 @@ public class YdbDriverIntegrationTest {
             Assertions.assertNotSame(ctx, unwrapped.getCtx());
         }
 
+        // operation properties don't require separate context
+        try (Connection conn = DriverManager.getConnection(jdbcURL.withArg("autoCommit", "false").build())) {
+            Assertions.assertTrue(conn.isValid(5000));
+            Assertions.assertFalse(conn.getAutoCommit());
+
+            YdbConnection unwrapped = conn.unwrap(YdbConnection.class);
+            Assertions.assertNotSame(ctx, unwrapped.getCtx());
+            Assertions.assertSame(ctx.getGrpcTransport(), unwrapped.getCtx().getGrpcTransport());
+            Assertions.assertSame(ctx.getTableClient(), unwrapped.getCtx().getTableClient());
+            Assertions.assertFalse(unwrapped.getCtx().getOperationProperties().isAutoCommit());
+        }
+
         try (Connection conn5 = DriverManager.getConnection(jdbcURL.withArg("test", "false").build())) {
             Assertions.assertTrue(conn5.isValid(5000));
 
@@ -87,15 +99,33 @@ public class YdbDriverIntegrationTest {
 
         firstConnection.close();
 
+        // unused context is closed after the grace period
         try (Connection conn6 = DriverManager.getConnection(jdbcURL.build())) {
             Assertions.assertTrue(conn6.isValid(5000));
 
             YdbConnection unwrapped = conn6.unwrap(YdbConnection.class);
+            Assertions.assertSame(ctx, unwrapped.getCtx());
+        }
+
+        waitContextClosed();
+
+        try (Connection conn7 = DriverManager.getConnection(jdbcURL.build())) {
+            Assertions.assertTrue(conn7.isValid(5000));
+
+            YdbConnection unwrapped = conn7.unwrap(YdbConnection.class);
             Assertions.assertNotNull(unwrapped.getCtx());
             Assertions.assertNotSame(ctx, unwrapped.getCtx());
         }
     }
 
+    private static void waitContextClosed() {
+        try {
+            Thread.sleep(1500);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     public void testContextCacheConncurrent() throws SQLException {
         List<CompletableFuture<YdbConnection>> list = new ArrayList<>();
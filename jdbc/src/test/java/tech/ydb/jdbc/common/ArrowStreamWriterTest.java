@@ -0,0 +1,175 @@
+package tech.ydb.jdbc.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+public class ArrowStreamWriterTest {
+    private static ValueProtos.Column column(String name, Type type) {
+        return ValueProtos.Column.newBuilder().setName(name).setType(type.toPb()).build();
+    }
+
+    private static ValueProtos.Value row(Value<?>... values) {
+        ValueProtos.Value.Builder row = ValueProtos.Value.newBuilder();
+        for (Value<?> value: values) {
+            row.addItems(value.toPb());
+        }
+        return row.build();
+    }
+
+    private static ResultSetReader testResultSet() {
+        Type optionalText = PrimitiveType.Text.makeOptional();
+        return ProtoValueReaders.forResultSet(ValueProtos.ResultSet.newBuilder()
+                .addColumns(column("id", PrimitiveType.Int32))
+                .addColumns(column("name", optionalText))
+                .addColumns(column("flag", PrimitiveType.Bool))
+                .addRows(row(PrimitiveValue.newInt32(1), PrimitiveValue.newText("one").makeOptional(),
+                        PrimitiveValue.newBool(true)))
+                .addRows(row(PrimitiveValue.newInt32(2), optionalText.makeOptional().emptyValue(),
+                        PrimitiveValue.newBool(false)))
+                .addRows(row(PrimitiveValue.newInt32(3), PrimitiveValue.newText("th,\"ree\"").makeOptional(),
+                        PrimitiveValue.newBool(true)))
+                .build());
+    }
+
+    /** Reads table position by the uoffset at given position */
+    private static int deref(ByteBuffer buf, int pos) {
+        return pos + buf.getInt(pos);
+    }
+
+    /** Returns absolute position of table field or -1 if field is absent */
+    private static int field(ByteBuffer buf, int table, int slot) {
+        int vtable = table - buf.getInt(table);
+        int vtableSize = buf.getShort(vtable);
+        if (4 + slot * 2 >= vtableSize) {
+            return -1;
+        }
+        int offset = buf.getShort(vtable + 4 + slot * 2);
+        return offset == 0 ? -1 : table + offset;
+    }
+
+    private static String string(ByteBuffer buf, int pos) {
+        int str = deref(buf, pos);
+        byte[] bytes = new byte[buf.getInt(str)];
+        ((ByteBuffer) buf.duplicate().position(str + 4)).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer readMessage(ByteBuffer stream) {
+        Assertions.assertEquals(0xFFFFFFFF, stream.getInt());
+        int length = stream.getInt();
+        Assertions.assertEquals(0, length % 8);
+        ByteBuffer metadata = stream.slice().order(ByteOrder.LITTLE_ENDIAN);
+        metadata.limit(length);
+        stream.position(stream.position() + length);
+        return metadata;
+    }
+
+    @Test
+    public void arrowStreamTest() throws IOException, SQLException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ArrowStreamWriter.write(testResultSet(), 3, out);
+        ByteBuffer stream = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+
+        // Schema message
+        ByteBuffer schemaMsg = readMessage(stream);
+        int message = deref(schemaMsg, 0);
+        Assertions.assertEquals(4, schemaMsg.getShort(field(schemaMsg, message, 0))); // V5
+        Assertions.assertEquals(1, schemaMsg.get(field(schemaMsg, message, 1))); // Schema
+        int schema = deref(schemaMsg, field(schemaMsg, message, 2));
+        int fields = deref(schemaMsg, field(schemaMsg, schema, 1));
+        Assertions.assertEquals(3, schemaMsg.getInt(fields));
+
+        String[] names = new String[] {"id", "name", "flag"};
+        int[] types = new int[] {2, 5, 6}; // Int, Utf8, Bool
+        boolean[] nullables = new boolean[] {false, true, false};
+        for (int idx = 0; idx < 3; idx++) {
+            int fieldTable = deref(schemaMsg, fields + 4 + idx * 4);
+            Assertions.assertEquals(names[idx], string(schemaMsg, field(schemaMsg, fieldTable, 0)));
+            Assertions.assertEquals(nullables[idx], schemaMsg.get(field(schemaMsg, fieldTable, 1)) != 0);
+            Assertions.assertEquals(types[idx], schemaMsg.get(field(schemaMsg, fieldTable, 2)));
+            int children = deref(schemaMsg, field(schemaMsg, fieldTable, 5));
+            Assertions.assertEquals(0, schemaMsg.getInt(children));
+        }
+        int intType = deref(schemaMsg, field(schemaMsg, deref(schemaMsg, fields + 4), 3));
+        Assertions.assertEquals(32, schemaMsg.getInt(field(schemaMsg, intType, 0)));
+        Assertions.assertEquals(1, schemaMsg.get(field(schemaMsg, intType, 1)));
+
+        // Record batch message
+        ByteBuffer batchMsg = readMessage(stream);
+        message = deref(batchMsg, 0);
+        Assertions.assertEquals(3, batchMsg.get(field(batchMsg, message, 1))); // RecordBatch
+        long bodyLength = batchMsg.getLong(field(batchMsg, message, 3));
+        int batch = deref(batchMsg, field(batchMsg, message, 2));
+        Assertions.assertEquals(3L, batchMsg.getLong(field(batchMsg, batch, 0)));
+
+        int nodes = deref(batchMsg, field(batchMsg, batch, 1));
+        Assertions.assertEquals(3, batchMsg.getInt(nodes));
+        Assertions.assertEquals(0, (nodes + 4) % 8);
+        Assertions.assertEquals(3L, batchMsg.getLong(nodes + 4 + 16)); // name length
+        Assertions.assertEquals(1L, batchMsg.getLong(nodes + 4 + 24)); // name null count
+
+        int buffers = deref(batchMsg, field(batchMsg, batch, 2));
+        Assertions.assertEquals(7, batchMsg.getInt(buffers)); // 2 + 3 + 2
+        long[][] layout = new long[7][];
+        for (int idx = 0; idx < 7; idx++) {
+            layout[idx] = new long[] {batchMsg.getLong(buffers + 4 + idx * 16), batchMsg.getLong(buffers + 12 + idx * 16)};
+            Assertions.assertEquals(0, layout[idx][0] % 8);
+        }
+
+        ByteBuffer body = stream.slice().order(ByteOrder.LITTLE_ENDIAN);
+        Assertions.assertEquals(bodyLength + 8, body.remaining()); // body and end of stream
+
+        // id values
+        int ids = (int) layout[1][0];
+        Assertions.assertEquals(12L, layout[1][1]);
+        Assertions.assertEquals(1, body.getInt(ids));
+        Assertions.assertEquals(2, body.getInt(ids + 4));
+        Assertions.assertEquals(3, body.getInt(ids + 8));
+
+        // name validity, offsets and values
+        Assertions.assertEquals(0b101, body.get((int) layout[2][0]));
+        int offsets = (int) layout[3][0];
+        Assertions.assertEquals(0, body.getInt(offsets));
+        Assertions.assertEquals(3, body.getInt(offsets + 4));
+        Assertions.assertEquals(3, body.getInt(offsets + 8));
+        Assertions.assertEquals(11, body.getInt(offsets + 12));
+        byte[] text = new byte[11];
+        ((ByteBuffer) body.duplicate().position((int) layout[4][0])).get(text);
+        Assertions.assertEquals("oneth,\"ree\"", new String(text, StandardCharsets.UTF_8));
+
+        // flag bits
+        Assertions.assertEquals(0b101, body.get((int) layout[6][0]));
+
+        // end of stream
+        body.position((int) bodyLength);
+        Assertions.assertEquals(0xFFFFFFFF, body.getInt());
+        Assertions.assertEquals(0, body.getInt());
+    }
+
+    @Test
+    public void csvTest() throws IOException, SQLException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvWriter.write(testResultSet(), 3, out);
+
+        Assertions.assertEquals("id,name,flag\r\n"
+                + "1,one,true\r\n"
+                + "2,,false\r\n"
+                + "3,\"th,\"\"ree\"\"\",true\r\n",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+package tech.ydb.jdbc.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.io.ByteStreams;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CharSequenceInputStreamTest {
+    private static void assertEncoded(String text) throws IOException {
+        byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+
+        InputStream bulk = new CharSequenceInputStream(text, StandardCharsets.UTF_8);
+        Assertions.assertArrayEquals(expected, ByteStreams.toByteArray(bulk));
+        Assertions.assertEquals(-1, bulk.read());
+
+        InputStream single = new CharSequenceInputStream(text, StandardCharsets.UTF_8);
+        for (byte b: expected) {
+            Assertions.assertEquals(b & 0xFF, single.read());
+        }
+        Assertions.assertEquals(-1, single.read());
+    }
+
+    @Test
+    public void encodeTest() throws IOException {
+        assertEncoded("");
+        assertEncoded("text");
+        assertEncoded("{\"key\": \"значение\", \"emoji\": \"😀\"}");
+
+        StringBuilder sb = new StringBuilder();
+        for (int idx = 0; idx < 10000; idx++) {
+            sb.append("строка-").append(idx);
+        }
+        assertEncoded(sb.toString());
+    }
+}
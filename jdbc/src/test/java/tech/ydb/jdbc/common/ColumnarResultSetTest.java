@@ -0,0 +1,89 @@
+package tech.ydb.jdbc.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+public class ColumnarResultSetTest {
+    private static final FixedResultSetFactory FACTORY = FixedResultSetFactory.newBuilder()
+            .addTextColumn("name")
+            .addIntColumn("id")
+            .addLongColumn("value")
+            .addBooleanColumn("flag")
+            .build();
+
+    private static ResultSetReader source(int rowsCount) {
+        FixedResultSetFactory.ResultSetBuilder builder = FACTORY.createResultSet();
+        for (int idx = 0; idx < rowsCount; idx++) {
+            FixedResultSetFactory.ResultSetBuilder.RowBuilder row = builder.newRow()
+                    .withIntValue("id", idx)
+                    .withLongValue("value", idx * 1000L)
+                    .withBoolValue("flag", idx % 2 == 0);
+            if (idx % 3 != 0) {
+                row.withTextValue("name", "name-" + (idx % 3));
+            }
+            row.build();
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void decodeTest() {
+        ResultSetReader rs = ColumnarResultSet.decode(source(10));
+        Assertions.assertTrue(rs instanceof ColumnarResultSet);
+        Assertions.assertSame(rs, ColumnarResultSet.decode(rs));
+
+        Assertions.assertEquals(10, rs.getRowCount());
+        Assertions.assertEquals(4, rs.getColumnCount());
+        Assertions.assertEquals("name", rs.getColumnName(0));
+        Assertions.assertEquals(2, rs.getColumnIndex("value"));
+        Assertions.assertEquals(PrimitiveType.Int32.makeOptional(), rs.getColumnType(1));
+
+        int idx = 0;
+        while (rs.next()) {
+            Assertions.assertEquals(idx, rs.getColumn("id").getInt32());
+            Assertions.assertEquals(idx * 1000L, rs.getColumn(2).getInt64());
+            Assertions.assertEquals(idx % 2 == 0, rs.getColumn(3).getBool());
+            if (idx % 3 != 0) {
+                Assertions.assertTrue(rs.getColumn(0).isOptionalItemPresent());
+                Assertions.assertEquals("name-" + (idx % 3), rs.getColumn(0).getText());
+                Assertions.assertEquals(PrimitiveValue.newText("name-" + (idx % 3)).makeOptional(),
+                        rs.getColumn(0).getValue());
+            } else {
+                Assertions.assertFalse(rs.getColumn(0).isOptionalItemPresent());
+                Assertions.assertEquals(PrimitiveType.Text.makeOptional().emptyValue(), rs.getColumn(0).getValue());
+            }
+            idx++;
+        }
+        Assertions.assertEquals(10, idx);
+
+        rs.setRowIndex(0);
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> rs.getColumn("unknown"));
+        Assertions.assertEquals("unknown column 'unknown'", ex.getMessage());
+    }
+
+    @Test
+    public void scrollTest() {
+        ResultSetReader rs = ColumnarResultSet.decode(source(5));
+
+        rs.setRowIndex(3);
+        Assertions.assertEquals(3, rs.getColumn(1).getInt32());
+        rs.setRowIndex(0);
+        Assertions.assertEquals(0, rs.getColumn(1).getInt32());
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(0, rs.getColumn(1).getInt32());
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(1, rs.getColumn(1).getInt32());
+
+        rs.setRowIndex(5);
+        Assertions.assertThrows(IllegalStateException.class, () -> rs.getColumn(1));
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            rs.setRowIndex(1);
+            rs.getColumn(1).getText();
+        });
+    }
+}
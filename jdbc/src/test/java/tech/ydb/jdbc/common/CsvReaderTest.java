@@ -0,0 +1,42 @@
+package tech.ydb.jdbc.common;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+    @Test
+    public void readRecordsTest() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\r\n"
+                + "1,,\"\"\r\n"
+                + "\"x,y\",\"say \"\"hi\"\"\",\"multi\r\nline\"\n"
+                + "last"));
+
+        Assertions.assertArrayEquals(new String[] {"a", "b", "c"}, reader.readRecord());
+        Assertions.assertEquals(1, reader.getLineNumber());
+        Assertions.assertArrayEquals(new String[] {"1", null, ""}, reader.readRecord());
+        Assertions.assertEquals(2, reader.getLineNumber());
+        Assertions.assertArrayEquals(new String[] {"x,y", "say \"hi\"", "multi\r\nline"}, reader.readRecord());
+        Assertions.assertEquals(3, reader.getLineNumber());
+        Assertions.assertArrayEquals(new String[] {"last"}, reader.readRecord());
+        Assertions.assertEquals(5, reader.getLineNumber());
+        Assertions.assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void malformedRecordsTest() {
+        IOException ex1 = Assertions.assertThrows(IOException.class,
+                () -> new CsvReader(new StringReader("\"abc")).readRecord());
+        Assertions.assertEquals("Unterminated quoted field at line 1", ex1.getMessage());
+
+        IOException ex2 = Assertions.assertThrows(IOException.class,
+                () -> new CsvReader(new StringReader("\"abc\"d")).readRecord());
+        Assertions.assertEquals("Unexpected character after quote at line 1", ex2.getMessage());
+
+        IOException ex3 = Assertions.assertThrows(IOException.class,
+                () -> new CsvReader(new StringReader("ab\"c")).readRecord());
+        Assertions.assertEquals("Unexpected quote at line 1", ex3.getMessage());
+    }
+}
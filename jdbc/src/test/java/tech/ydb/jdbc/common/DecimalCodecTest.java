@@ -0,0 +1,85 @@
+package tech.ydb.jdbc.common;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.DecimalValue;
+
+public class DecimalCodecTest {
+    private static final DecimalType[] TYPES = new DecimalType[] {
+        DecimalType.getDefault(), DecimalType.of(10, 2), DecimalType.of(5, 0), DecimalType.of(35, 20),
+        DecimalType.of(DecimalType.MAX_PRECISION),
+    };
+
+    private static void assertSameAsSdk(DecimalValue value) {
+        String msg = value.toString() + " of " + value.getType();
+        Assertions.assertEquals(value.toBigInteger().longValue(), DecimalCodec.toLong(value), msg);
+        Assertions.assertEquals(value.toBigInteger().intValue(), DecimalCodec.toInt(value), msg);
+        Assertions.assertEquals(value.toBigDecimal().doubleValue(), DecimalCodec.toDouble(value), msg);
+        Assertions.assertEquals(value.toBigDecimal().floatValue(), DecimalCodec.toFloat(value), msg);
+        Assertions.assertEquals(value.toBigDecimal(), DecimalCodec.toBigDecimal(value), msg);
+    }
+
+    private static void assertSameAsSdk(DecimalType type, BigDecimal value) {
+        Assertions.assertEquals(type.newValue(value), DecimalCodec.fromBigDecimal(type, value), value + " to " + type);
+    }
+
+    @Test
+    public void specialValuesTest() {
+        String[] values = new String[] {
+            "0", "1", "-1", "0.5", "-0.5", "1.5", "-1.5", "2.5", "-2.5", "0.499999999", "-0.499999999",
+            "0.000000001", "-0.000000001", "9223372036.854775807", "-9223372036.854775808",
+            "9999999999999.999999999", "-9999999999999.999999999", "123456789.123456789", "9007199254.740993",
+        };
+
+        DecimalType type = DecimalType.getDefault();
+        for (String value : values) {
+            BigDecimal decimal = new BigDecimal(value);
+            assertSameAsSdk(type.newValue(decimal));
+            assertSameAsSdk(type, decimal);
+        }
+
+        // more digits than in type and negative scale
+        assertSameAsSdk(type, new BigDecimal("1.1234567891"));
+        assertSameAsSdk(type, new BigDecimal("-1.1234567899"));
+        assertSameAsSdk(type, new BigDecimal("1E+3"));
+        assertSameAsSdk(type, new BigDecimal("-12345678901234567890.5"));
+
+        Assertions.assertEquals(new BigDecimal("1.500000000"), DecimalCodec.toBigDecimal(type.newValue("1.5")));
+        Assertions.assertEquals(2, DecimalCodec.toLong(type.newValue("1.5")));
+        Assertions.assertEquals(-2, DecimalCodec.toLong(type.newValue("-1.5")));
+        Assertions.assertEquals(1.5d, DecimalCodec.toDouble(type.newValue("1.5")));
+
+        Assertions.assertFalse(DecimalCodec.isLong(DecimalValue.INF));
+        Assertions.assertFalse(DecimalCodec.isLong(DecimalValue.NEG_INF));
+        Assertions.assertFalse(DecimalCodec.isLong(DecimalValue.NAN));
+    }
+
+    @Test
+    public void randomValuesTest() {
+        Random rnd = new Random(0x5eed);
+        for (DecimalType type : TYPES) {
+            for (int idx = 0; idx < 10000; idx++) {
+                // mix of small, long-sized and 128-bit unscaled values
+                int bits = 1 + rnd.nextInt(idx % 3 == 0 ? 110 : 63);
+                BigInteger unscaled = new BigInteger(bits, rnd);
+                if (rnd.nextBoolean()) {
+                    unscaled = unscaled.negate();
+                }
+                BigDecimal decimal = new BigDecimal(unscaled, type.getScale());
+                if (decimal.precision() > type.getPrecision()) {
+                    continue;
+                }
+
+                assertSameAsSdk(type.newValue(decimal));
+                assertSameAsSdk(type, decimal);
+                assertSameAsSdk(type, decimal.stripTrailingZeros());
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package tech.ydb.jdbc.common;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Value;
+
+public class MappingGettersTest {
+    private static <T> T read(Value<?> value, Class<T> type) throws SQLException {
+        ResultSetReader rs = ProtoValueReaders.forResultSet(ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder().setName("value").setType(value.getType().toPb()))
+                .addRows(ValueProtos.Value.newBuilder().addItems(value.toPb()))
+                .build());
+        Assertions.assertTrue(rs.next());
+        ValueReader reader = rs.getColumn(0);
+        return TypeDescription.of(value.getType()).getters().readObject(reader, type);
+    }
+
+    @Test
+    public void javaTimeTest() throws SQLException {
+        Value<?> date = PrimitiveValue.newDate(LocalDate.parse("2024-02-29"));
+        Assertions.assertEquals(LocalDate.parse("2024-02-29"), read(date, LocalDate.class));
+        Assertions.assertEquals(LocalDateTime.parse("2024-02-29T00:00:00"), read(date, LocalDateTime.class));
+        Assertions.assertEquals(Instant.parse("2024-02-29T00:00:00Z"), read(date, Instant.class));
+        Assertions.assertEquals(OffsetDateTime.parse("2024-02-29T00:00:00Z"), read(date, OffsetDateTime.class));
+
+        Value<?> datetime = PrimitiveValue.newDatetime(LocalDateTime.parse("2024-02-29T12:34:56"));
+        Assertions.assertEquals(LocalDate.parse("2024-02-29"), read(datetime, LocalDate.class));
+        Assertions.assertEquals(LocalDateTime.parse("2024-02-29T12:34:56"), read(datetime, LocalDateTime.class));
+        Assertions.assertEquals(Instant.parse("2024-02-29T12:34:56Z"), read(datetime, Instant.class));
+        Assertions.assertEquals(OffsetDateTime.parse("2024-02-29T12:34:56Z"), read(datetime, OffsetDateTime.class));
+
+        Value<?> timestamp = PrimitiveValue.newTimestamp(Instant.parse("1969-12-31T23:59:59.999999Z"));
+        Assertions.assertEquals(LocalDate.parse("1969-12-31"), read(timestamp, LocalDate.class));
+        Assertions.assertEquals(LocalDateTime.parse("1969-12-31T23:59:59.999999"),
+                read(timestamp, LocalDateTime.class));
+        Assertions.assertEquals(Instant.parse("1969-12-31T23:59:59.999999Z"), read(timestamp, Instant.class));
+        Assertions.assertEquals(OffsetDateTime.parse("1969-12-31T23:59:59.999999Z"),
+                read(timestamp, OffsetDateTime.class));
+
+        ZonedDateTime zoned = ZonedDateTime.of(2024, 2, 29, 12, 34, 56, 0, ZoneId.of("Europe/Moscow"));
+        Value<?> tzDatetime = PrimitiveValue.newTzDatetime(zoned);
+        Assertions.assertEquals(zoned, read(tzDatetime, ZonedDateTime.class));
+        Assertions.assertEquals(zoned.toInstant(), read(tzDatetime, Instant.class));
+        Assertions.assertEquals(zoned.toOffsetDateTime(), read(tzDatetime, OffsetDateTime.class));
+        Assertions.assertEquals(zoned.toLocalDateTime(), read(tzDatetime, LocalDateTime.class));
+
+        Value<?> interval = PrimitiveValue.newInterval(Duration.parse("PT-3.000005S"));
+        Assertions.assertEquals(Duration.parse("PT-3.000005S"), read(interval, Duration.class));
+    }
+
+    @Test
+    public void typedObjectsTest() throws SQLException {
+        UUID uuid = UUID.fromString("6e73b41c-4ede-4d08-9cfb-b7462d9e498b");
+        Assertions.assertEquals(uuid, read(PrimitiveValue.newUuid(uuid), UUID.class));
+        Assertions.assertEquals(uuid, read(PrimitiveValue.newUuid(uuid).makeOptional(), UUID.class));
+
+        Assertions.assertEquals(Integer.valueOf(-5), read(PrimitiveValue.newInt8((byte) -5), Integer.class));
+        Assertions.assertEquals(Long.valueOf(4000000000L), read(PrimitiveValue.newUint32(4000000000L), Long.class));
+        Assertions.assertEquals(Short.valueOf((short) 200), read(PrimitiveValue.newUint8(200), Short.class));
+        Assertions.assertEquals(Boolean.TRUE, read(PrimitiveValue.newBool(true), Boolean.class));
+        Assertions.assertEquals(Double.valueOf(1.5f), read(PrimitiveValue.newFloat(1.5f), Double.class));
+        Assertions.assertEquals("text", read(PrimitiveValue.newText("text"), String.class));
+        Assertions.assertEquals(new BigDecimal("1.500000000"),
+                read(DecimalType.getDefault().newValue("1.5"), BigDecimal.class));
+
+        SQLException ex = Assertions.assertThrows(SQLException.class,
+                () -> read(PrimitiveValue.newText("2024-02-29"), LocalDate.class));
+        Assertions.assertEquals("Cannot cast [Text] to [class java.time.LocalDate]", ex.getMessage());
+
+        ex = Assertions.assertThrows(SQLException.class,
+                () -> read(PrimitiveValue.newInt32(1).makeOptional(), UUID.class));
+        Assertions.assertEquals("Cannot cast [Int32] to [class java.util.UUID]", ex.getMessage());
+    }
+}
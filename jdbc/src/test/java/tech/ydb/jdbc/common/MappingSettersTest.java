@@ -0,0 +1,108 @@
+package tech.ydb.jdbc.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Value;
+
+public class MappingSettersTest {
+    private static InputStream endless() {
+        return new InputStream() {
+            @Override
+            public int read() {
+                return 'a';
+            }
+        };
+    }
+
+    @Test
+    public void byteStreamTest() throws SQLException {
+        MappingSetters.Setters setters = MappingSetters.buildSetters(PrimitiveType.Bytes);
+
+        byte[] data = new byte[3 * YdbConst.STREAM_BUFFER_SIZE + 17];
+        for (int idx = 0; idx < data.length; idx++) {
+            data[idx] = (byte) idx;
+        }
+
+        Value<?> full = setters.toValue(MappingSetters.ByteStream.fromInputStream(new ByteArrayInputStream(data), -1));
+        Assertions.assertArrayEquals(data, ((PrimitiveValue) full).getBytes());
+
+        Value<?> limited = setters.toValue(MappingSetters.ByteStream.fromInputStream(new ByteArrayInputStream(data), 5));
+        Assertions.assertArrayEquals(new byte[] { 0, 1, 2, 3, 4 }, ((PrimitiveValue) limited).getBytes());
+
+        Value<?> raw = setters.toValue(new ByteArrayInputStream(data));
+        Assertions.assertArrayEquals(data, ((PrimitiveValue) raw).getBytes());
+    }
+
+    @Test
+    public void charStreamTest() throws SQLException {
+        MappingSetters.Setters bytes = MappingSetters.buildSetters(PrimitiveType.Bytes);
+        MappingSetters.Setters text = MappingSetters.buildSetters(PrimitiveType.Text);
+
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 2 * YdbConst.STREAM_BUFFER_SIZE) {
+            sb.append("текст-text-");
+        }
+        String value = sb.toString();
+
+        Value<?> encoded = bytes.toValue(MappingSetters.CharStream.fromReader(new StringReader(value), -1));
+        Assertions.assertEquals(value, new String(((PrimitiveValue) encoded).getBytes(), StandardCharsets.UTF_8));
+
+        Value<?> limited = bytes.toValue(MappingSetters.CharStream.fromReader(new StringReader(value), 5));
+        Assertions.assertEquals("текст", new String(((PrimitiveValue) limited).getBytes(), StandardCharsets.UTF_8));
+
+        Value<?> str = text.toValue(MappingSetters.CharStream.fromReader(new StringReader(value), 11));
+        Assertions.assertEquals("текст-text-", ((PrimitiveValue) str).getText());
+    }
+
+    @Test
+    public void tooLargeStreamTest() {
+        String message = String.format(YdbConst.STREAM_VALUE_TOO_LARGE, YdbConst.MAX_STREAM_VALUE_SIZE);
+        MappingSetters.Setters setters = MappingSetters.buildSetters(PrimitiveType.Bytes);
+
+        // declared length is checked before reading
+        SQLException ex1 = Assertions.assertThrows(SQLException.class, () -> setters.toValue(
+                MappingSetters.ByteStream.fromInputStream(endless(), YdbConst.MAX_STREAM_VALUE_SIZE + 1L)
+        ));
+        Assertions.assertEquals(message, ex1.getMessage());
+
+        SQLException ex2 = Assertions.assertThrows(SQLException.class, () -> setters.toValue(
+                MappingSetters.ByteStream.fromInputStream(endless(), -1)
+        ));
+        Assertions.assertEquals(message, ex2.getMessage());
+    }
+
+    @Test
+    public void listTest() throws SQLException {
+        ListType ints = ListType.of(PrimitiveType.Int32);
+        MappingSetters.Setters setters = MappingSetters.buildSetters(ints);
+        ListValue expected = ints.newValue(Arrays.asList(PrimitiveValue.newInt32(1), PrimitiveValue.newInt32(2)));
+
+        Assertions.assertEquals(expected, setters.toValue(Arrays.asList(1, 2)));
+        Assertions.assertEquals(expected, setters.toValue(Arrays.asList(1, null, PrimitiveValue.newInt32(2))));
+        Assertions.assertEquals(expected, setters.toValue(new Integer[] {1, 2}));
+        Assertions.assertEquals(expected, setters.toValue(new int[] {1, 2}));
+
+        // nulls are kept for optional items
+        ListType optionals = ListType.of(PrimitiveType.Text.makeOptional());
+        Value<?> texts = MappingSetters.buildSetters(optionals).toValue(new String[] {"a", null});
+        Assertions.assertEquals(optionals.newValue(Arrays.asList(
+                PrimitiveValue.newText("a").makeOptional(), PrimitiveType.Text.makeOptional().emptyValue()
+        )), texts);
+
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> setters.toValue("1, 2"));
+        Assertions.assertEquals("Cannot cast [class java.lang.String: 1, 2] to [LIST]", ex.getMessage());
+    }
+}
@@ -0,0 +1,196 @@
+package tech.ydb.jdbc.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PooledChannelFactoryTest {
+    private static final MethodDescriptor<String, String> METHOD = MethodDescriptor.<String, String>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("test/call")
+            .setRequestMarshaller(new StringMarshaller())
+            .setResponseMarshaller(new StringMarshaller())
+            .build();
+
+    private static class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(value.getBytes());
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            return "";
+        }
+    }
+
+    private static class FakeCall extends ClientCall<String, String> {
+        private Listener<String> listener;
+
+        @Override
+        public void start(Listener<String> responseListener, Metadata headers) {
+            this.listener = responseListener;
+        }
+
+        void close() {
+            listener.onClose(Status.OK, new Metadata());
+        }
+
+        @Override
+        public void request(int numMessages) { }
+
+        @Override
+        public void cancel(String message, Throwable cause) { }
+
+        @Override
+        public void halfClose() { }
+
+        @Override
+        public void sendMessage(String message) { }
+    }
+
+    private static class FakeChannel extends ManagedChannel {
+        private final List<FakeCall> calls = new ArrayList<>();
+        private final List<Runnable> callbacks = new ArrayList<>();
+        private ConnectivityState state = ConnectivityState.IDLE;
+        private boolean isShutdown = false;
+
+        void changeState(ConnectivityState newState) {
+            state = newState;
+            List<Runnable> copy = new ArrayList<>(callbacks);
+            callbacks.clear();
+            copy.forEach(Runnable::run);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method,
+                CallOptions options) {
+            FakeCall call = new FakeCall();
+            calls.add(call);
+            return (ClientCall<ReqT, RespT>) call;
+        }
+
+        @Override
+        public ConnectivityState getState(boolean requestConnection) {
+            return state;
+        }
+
+        @Override
+        public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+            callbacks.add(callback);
+        }
+
+        @Override
+        public String authority() {
+            return "fake";
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            isShutdown = true;
+            return this;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return shutdown();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return isShutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return isShutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isShutdown;
+        }
+    }
+
+    private static void start(ManagedChannel channel) {
+        ClientCall<String, String> call = channel.newCall(METHOD, CallOptions.DEFAULT);
+        call.start(new ClientCall.Listener<String>() { }, new Metadata());
+    }
+
+    @Test
+    public void leastLoadedTest() {
+        FakeChannel[] fakes = new FakeChannel[] {new FakeChannel(), new FakeChannel(), new FakeChannel()};
+        PooledChannelFactory.PooledChannel pool = new PooledChannelFactory.PooledChannel(fakes);
+
+        for (int idx = 0; idx < 6; idx++) {
+            start(pool);
+        }
+        for (int idx = 0; idx < fakes.length; idx++) {
+            Assertions.assertEquals(2, fakes[idx].calls.size());
+            Assertions.assertEquals(2, pool.getActiveCalls(idx));
+        }
+
+        // completed calls release the channel, repeated close is ignored
+        fakes[1].calls.get(0).close();
+        fakes[1].calls.get(1).close();
+        fakes[1].calls.get(1).close();
+        Assertions.assertEquals(0, pool.getActiveCalls(1));
+
+        start(pool);
+        start(pool);
+        Assertions.assertEquals(4, fakes[1].calls.size());
+        Assertions.assertEquals(2, pool.getActiveCalls(1));
+
+        // not started call is released by cancel
+        ClientCall<String, String> call = pool.newCall(METHOD, CallOptions.DEFAULT);
+        Assertions.assertEquals(7, pool.getActiveCalls(0) + pool.getActiveCalls(1) + pool.getActiveCalls(2));
+        call.cancel("test", null);
+        Assertions.assertEquals(6, pool.getActiveCalls(0) + pool.getActiveCalls(1) + pool.getActiveCalls(2));
+
+        Assertions.assertEquals("fake", pool.authority());
+        Assertions.assertFalse(pool.isShutdown());
+        pool.shutdown();
+        Assertions.assertTrue(pool.isShutdown());
+        for (FakeChannel fake: fakes) {
+            Assertions.assertTrue(fake.isShutdown());
+        }
+    }
+
+    @Test
+    public void stateTest() {
+        FakeChannel first = new FakeChannel();
+        FakeChannel second = new FakeChannel();
+        PooledChannelFactory.PooledChannel pool = new PooledChannelFactory.PooledChannel(
+                new ManagedChannel[] {first, second}
+        );
+
+        Assertions.assertEquals(ConnectivityState.IDLE, pool.getState(true));
+
+        AtomicInteger notifications = new AtomicInteger();
+        pool.notifyWhenStateChanged(ConnectivityState.IDLE, notifications::incrementAndGet);
+        Assertions.assertEquals(0, notifications.get());
+
+        first.changeState(ConnectivityState.CONNECTING);
+        second.changeState(ConnectivityState.READY);
+        Assertions.assertEquals(1, notifications.get());
+        Assertions.assertEquals(ConnectivityState.READY, pool.getState(false));
+
+        // state is already changed
+        pool.notifyWhenStateChanged(ConnectivityState.CONNECTING, notifications::incrementAndGet);
+        Assertions.assertEquals(2, notifications.get());
+    }
+}
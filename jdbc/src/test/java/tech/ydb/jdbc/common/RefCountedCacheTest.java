@@ -0,0 +1,130 @@
+package tech.ydb.jdbc.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RefCountedCacheTest {
+    private static class Resource implements AutoCloseable {
+        private final AtomicInteger closes = new AtomicInteger();
+
+        @Override
+        public void close() {
+            closes.incrementAndGet();
+        }
+
+        boolean isClosed() {
+            return closes.get() > 0;
+        }
+    }
+
+    private static class Factory implements RefCountedCache.Factory<String, Resource> {
+        private final List<Resource> created = new ArrayList<>();
+
+        @Override
+        public synchronized Resource create(String key) {
+            Resource resource = new Resource();
+            created.add(resource);
+            return resource;
+        }
+
+        synchronized List<Resource> created() {
+            return new ArrayList<>(created);
+        }
+    }
+
+    private static void waitEmpty(RefCountedCache<?, ?> cache) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (cache.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void reuseTest() throws Exception {
+        Factory factory = new Factory();
+        RefCountedCache<String, Resource> cache = new RefCountedCache<>(factory, 100);
+
+        RefCountedCache<String, Resource>.Lease first = cache.acquire("a");
+        RefCountedCache<String, Resource>.Lease second = cache.acquire("a");
+        RefCountedCache<String, Resource>.Lease other = cache.acquire("b");
+        Assertions.assertSame(first.get(), second.get());
+        Assertions.assertNotSame(first.get(), other.get());
+        Assertions.assertEquals(2, cache.size());
+
+        first.release();
+        first.release(); // repeated release does nothing
+        other.release();
+        Thread.sleep(300);
+
+        Assertions.assertFalse(second.get().isClosed());
+        Assertions.assertTrue(other.get().isClosed());
+        Assertions.assertEquals(1, cache.size());
+
+        // released resource is reused during the grace period
+        second.release();
+        RefCountedCache<String, Resource>.Lease third = cache.acquire("a");
+        Assertions.assertSame(second.get(), third.get());
+        Thread.sleep(300);
+        Assertions.assertFalse(third.get().isClosed());
+
+        third.release();
+        waitEmpty(cache);
+        Assertions.assertTrue(third.get().isClosed());
+
+        // closed resource is replaced by the new one
+        RefCountedCache<String, Resource>.Lease fourth = cache.acquire("a");
+        Assertions.assertNotSame(third.get(), fourth.get());
+
+        cache.close();
+        Assertions.assertTrue(fourth.get().isClosed());
+        Assertions.assertEquals(0, cache.size());
+        fourth.release();
+        Assertions.assertEquals(1, fourth.get().closes.get());
+    }
+
+    @Test
+    public void concurrentChurnTest() throws Exception {
+        Factory factory = new Factory();
+        RefCountedCache<String, Resource> cache = new RefCountedCache<>(factory, 0);
+        AtomicInteger usedClosed = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 16; thread++) {
+                tasks.add(executor.submit(() -> {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    for (int idx = 0; idx < 20000; idx++) {
+                        RefCountedCache<String, Resource>.Lease lease = cache.acquire("key" + rnd.nextInt(3));
+                        if (lease.get().isClosed()) {
+                            usedClosed.incrementAndGet();
+                        }
+                        lease.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task: tasks) {
+                task.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(0, usedClosed.get(), "Acquired resource must not be closed");
+        waitEmpty(cache);
+        for (Resource resource: factory.created()) {
+            Assertions.assertEquals(1, resource.closes.get(), "Every resource must be closed exactly once");
+        }
+    }
+}
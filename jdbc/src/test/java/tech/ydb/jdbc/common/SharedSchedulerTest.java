@@ -0,0 +1,76 @@
+package tech.ydb.jdbc.common;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SharedSchedulerTest {
+    private static Thread thread(ScheduledExecutorService executor) throws Exception {
+        return executor.schedule(Thread::currentThread, 1, TimeUnit.MILLISECONDS).get();
+    }
+
+    @Test
+    public void sharedThreadsTest() throws Exception {
+        SharedScheduler scheduler = new SharedScheduler("test-scheduler", 1);
+        Assertions.assertEquals(0, scheduler.getLeasesCount());
+
+        Set<Thread> threads = new HashSet<>();
+        ScheduledExecutorService first = scheduler.acquire();
+        ScheduledExecutorService second = scheduler.acquire();
+        Assertions.assertEquals(2, scheduler.getLeasesCount());
+
+        threads.add(thread(first));
+        threads.add(thread(second));
+        Assertions.assertEquals(1, threads.size());
+        Assertions.assertTrue(threads.iterator().next().getName().startsWith("test-scheduler-thread-"));
+
+        first.shutdown();
+        first.shutdown();
+        Assertions.assertTrue(first.isShutdown());
+        Assertions.assertTrue(first.awaitTermination(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, scheduler.getLeasesCount());
+        Assertions.assertThrows(RejectedExecutionException.class, () -> first.execute(() -> { }));
+
+        // other leases are still working
+        Assertions.assertSame(threads.iterator().next(), thread(second));
+
+        second.shutdownNow();
+        Assertions.assertEquals(0, scheduler.getLeasesCount());
+
+        // threads are restarted by the next lease
+        ScheduledExecutorService third = scheduler.acquire();
+        Assertions.assertNotSame(threads.iterator().next(), thread(third));
+        third.shutdown();
+    }
+
+    @Test
+    public void shutdownCancelsTasksTest() throws InterruptedException, ExecutionException {
+        SharedScheduler scheduler = new SharedScheduler("test-scheduler", 2);
+        ScheduledExecutorService first = scheduler.acquire();
+        ScheduledExecutorService second = scheduler.acquire();
+
+        CountDownLatch firstTicks = new CountDownLatch(2);
+        CountDownLatch secondTicks = new CountDownLatch(5);
+        ScheduledFuture<?> periodic = first.scheduleAtFixedRate(firstTicks::countDown, 0, 5, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> delayed = first.schedule(() -> { }, 1, TimeUnit.HOURS);
+        second.scheduleWithFixedDelay(secondTicks::countDown, 0, 5, TimeUnit.MILLISECONDS);
+
+        Assertions.assertTrue(firstTicks.await(5, TimeUnit.SECONDS));
+        first.shutdown();
+        Assertions.assertTrue(periodic.isCancelled());
+        Assertions.assertTrue(delayed.isCancelled());
+
+        // tasks of other lease are not affected
+        Assertions.assertTrue(secondTicks.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Integer.valueOf(1), second.submit(() -> 1).get());
+        second.shutdown();
+    }
+}
@@ -0,0 +1,88 @@
+package tech.ydb.jdbc.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.result.ResultSetReader;
+
+public class SpilledResultSetTest {
+    private static final FixedResultSetFactory FACTORY = FixedResultSetFactory.newBuilder()
+            .addIntColumn("id")
+            .addTextColumn("name")
+            .build();
+
+    private static ResultSetReader part(int from, int count) {
+        FixedResultSetFactory.ResultSetBuilder builder = FACTORY.createResultSet();
+        for (int idx = from; idx < from + count; idx++) {
+            builder.newRow().withIntValue("id", idx).withTextValue("name", "name-" + idx).build();
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void spillTest() throws IOException {
+        SpilledResultSet.Builder builder = SpilledResultSet.newBuilder(4);
+        builder.accept(part(0, 3));
+        builder.accept(part(3, 3));
+        builder.accept(part(6, 3));
+
+        ResultSetReader rs = builder.build();
+        Assertions.assertTrue(rs instanceof SpilledResultSet);
+        // spilled rows are not loaded back into the heap
+        Assertions.assertSame(rs, ColumnarResultSet.decode(rs));
+        Assertions.assertEquals(9, rs.getRowCount());
+        Assertions.assertEquals(2, rs.getColumnCount());
+        Assertions.assertEquals(1, rs.getColumnIndex("name"));
+
+        int idx = 0;
+        while (rs.next()) {
+            Assertions.assertEquals(idx, rs.getColumn(0).getInt32());
+            Assertions.assertEquals("name-" + idx, rs.getColumn("name").getText());
+            idx++;
+        }
+        Assertions.assertEquals(9, idx);
+
+        rs.setRowIndex(7);
+        Assertions.assertEquals(7, rs.getColumn(0).getInt32());
+        rs.setRowIndex(2);
+        Assertions.assertEquals("name-2", rs.getColumn(1).getText());
+
+        ((SpilledResultSet) rs).close();
+        Assertions.assertThrows(IllegalStateException.class, () -> rs.getColumn(0));
+    }
+
+    @Test
+    public void discardTest() throws IOException {
+        SpilledResultSet.Builder builder = SpilledResultSet.newBuilder(2);
+        builder.accept(part(0, 3));
+
+        Path file = builder.getFile();
+        Assertions.assertTrue(Files.exists(file));
+
+        builder.discard();
+        Assertions.assertFalse(Files.exists(file));
+
+        // the rest of the stream is ignored
+        builder.accept(part(3, 3));
+        Assertions.assertFalse(Files.exists(file));
+        IOException ex = Assertions.assertThrows(IOException.class, builder::build);
+        Assertions.assertEquals("Result set is discarded", ex.getMessage());
+    }
+
+    @Test
+    public void singlePartSpillTest() throws IOException {
+        SpilledResultSet.Builder builder = SpilledResultSet.newBuilder(1);
+        builder.accept(part(0, 100));
+
+        ResultSetReader rs = builder.build();
+        Assertions.assertTrue(rs instanceof SpilledResultSet);
+        Assertions.assertEquals(100, rs.getRowCount());
+        rs.setRowIndex(99);
+        Assertions.assertEquals("name-99", rs.getColumn(1).getText());
+        ((SpilledResultSet) rs).close();
+    }
+}
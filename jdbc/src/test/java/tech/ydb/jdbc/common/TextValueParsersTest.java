@@ -0,0 +1,71 @@
+package tech.ydb.jdbc.common;
+
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+
+public class TextValueParsersTest {
+    private static void assertParsed(Type type, String text, Object expected) throws SQLException {
+        Assertions.assertEquals(expected, TextValueParsers.of(type).parse(text));
+    }
+
+    private static void assertInvalid(Type type, String text) {
+        SQLDataException ex = Assertions.assertThrows(SQLDataException.class,
+                () -> TextValueParsers.of(type).parse(text));
+        Assertions.assertEquals("Cannot cast [" + text + "] to [" + type + "]", ex.getMessage());
+    }
+
+    @Test
+    public void primitiveParsersTest() throws SQLException {
+        assertParsed(PrimitiveType.Bool, "true", PrimitiveValue.newBool(true));
+        assertParsed(PrimitiveType.Bool, "0", PrimitiveValue.newBool(false));
+        assertParsed(PrimitiveType.Int8, "-12", PrimitiveValue.newInt8((byte) -12));
+        assertParsed(PrimitiveType.Uint8, "255", PrimitiveValue.newUint8(255));
+        assertParsed(PrimitiveType.Int32, "123456", PrimitiveValue.newInt32(123456));
+        assertParsed(PrimitiveType.Uint32, "4294967295", PrimitiveValue.newUint32(4294967295L));
+        assertParsed(PrimitiveType.Int64, "-9000000000", PrimitiveValue.newInt64(-9000000000L));
+        assertParsed(PrimitiveType.Uint64, "18446744073709551615", PrimitiveValue.newUint64(-1L));
+        assertParsed(PrimitiveType.Double, "1.5e3", PrimitiveValue.newDouble(1500d));
+        assertParsed(PrimitiveType.Text, "text", PrimitiveValue.newText("text"));
+        assertParsed(PrimitiveType.Date, "2024-02-29", PrimitiveValue.newDate(LocalDate.of(2024, 2, 29)));
+        assertParsed(PrimitiveType.Timestamp, "2024-02-29T10:00:00.123456Z",
+                PrimitiveValue.newTimestamp(Instant.parse("2024-02-29T10:00:00.123456Z")));
+        assertParsed(PrimitiveType.Datetime, "2024-02-29T10:00:00",
+                PrimitiveValue.newDatetime(Instant.parse("2024-02-29T10:00:00Z")));
+        assertParsed(PrimitiveType.Datetime, "2024-02-29T13:00:00+03:00",
+                PrimitiveValue.newDatetime(Instant.parse("2024-02-29T10:00:00Z")));
+        assertParsed(PrimitiveType.Timestamp, "2024-02-29T05:00:00.5-05:00",
+                PrimitiveValue.newTimestamp(Instant.parse("2024-02-29T10:00:00.5Z")));
+        assertParsed(DecimalType.of(22, 9), "-1.25", DecimalType.of(22, 9).newValue("-1.25"));
+    }
+
+    @Test
+    public void optionalParsersTest() throws SQLException {
+        Type optional = PrimitiveType.Int32.makeOptional();
+        assertParsed(optional, null, optional.makeOptional().emptyValue());
+        assertParsed(optional, "5", PrimitiveValue.newInt32(5).makeOptional());
+    }
+
+    @Test
+    public void invalidValuesTest() {
+        assertInvalid(PrimitiveType.Int32, "abc");
+        assertInvalid(PrimitiveType.Uint8, "256");
+        assertInvalid(PrimitiveType.Bool, "yes");
+        assertInvalid(PrimitiveType.Date, "2024-13-01");
+        assertInvalid(PrimitiveType.Timestamp, "2024-02-29 10:00");
+        assertInvalid(PrimitiveType.Int64, null);
+
+        SQLDataException ex = Assertions.assertThrows(SQLDataException.class,
+                () -> TextValueParsers.of(PrimitiveType.Int32.makeOptional()).parse("1.5"));
+        Assertions.assertEquals("Cannot cast [1.5] to [Int32]", ex.getMessage());
+    }
+}
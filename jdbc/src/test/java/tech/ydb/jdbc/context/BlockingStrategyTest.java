@@ -0,0 +1,119 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import tech.ydb.core.Status;
+
+public class BlockingStrategyTest {
+    private static final Logger LOGGER = Logger.getLogger(BlockingStrategyTest.class.getName());
+
+    private static ExecutorService createExecutor(String type) throws ReflectiveOperationException {
+        if ("platform".equals(type)) {
+            return Executors.newCachedThreadPool();
+        }
+
+        // Virtual threads are available since JDK 21, driver is compiled for Java 8
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException ex) {
+            Assumptions.abort("Virtual threads are not supported by " + System.getProperty("java.version"));
+            return null;
+        }
+    }
+
+    @ParameterizedTest(name = "Wait for {1} operations on {0} threads")
+    @CsvSource({"platform, 200", "virtual, 10000"})
+    public void concurrentWaitersTest(String type, int tasksCount) throws Exception {
+        CompletableFuture<Status> gate = new CompletableFuture<>();
+        CountDownLatch waiting = new CountDownLatch(tasksCount);
+
+        ExecutorService executor = createExecutor(type);
+        try {
+            List<Future<Boolean>> tasks = new ArrayList<>();
+            for (int idx = 0; idx < tasksCount; idx++) {
+                tasks.add(executor.submit(() -> {
+                    YdbValidator validator = new YdbValidator(LOGGER);
+                    validator.execute("wait", () -> {
+                        waiting.countDown();
+                        return gate;
+                    });
+                    return true;
+                }));
+            }
+
+            // all operations must wait at the same time without exhausting of the carrier threads
+            Assertions.assertTrue(waiting.await(30, TimeUnit.SECONDS));
+            gate.complete(Status.SUCCESS);
+
+            for (Future<Boolean> task: tasks) {
+                Assertions.assertTrue(task.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void interruptTest() throws Exception {
+        YdbValidator validator = new YdbValidator(LOGGER);
+        CompletableFuture<String> stuck = new CompletableFuture<>();
+        AtomicReference<SQLException> error = new AtomicReference<>();
+        AtomicBoolean isInterrupted = new AtomicBoolean(false);
+
+        Thread thread = new Thread(() -> {
+            try {
+                validator.join("stuck", stuck);
+            } catch (SQLException ex) {
+                error.set(ex);
+                isInterrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        thread.start();
+
+        // interrupt the thread until it starts waiting of the future
+        while (thread.isAlive()) {
+            thread.interrupt();
+            thread.join(10);
+        }
+
+        Assertions.assertNotNull(error.get());
+        Assertions.assertTrue(error.get().getMessage().contains("CLIENT_CANCELLED"));
+        Assertions.assertTrue(isInterrupted.get());
+        Assertions.assertTrue(stuck.isCancelled());
+    }
+
+    @Test
+    public void customStrategyTest() throws SQLException {
+        AtomicBoolean isUsed = new AtomicBoolean(false);
+        BlockingStrategy strategy = new BlockingStrategy() {
+            @Override
+            public <T> T await(CompletableFuture<T> future, long timeout, TimeUnit unit) {
+                isUsed.set(true);
+                Assertions.assertEquals(2, timeout);
+                return future.join();
+            }
+        };
+
+        YdbValidator validator = new YdbValidator(LOGGER, strategy);
+        validator.setQueryTimeout(1);
+        Assertions.assertEquals("OK", validator.join("test", CompletableFuture.completedFuture("OK")));
+        Assertions.assertTrue(isUsed.get());
+    }
+}
@@ -0,0 +1,124 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Issue;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+import tech.ydb.jdbc.query.JdbcQueryLexer;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YdbQueryBuilder;
+import tech.ydb.jdbc.settings.YdbConfig;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveValue;
+
+public class DeferredQueriesTest {
+    private static YdbQuery parseQuery(String sql) throws SQLException {
+        YdbConfig config = YdbConfig.from("jdbc:ydb:localhost:2136/local", new Properties());
+        YdbQueryProperties opts = new YdbQueryProperties(config);
+        YdbQueryBuilder builder = new YdbQueryBuilder(sql, opts.getForcedQueryType());
+        JdbcQueryLexer.buildQuery(builder, opts);
+        return builder.build(opts);
+    }
+
+    @Test
+    public void renameParametersTest() {
+        Map<String, String> renames = new HashMap<>();
+        renames.put("$jp1", "$jp1_d1");
+        renames.put("$name", "$name_d1");
+
+        Assertions.assertEquals("DECLARE $jp1_d1 AS Int32;\n"
+                + "UPSERT INTO t (a, b, c) VALUES ($jp1_d1, '$jp1', $jp10); -- $jp1\n"
+                + "/* $name */ UPSERT INTO t (a) VALUES ($name_d1), (\"$name\"), (@@$name@@)",
+                DeferredQueries.renameParameters("DECLARE $jp1 AS Int32;\n"
+                + "UPSERT INTO t (a, b, c) VALUES ($jp1, '$jp1', $jp10); -- $jp1\n"
+                + "/* $name */ UPSERT INTO t (a) VALUES ($name), (\"$name\"), (@@$name@@)", renames));
+
+        Assertions.assertEquals("SELECT '\\'$jp1', $jp1_d1",
+                DeferredQueries.renameParameters("SELECT '\\'$jp1', $jp1", renames));
+        Assertions.assertEquals("SELECT 1", DeferredQueries.renameParameters("SELECT 1", Collections.emptyMap()));
+    }
+
+    @Test
+    public void deferrableTest() throws SQLException {
+        YdbQuery upsert = parseQuery("UPSERT INTO t (a) VALUES (?)");
+        Assertions.assertTrue(DeferredQueries.isDeferrable(upsert));
+
+        YdbQuery select = parseQuery("SELECT * FROM t");
+        Assertions.assertFalse(DeferredQueries.isDeferrable(select));
+
+        YdbQuery mixed = parseQuery("UPSERT INTO t (a) VALUES (1); SELECT * FROM t");
+        Assertions.assertFalse(DeferredQueries.isDeferrable(mixed));
+
+        YdbQuery pragma = parseQuery("PRAGMA TablePathPrefix('/local'); UPSERT INTO t (a) VALUES (1)");
+        Assertions.assertFalse(DeferredQueries.isDeferrable(pragma));
+
+        YdbQuery literal = parseQuery("UPSERT INTO t (a) VALUES ('PRAGMA ') -- pragma");
+        Assertions.assertTrue(DeferredQueries.isDeferrable(literal));
+    }
+
+    @Test
+    public void mergeQueriesTest() throws SQLException {
+        DeferredQueries queries = new DeferredQueries();
+        Assertions.assertTrue(queries.isEmpty());
+
+        YdbQuery upsert = parseQuery("UPSERT INTO t (a) VALUES (?)");
+        Params p1 = Params.of("$jp1", PrimitiveValue.newInt32(1));
+        Params p2 = Params.of("$jp1", PrimitiveValue.newInt32(2));
+        queries.add(upsert, upsert.getYqlQuery(p1), p1);
+        queries.add(upsert, upsert.getYqlQuery(p2), p2);
+        Assertions.assertFalse(queries.isEmpty());
+
+        DeferredQueries.Request request = queries.drain();
+        Assertions.assertTrue(queries.isEmpty());
+
+        Assertions.assertEquals("DECLARE $jp1_d1 AS Int32;\n"
+                + "UPSERT INTO t (a) VALUES ($jp1_d1);\n"
+                + "DECLARE $jp1_d2 AS Int32;\n"
+                + "UPSERT INTO t (a) VALUES ($jp1_d2);\n", request.yql());
+        Assertions.assertEquals(2, request.params().values().size());
+        Assertions.assertEquals(PrimitiveValue.newInt32(1), request.params().values().get("$jp1_d1"));
+        Assertions.assertEquals(PrimitiveValue.newInt32(2), request.params().values().get("$jp1_d2"));
+    }
+
+    @Test
+    public void mapErrorTest() throws SQLException {
+        DeferredQueries queries = new DeferredQueries();
+        YdbQuery first = parseQuery("UPSERT INTO t1 (a) VALUES (1)");
+        YdbQuery second = parseQuery("UPSERT INTO t2 (a)\nVALUES (2)");
+        queries.add(first, first.getYqlQuery(null), Params.empty());
+        queries.add(second, second.getYqlQuery(null), Params.empty());
+
+        DeferredQueries.Request request = queries.drain();
+
+        SQLException firstFailed = request.mapError(error(Issue.Position.of(1, 1)));
+        Assertions.assertEquals("Request failed on deferred statement: UPSERT INTO t1 (a) VALUES (1)",
+                firstFailed.getNextException().getMessage());
+
+        SQLException secondFailed = request.mapError(error(Issue.Position.of(1, 3)));
+        Assertions.assertEquals("Request failed on deferred statement: UPSERT INTO t2 (a)\nVALUES (2)",
+                secondFailed.getNextException().getMessage());
+
+        SQLException unknown = request.mapError(error(Issue.Position.EMPTY));
+        Assertions.assertEquals("Request with deferred statements failed: "
+                + "[UPSERT INTO t1 (a) VALUES (1), UPSERT INTO t2 (a)\nVALUES (2)]",
+                unknown.getNextException().getMessage());
+    }
+
+    private static SQLException error(Issue.Position position) {
+        Issue issue = Issue.of(position, 1, "error", Issue.Severity.ERROR);
+        Issue root = Issue.of(Issue.Position.EMPTY, Issue.Position.EMPTY, 1, "root", Issue.Severity.ERROR, issue);
+        Status status = Status.of(StatusCode.GENERIC_ERROR, null, root);
+        return ExceptionFactory.createException("test", new UnexpectedResultException("test", status));
+    }
+}
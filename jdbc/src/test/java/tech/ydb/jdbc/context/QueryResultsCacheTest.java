@@ -0,0 +1,123 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.ColumnarResultSet;
+import tech.ydb.jdbc.common.FixedResultSetFactory;
+import tech.ydb.jdbc.query.JdbcQueryLexer;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YdbQueryBuilder;
+import tech.ydb.jdbc.settings.YdbConfig;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.PrimitiveValue;
+
+public class QueryResultsCacheTest {
+    private static final FixedResultSetFactory FACTORY = FixedResultSetFactory.newBuilder()
+            .addIntColumn("id")
+            .addTextColumn("name")
+            .build();
+
+    private static YdbQuery parseQuery(String sql) throws SQLException {
+        YdbQueryProperties opts = new YdbQueryProperties(YdbConfig.from("jdbc:ydb:localhost:2136/local",
+                new Properties()));
+        YdbQueryBuilder builder = new YdbQueryBuilder(sql, opts.getForcedQueryType());
+        JdbcQueryLexer.buildQuery(builder, opts);
+        return builder.build(opts);
+    }
+
+    private static List<ResultSetReader> results(int rows) {
+        FixedResultSetFactory.ResultSetBuilder builder = FACTORY.createResultSet();
+        for (int idx = 0; idx < rows; idx++) {
+            builder.newRow().withIntValue("id", idx).withTextValue("name", "name" + idx).build();
+        }
+        return Collections.singletonList(builder.build());
+    }
+
+    private static int readRows(ResultSetReader rs) {
+        int count = 0;
+        while (rs.next()) {
+            Assertions.assertEquals(count, rs.getColumn("id").getInt32());
+            Assertions.assertEquals("name" + count, rs.getColumn("name").getText());
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    public void cacheableQueriesTest() throws SQLException {
+        Assertions.assertTrue(QueryResultsCache.isCacheable(parseQuery("SELECT * FROM t WHERE id = ?")));
+        Assertions.assertTrue(QueryResultsCache.isCacheable(parseQuery("SELECT 1; SELECT 2")));
+        Assertions.assertFalse(QueryResultsCache.isCacheable(parseQuery("UPSERT INTO t (id) VALUES (1)")));
+        Assertions.assertFalse(QueryResultsCache.isCacheable(parseQuery("SELECT 1; DELETE FROM t")));
+        Assertions.assertFalse(QueryResultsCache.isCacheable(parseQuery("CREATE TABLE t (id Int32, PRIMARY KEY(id))")));
+
+        Assertions.assertFalse(parseQuery("SELECT 1").isResultCacheHinted());
+        Assertions.assertTrue(parseQuery("SELECT /*+ RESULT_CACHE */ 1").isResultCacheHinted());
+        // hint text inside of literals or other comments is ignored
+        Assertions.assertFalse(parseQuery("SELECT '/*+ RESULT_CACHE */'").isResultCacheHinted());
+        Assertions.assertFalse(parseQuery("SELECT 1 -- /*+ RESULT_CACHE */").isResultCacheHinted());
+    }
+
+    @Test
+    public void hitsTest() throws SQLException {
+        QueryResultsCache cache = new QueryResultsCache(1024 * 1024, Duration.ofMinutes(1));
+        YdbQuery query = parseQuery("SELECT * FROM t WHERE id = $p1");
+        Params p1 = Params.of("$p1", PrimitiveValue.newInt32(1));
+
+        Assertions.assertNull(cache.get(query, p1));
+        Assertions.assertEquals(0d, cache.getHitRate());
+
+        List<ResultSetReader> stored = cache.put(query, p1, results(3));
+        Assertions.assertEquals(1, cache.getSize());
+        Assertions.assertTrue(cache.getMemorySize() > 0);
+        Assertions.assertTrue(stored.get(0) instanceof ColumnarResultSet);
+
+        // every hit is independent snapshot
+        List<ResultSetReader> first = cache.get(query, Params.of("$p1", PrimitiveValue.newInt32(1)));
+        List<ResultSetReader> second = cache.get(query, p1);
+        Assertions.assertNotSame(first.get(0), second.get(0));
+        Assertions.assertEquals(3, readRows(stored.get(0)));
+        Assertions.assertEquals(3, readRows(first.get(0)));
+        Assertions.assertEquals(3, readRows(second.get(0)));
+
+        // other parameters and other queries are not cached
+        Assertions.assertNull(cache.get(query, Params.of("$p1", PrimitiveValue.newInt32(2))));
+        Assertions.assertNull(cache.get(parseQuery("SELECT * FROM t WHERE id = $p2"), p1));
+        Assertions.assertNull(cache.get(query, Params.empty()));
+
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(4, cache.getMissCount());
+        Assertions.assertEquals(2d / 6, cache.getHitRate(), 1e-9);
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.getSize());
+        Assertions.assertEquals(0, cache.getMemorySize());
+    }
+
+    @Test
+    public void evictionTest() throws SQLException, InterruptedException {
+        QueryResultsCache cache = new QueryResultsCache(1024, Duration.ofMinutes(1));
+        YdbQuery query = parseQuery("SELECT * FROM t");
+
+        // result is larger than the cache
+        cache.put(query, Params.empty(), results(100));
+        Assertions.assertNull(cache.get(query, Params.empty()));
+
+        cache.put(query, Params.empty(), results(2));
+        Assertions.assertNotNull(cache.get(query, Params.empty()));
+
+        QueryResultsCache shortLived = new QueryResultsCache(1024, Duration.ofMillis(10));
+        shortLived.put(query, Params.empty(), results(2));
+        Thread.sleep(50);
+        Assertions.assertNull(shortLived.get(query, Params.empty()));
+    }
+}
@@ -0,0 +1,161 @@
+package tech.ydb.jdbc.context;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.settings.YdbConfig;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.SessionPoolStats;
+import tech.ydb.table.TableClient;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+
+public class TableServiceExecutorTest {
+    private static final Logger LOGGER = Logger.getLogger(TableServiceExecutorTest.class.getName());
+
+    private static YdbOperationProperties operationProperties() throws SQLException {
+        return new YdbOperationProperties(YdbConfig.from("jdbc:ydb:localhost:2136/local", new Properties()));
+    }
+
+    private static CompletableFuture<Result<DataQueryResult>> txReply(String txID) {
+        YdbTable.ExecuteQueryResult proto = YdbTable.ExecuteQueryResult.newBuilder()
+                .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId(txID).build())
+                .build();
+        return CompletableFuture.completedFuture(Result.success(new DataQueryResult(proto)));
+    }
+
+    @Test
+    public void abandonedQueryTest() throws SQLException {
+        CompletableFuture<Result<DataQueryResult>> reply = new CompletableFuture<>();
+        StubSession session = new StubSession(reply);
+        TableServiceExecutor executor = new TableServiceExecutor(operationProperties(), new StubTableClient(session),
+                Connection.TRANSACTION_SERIALIZABLE, true);
+
+        YdbValidator validator = new YdbValidator(LOGGER);
+        validator.setQueryTimeout(1);
+
+        Assertions.assertThrows(SQLTimeoutException.class, () -> executor.executeQuery(
+                null, validator, "SELECT 1", 0, true, 0, Params.empty(), true
+        ));
+
+        // session is still busy on the server and must not be returned to the pool
+        Assertions.assertFalse(reply.isCancelled());
+        Assertions.assertEquals(0, session.closes.get());
+
+        reply.complete(Result.fail(Status.of(StatusCode.TIMEOUT)));
+        Assertions.assertEquals(1, session.closes.get());
+    }
+
+    @Test
+    public void abandonedQueryInTransactionTest() throws SQLException {
+        CompletableFuture<Result<DataQueryResult>> reply = new CompletableFuture<>();
+        StubSession session = new StubSession(txReply("tx1"), reply);
+        TableServiceExecutor executor = new TableServiceExecutor(operationProperties(), new StubTableClient(session),
+                Connection.TRANSACTION_SERIALIZABLE, false);
+
+        YdbValidator validator = new YdbValidator(LOGGER);
+        validator.setQueryTimeout(1);
+
+        executor.executeQuery(null, validator, "SELECT 1", 0, true, 0, Params.empty(), false);
+        Assertions.assertTrue(executor.isInsideTransaction());
+        Assertions.assertEquals("tx1", executor.txID());
+
+        Assertions.assertThrows(SQLTimeoutException.class, () -> executor.executeQuery(
+                null, validator, "SELECT 2", 0, true, 0, Params.empty(), false
+        ));
+
+        // transaction is lost, but its session is released only after the server reply
+        Assertions.assertFalse(executor.isInsideTransaction());
+        Assertions.assertEquals(0, session.closes.get());
+
+        reply.complete(Result.fail(Status.of(StatusCode.ABORTED)));
+        Assertions.assertEquals(1, session.closes.get());
+    }
+
+    @Test
+    public void failedQueryTest() throws SQLException {
+        StubSession session = new StubSession(CompletableFuture.completedFuture(
+                Result.fail(Status.of(StatusCode.BAD_REQUEST))
+        ));
+        TableServiceExecutor executor = new TableServiceExecutor(operationProperties(), new StubTableClient(session),
+                Connection.TRANSACTION_SERIALIZABLE, true);
+
+        YdbValidator validator = new YdbValidator(LOGGER);
+        Assertions.assertThrows(SQLException.class, () -> executor.executeQuery(
+                null, validator, "SELECT 1", 0, true, 0, Params.empty(), true
+        ));
+
+        // server has replied, so the session is released immediately
+        Assertions.assertEquals(1, session.closes.get());
+    }
+
+    private static class StubSession {
+        private final AtomicInteger closes = new AtomicInteger();
+        private final CompletableFuture<?>[] replies;
+        private int queries = 0;
+
+        StubSession(CompletableFuture<?>... replies) {
+            this.replies = replies;
+        }
+
+        Session proxy() {
+            return (Session) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Session.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "executeDataQuery":
+                                return replies[queries++];
+                            case "close":
+                                closes.incrementAndGet();
+                                return null;
+                            case "getId":
+                                return "stub";
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+    }
+
+    private static class StubTableClient implements TableClient {
+        private final Session session;
+
+        StubTableClient(StubSession session) {
+            this.session = session.proxy();
+        }
+
+        @Override
+        public CompletableFuture<Result<Session>> createSession(Duration duration) {
+            return CompletableFuture.completedFuture(Result.success(session));
+        }
+
+        @Override
+        public ScheduledExecutorService getScheduler() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SessionPoolStats sessionPoolStats() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
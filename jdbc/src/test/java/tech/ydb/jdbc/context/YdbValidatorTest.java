@@ -0,0 +1,83 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+
+public class YdbValidatorTest {
+    private static final Logger LOGGER = Logger.getLogger(YdbValidatorTest.class.getName());
+
+    @Test
+    public void successTest() throws SQLException {
+        YdbValidator validator = new YdbValidator(LOGGER);
+        validator.setQueryTimeout(1);
+        validator.execute("test", () -> CompletableFuture.completedFuture(Status.SUCCESS));
+        Assertions.assertEquals("OK", validator.call("test", () -> CompletableFuture.completedFuture(
+                Result.success("OK")
+        )));
+    }
+
+    @Test
+    public void clientTimeoutTest() {
+        YdbValidator validator = new YdbValidator(LOGGER);
+        validator.setQueryTimeout(1);
+
+        AtomicBoolean isStreamCancelled = new AtomicBoolean(false);
+        validator.onCancel(() -> isStreamCancelled.set(true));
+
+        CompletableFuture<Status> stuck = new CompletableFuture<>();
+        SQLTimeoutException ex = Assertions.assertThrows(SQLTimeoutException.class,
+                () -> validator.execute("stuck", () -> stuck));
+        Assertions.assertTrue(ex.getMessage().startsWith("Cannot execute 'stuck' with Status{code = CLIENT_DEADLINE"));
+        Assertions.assertTrue(isStreamCancelled.get());
+        Assertions.assertTrue(stuck.isCancelled());
+    }
+
+    @Test
+    public void cancelTest() throws Exception {
+        YdbValidator validator = new YdbValidator(LOGGER);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Status> stuck = new CompletableFuture<>();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SQLException> task = executor.submit(() -> {
+                try {
+                    validator.execute("stuck", () -> {
+                        started.countDown();
+                        return stuck;
+                    });
+                    return null;
+                } catch (SQLException ex) {
+                    return ex;
+                }
+            });
+
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            // wait until validator starts waiting of the future
+            while (!stuck.isCancelled() && !task.isDone()) {
+                validator.cancel();
+                Thread.sleep(10);
+            }
+
+            SQLException ex = task.get(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(ex);
+            Assertions.assertTrue(ex.getMessage().contains("CLIENT_CANCELLED"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package tech.ydb.jdbc.impl;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.YdbStatement;
+
+public class StatementsCacheTest {
+    private static class StubStatement {
+        private final AtomicInteger closes = new AtomicInteger();
+        private final YdbStatement proxy = (YdbStatement) Proxy.newProxyInstance(
+                YdbStatement.class.getClassLoader(), new Class<?>[] {YdbStatement.class}, (obj, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        closes.incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+
+    @Test
+    public void lruTest() throws SQLException {
+        StatementsCache<String> cache = new StatementsCache<>(2);
+        StubStatement st1 = new StubStatement();
+        StubStatement st2 = new StubStatement();
+        StubStatement st3 = new StubStatement();
+
+        cache.put("1", st1.proxy);
+        cache.put("2", st2.proxy);
+        Assertions.assertEquals(2, cache.size());
+
+        // taken statement is removed from cache
+        Assertions.assertSame(st1.proxy, cache.take("1"));
+        Assertions.assertNull(cache.take("1"));
+        cache.put("1", st1.proxy);
+
+        // the least recently used statement is evicted and closed
+        cache.put("3", st3.proxy);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, st2.closes.get());
+        Assertions.assertNull(cache.take("2"));
+        Assertions.assertEquals(0, st1.closes.get());
+        Assertions.assertEquals(0, st3.closes.get());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(1, st1.closes.get());
+        Assertions.assertEquals(1, st3.closes.get());
+    }
+
+    @Test
+    public void replaceTest() throws SQLException {
+        StatementsCache<String> cache = new StatementsCache<>(2);
+        StubStatement st1 = new StubStatement();
+        StubStatement st2 = new StubStatement();
+
+        cache.put("1", st1.proxy);
+        cache.put("1", st2.proxy);
+
+        // statement with the same key is replaced and closed
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(1, st1.closes.get());
+        Assertions.assertSame(st2.proxy, cache.take("1"));
+    }
+
+    @Test
+    public void disabledCacheTest() throws SQLException {
+        StatementsCache<String> cache = new StatementsCache<>(0);
+        StubStatement st = new StubStatement();
+
+        cache.put("1", st.proxy);
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(1, st.closes.get());
+        Assertions.assertNull(cache.take("1"));
+    }
+}
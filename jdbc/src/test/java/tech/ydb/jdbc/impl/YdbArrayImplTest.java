@@ -0,0 +1,81 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+public class YdbArrayImplTest {
+    private static YdbArrayImpl read(ListValue value) throws SQLException {
+        ResultSetReader rs = ProtoValueReaders.forResultSet(ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder().setName("list").setType(value.getType().toPb()))
+                .addRows(ValueProtos.Value.newBuilder().addItems(value.toPb()))
+                .build());
+        Assertions.assertTrue(rs.next());
+        return YdbArrayImpl.read(value.getType(), rs.getColumn(0));
+    }
+
+    @Test
+    public void primitivesTest() throws SQLException {
+        YdbArrayImpl ints = read(ListValue.of(PrimitiveValue.newInt32(1), PrimitiveValue.newInt32(-2)));
+        Assertions.assertArrayEquals(new int[] {1, -2}, (int[]) ints.getArray());
+        Assertions.assertArrayEquals(new int[] {-2}, (int[]) ints.getArray(2, 1));
+        Assertions.assertEquals("Int32", ints.getBaseTypeName());
+        Assertions.assertEquals(ListType.of(PrimitiveType.Int32), ints.getListType());
+
+        YdbArrayImpl longs = read(ListValue.of(PrimitiveValue.newUint32(4000000000L), PrimitiveValue.newUint32(0)));
+        Assertions.assertArrayEquals(new long[] {4000000000L, 0}, (long[]) longs.getArray());
+
+        YdbArrayImpl doubles = read(ListValue.of(PrimitiveValue.newDouble(0.5d)));
+        Assertions.assertArrayEquals(new double[] {0.5d}, (double[]) doubles.getArray());
+        Assertions.assertEquals(Types.DOUBLE, doubles.getBaseType());
+
+        YdbArrayImpl bools = read(ListValue.of(PrimitiveValue.newBool(true), PrimitiveValue.newBool(false)));
+        Assertions.assertArrayEquals(new boolean[] {true, false}, (boolean[]) bools.getArray());
+
+        YdbArrayImpl empty = read(ListType.of(PrimitiveType.Int64).emptyValue());
+        Assertions.assertArrayEquals(new long[0], (long[]) empty.getArray());
+    }
+
+    @Test
+    public void objectsTest() throws SQLException {
+        YdbArrayImpl texts = read(ListValue.of(PrimitiveValue.newText("a"), PrimitiveValue.newText("b")));
+        Assertions.assertArrayEquals(new String[] {"a", "b"}, (String[]) texts.getArray());
+
+        YdbArrayImpl dates = read(ListValue.of(PrimitiveValue.newDate(LocalDate.parse("2024-01-01"))));
+        Assertions.assertArrayEquals(new LocalDate[] {LocalDate.parse("2024-01-01")}, (Object[]) dates.getArray());
+
+        YdbArrayImpl optionals = read(ListType.of(PrimitiveType.Int32.makeOptional()).newValue(Arrays.asList(
+                PrimitiveValue.newInt32(1).makeOptional(), PrimitiveType.Int32.makeOptional().emptyValue()
+        )));
+        Assertions.assertArrayEquals(new Integer[] {1, null}, (Integer[]) optionals.getArray());
+        Assertions.assertEquals("Int32?", optionals.getBaseTypeName());
+    }
+
+    @Test
+    public void invalidCallsTest() throws SQLException {
+        YdbArrayImpl ints = new YdbArrayImpl(PrimitiveType.Int32, new int[] {1, 2, 3});
+        Assertions.assertArrayEquals(new int[] {1, 2, 3}, (int[]) ints.getArray(Collections.emptyMap()));
+
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> ints.getArray(3, 2));
+        Assertions.assertEquals("Invalid range of array: 3, 2", ex.getMessage());
+        Assertions.assertThrows(SQLException.class, () -> ints.getArray(0, 1));
+
+        Assertions.assertThrows(SQLFeatureNotSupportedException.class, () -> ints.getResultSet());
+        Assertions.assertThrows(SQLFeatureNotSupportedException.class,
+                () -> ints.getArray(Collections.singletonMap("Int32", Integer.class)));
+    }
+}
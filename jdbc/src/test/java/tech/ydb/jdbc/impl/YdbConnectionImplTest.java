@@ -1,5 +1,6 @@
 package tech.ydb.jdbc.impl;
 
+import java.io.StringReader;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
@@ -7,6 +8,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import tech.ydb.jdbc.YdbBulkLoader;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbDatabaseMetaData;
@@ -630,7 +633,7 @@ public class YdbConnectionImplTest {
         ExceptionAssert.sqlFeatureNotSupported("Blobs are not supported", () -> jdbc.connection().createBlob());
         ExceptionAssert.sqlFeatureNotSupported("NClobs are not supported", () -> jdbc.connection().createNClob());
         ExceptionAssert.sqlFeatureNotSupported("SQLXMLs are not supported", () -> jdbc.connection().createSQLXML());
-        ExceptionAssert.sqlFeatureNotSupported("Arrays are not supported",
+        ExceptionAssert.sqlException("Unable to find YDB type of array items: type",
                 () -> jdbc.connection().createArrayOf("type", new Object[] { })
         );
         ExceptionAssert.sqlFeatureNotSupported("Structs are not supported",
@@ -643,6 +646,150 @@ public class YdbConnectionImplTest {
         ExceptionAssert.sqlFeatureNotSupported("Abort operation is not supported yet",  () -> jdbc.connection().abort(null));
     }
 
+    private long countRows(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            ResultSet rs = st.executeQuery(QUERIES.withTableName("select count(*) from #tableName"));
+            Assertions.assertTrue(rs.next());
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    public void deferredDmlTest() throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Text) values (?, ?)");
+        try (Connection connection = jdbc.createCustomConnection("deferDmlQueries", "true")) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                ps.setInt(1, 1);
+                ps.setString(2, "first");
+                ps.executeUpdate();
+                ps.setInt(1, 2);
+                ps.setString(2, "second");
+                ps.executeUpdate();
+            }
+
+            // statements are deferred, transaction is not started yet
+            Assertions.assertNull(getTxId(connection));
+
+            // deferred statements are sent in one request before the select
+            Assertions.assertEquals(2, countRows(connection));
+            Assertions.assertNotNull(getTxId(connection));
+
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                ps.setInt(1, 3);
+                ps.setString(2, "third");
+                ps.executeUpdate();
+            }
+
+            // deferred statement is sent with the commit
+            connection.commit();
+            Assertions.assertNull(getTxId(connection));
+
+            Assertions.assertEquals(3, countRows(connection));
+
+            // rollback discards deferred statements
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                ps.setInt(1, 4);
+                ps.setString(2, "fourth");
+                ps.executeUpdate();
+            }
+            connection.rollback();
+            Assertions.assertEquals(3, countRows(connection));
+            connection.commit();
+        } finally {
+            cleanTable();
+        }
+    }
+
+    @Test
+    public void commitWithLastQueryTest() throws SQLException {
+        String upsert = QUERIES.withTableName("upsert into #tableName (key, c_Text) values (?, ?)");
+        try (Connection connection = jdbc.createCustomConnection("commitWithLastQuery", "true")) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                ps.setInt(1, 1);
+                ps.setString(2, "first");
+                ps.executeUpdate();
+
+                // only the last statement is held, transaction is not started yet
+                Assertions.assertNull(getTxId(connection));
+
+                ps.setInt(1, 2);
+                ps.setString(2, "second");
+                ps.executeUpdate();
+
+                // previous statement is sent when the next one is held
+                Assertions.assertNotNull(getTxId(connection));
+            }
+
+            // last statement is sent with the commit
+            connection.commit();
+            Assertions.assertNull(getTxId(connection));
+            Assertions.assertEquals(2, countRows(connection));
+            connection.commit();
+
+            try (PreparedStatement ps = connection.prepareStatement(upsert)) {
+                ps.setInt(1, 3);
+                ps.setString(2, "third");
+                ps.executeUpdate();
+            }
+
+            // held statement is sent before the select
+            Assertions.assertEquals(3, countRows(connection));
+            connection.commit();
+        } finally {
+            cleanTable();
+        }
+    }
+
+    @Test
+    public void bulkLoadTest() throws SQLException {
+        YdbBulkLoader loader = jdbc.connection().unwrap(YdbConnection.class)
+                .createBulkLoader(QUERIES.withTableName("#tableName"))
+                .withChunkSize(2)
+                .withParallelism(2);
+
+        String csv = "key,c_Text,c_Int64,c_Bool,c_Date,c_Decimal\r\n"
+                + "1,first,10,true,2024-01-01,1.5\r\n"
+                + "2,\"second, \"\"quoted\"\"\",,false,,\r\n"
+                + "3,\"multi\nline\",30,1,2024-03-01,-3.125\r\n";
+        Assertions.assertEquals(3, loader.loadCsv(new StringReader(csv)));
+
+        String json = "{\"key\": 4, \"c_Text\": \"fourth\", \"c_Json\": {\"a\": [1, 2]}}\n"
+                + "\n"
+                + "{\"key\": 5, \"c_Text\": null}\n";
+        Assertions.assertEquals(2, loader.loadJsonLines(new StringReader(json)));
+
+        try (Statement statement = jdbc.connection().createStatement()) {
+            String select = QUERIES.withTableName("select key, c_Text, c_Int64, c_Json from #tableName order by key");
+            try (ResultSet rs = statement.executeQuery(select)) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("first", rs.getString("c_Text"));
+                Assertions.assertEquals(10L, rs.getLong("c_Int64"));
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("second, \"quoted\"", rs.getString("c_Text"));
+                Assertions.assertNull(rs.getObject("c_Int64"));
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("multi\nline", rs.getString("c_Text"));
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("{\"a\":[1,2]}", rs.getString("c_Json"));
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(5, rs.getInt("key"));
+                Assertions.assertNull(rs.getString("c_Text"));
+                Assertions.assertFalse(rs.next());
+            }
+        }
+
+        ExceptionAssert.sqlDataException("Table ydb_connection_test has no column unknown",
+                () -> loader.loadCsv(new StringReader("key,unknown\r\n1,2\r\n")));
+        ExceptionAssert.sqlDataException("Unable to load data at line 2: Cannot cast [abc] to [Int64]",
+                () -> loader.loadCsv(new StringReader("key,c_Int64\r\n1,abc\r\n")));
+        ExceptionAssert.sqlDataException("Unable to load data at line 2: object has keys not present",
+                () -> loader.loadJsonLines(new StringReader("{\"key\": 1}\n{\"key\": 2, \"c_Int64\": 2}\n")));
+
+        cleanTable();
+    }
+
     @Test
     public void testDDLInsideTransaction() throws SQLException {
         String createTempTable = QUERIES.withTableName(
@@ -701,6 +848,59 @@ public class YdbConnectionImplTest {
         }
     }
 
+    @Test
+    public void testListParameters() throws SQLException {
+        try (Statement statement = jdbc.connection().createStatement()) {
+            statement.execute(QUERIES.withTableName(
+                    "upsert into #tableName (key, c_Text) values (1, 'a'u), (2, 'b'u), (3, 'c'u)"
+            ));
+
+            String select = QUERIES.withTableName("select count(*) from #tableName where key in ?");
+            try (PreparedStatement ps = jdbc.connection().prepareStatement(select)) {
+                ps.setObject(1, Arrays.asList(1, 3, 5));
+                TableAssert.assertSelectInt(2, ps.executeQuery());
+
+                ps.setObject(1, new int[] {1, 2, 3});
+                TableAssert.assertSelectInt(3, ps.executeQuery());
+
+                ps.setArray(1, jdbc.connection().createArrayOf("Int32", new Object[] {2, 4}));
+                TableAssert.assertSelectInt(1, ps.executeQuery());
+
+                // list with nulls has optional items
+                ps.setObject(1, Arrays.asList(1, null, 3));
+                TableAssert.assertSelectInt(2, ps.executeQuery());
+
+                ExceptionAssert.sqlException("Unable to find YDB type of array items: unknown",
+                        () -> ps.setObject(1, Arrays.asList()));
+            }
+
+            // JDBC list is sent as single list parameter
+            String selectIn = QUERIES.withTableName("select count(*) from #tableName where key in (?, ?, ?)");
+            try (PreparedStatement ps = jdbc.connection().prepareStatement(selectIn)) {
+                ps.setInt(1, 1);
+                ps.setInt(2, 3);
+                ps.setNull(3, Types.INTEGER);
+                TableAssert.assertSelectInt(2, ps.executeQuery());
+            }
+
+            try (ResultSet rs = statement.executeQuery(QUERIES.withTableName(
+                    "select AGG_LIST(key) as keys, AGG_LIST(c_Text) as texts from #tableName"))) {
+                Assertions.assertTrue(rs.next());
+                // key is optional column, so items are boxed
+                Object[] keys = (Object[]) rs.getArray("keys").getArray();
+                Arrays.sort(keys);
+                Assertions.assertArrayEquals(new Integer[] {1, 2, 3}, keys);
+
+                Object[] texts = (Object[]) rs.getArray("texts").getArray();
+                Arrays.sort(texts);
+                Assertions.assertArrayEquals(new String[] {"a", "b", "c"}, texts);
+                Assertions.assertFalse(rs.next());
+            }
+        } finally {
+            cleanTable();
+        }
+    }
+
     @Test
     public void testAnsiLexer() throws SQLException {
         try (Statement statement = jdbc.connection().createStatement()) {
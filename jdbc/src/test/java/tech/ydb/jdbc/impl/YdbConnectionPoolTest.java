@@ -0,0 +1,199 @@
+package tech.ydb.jdbc.impl;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.YdbStatement;
+
+public class YdbConnectionPoolTest {
+    /**
+     * Physical connection without server, statements return result sets which refer to the physical statement
+     */
+    private static class StubConnection {
+        private final AtomicInteger rollbacks = new AtomicInteger();
+        private boolean isClosed = false;
+        private boolean isAutoCommit = true;
+
+        private final YdbStatement statement = (YdbStatement) Proxy.newProxyInstance(
+                YdbStatement.class.getClassLoader(), new Class<?>[] {YdbStatement.class}, (obj, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeQuery":
+                            if (isClosed) {
+                                throw new SQLException("Physical connection is closed");
+                            }
+                            return resultSet();
+                        case "isClosed":
+                        case "isPoolable":
+                            return false;
+                        default:
+                            return null;
+                    }
+                });
+
+        private final YdbConnection proxy = (YdbConnection) Proxy.newProxyInstance(
+                YdbConnection.class.getClassLoader(), new Class<?>[] {YdbConnection.class}, (obj, method, args) -> {
+                    switch (method.getName()) {
+                        case "isClosed":
+                            return isClosed;
+                        case "close":
+                            isClosed = true;
+                            return null;
+                        case "getAutoCommit":
+                            return isAutoCommit;
+                        case "setAutoCommit":
+                            isAutoCommit = (Boolean) args[0];
+                            return null;
+                        case "rollback":
+                            rollbacks.incrementAndGet();
+                            return null;
+                        case "isReadOnly":
+                            return false;
+                        case "getTransactionIsolation":
+                            return Connection.TRANSACTION_SERIALIZABLE;
+                        case "createStatement":
+                            return statement;
+                        default:
+                            return null;
+                    }
+                });
+
+        private YdbResultSet resultSet() {
+            return (YdbResultSet) Proxy.newProxyInstance(YdbResultSet.class.getClassLoader(),
+                    new Class<?>[] {YdbResultSet.class}, (obj, method, args) -> {
+                        switch (method.getName()) {
+                            case "getStatement":
+                                return statement;
+                            case "isWrapperFor":
+                                return false;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+
+    private static class StubFactory implements YdbConnectionPool.Factory {
+        private final AtomicInteger created = new AtomicInteger();
+        private StubConnection last;
+
+        @Override
+        public YdbPooledConnection create() throws SQLException {
+            created.incrementAndGet();
+            last = new StubConnection();
+            return new YdbPooledConnection(last.proxy, 1);
+        }
+    }
+
+    @Test
+    public void reuseTest() throws SQLException {
+        StubFactory factory = new StubFactory();
+        try (YdbConnectionPool pool = new YdbConnectionPool(factory, 1)) {
+            YdbConnection first = pool.getConnection(100);
+            Assertions.assertEquals(1, factory.created.get());
+            Assertions.assertEquals(0, pool.getIdleCount());
+
+            SQLTransientConnectionException ex = Assertions.assertThrows(SQLTransientConnectionException.class,
+                    () -> pool.getConnection(100));
+            Assertions.assertEquals("Timeout of waiting for free connection in pool: 100 ms", ex.getMessage());
+
+            first.close();
+            Assertions.assertTrue(first.isClosed());
+            Assertions.assertEquals(1, pool.getIdleCount());
+
+            // physical connection is reused by the new logical one
+            YdbConnection second = pool.getConnection(100);
+            Assertions.assertNotSame(first, second);
+            Assertions.assertFalse(second.isClosed());
+            Assertions.assertEquals(1, factory.created.get());
+            second.close();
+        }
+    }
+
+    @Test
+    public void resetStateTest() throws SQLException {
+        StubFactory factory = new StubFactory();
+        try (YdbConnectionPool pool = new YdbConnectionPool(factory, 1)) {
+            YdbConnection connection = pool.getConnection(100);
+            connection.setAutoCommit(false);
+            Assertions.assertFalse(factory.last.isAutoCommit);
+
+            // transaction is rolled back and default settings are restored on close
+            connection.close();
+            Assertions.assertEquals(1, factory.last.rollbacks.get());
+            Assertions.assertTrue(factory.last.isAutoCommit);
+        }
+    }
+
+    @Test
+    public void logicalResultSetTest() throws SQLException {
+        StubFactory factory = new StubFactory();
+        try (YdbConnectionPool pool = new YdbConnectionPool(factory, 1)) {
+            YdbConnection connection = pool.getConnection(100);
+            Statement statement = connection.createStatement();
+            Assertions.assertSame(connection, statement.getConnection());
+
+            ResultSet rs = statement.executeQuery("SELECT 1");
+            Assertions.assertSame(statement, rs.getStatement());
+            Assertions.assertSame(rs, rs.unwrap(YdbResultSet.class));
+            Assertions.assertTrue(rs.isWrapperFor(ResultSet.class));
+
+            connection.close();
+            Assertions.assertTrue(statement.isClosed());
+        }
+    }
+
+    @Test
+    public void abortTest() throws SQLException {
+        StubFactory factory = new StubFactory();
+        try (YdbConnectionPool pool = new YdbConnectionPool(factory, 2)) {
+            YdbConnection connection = pool.getConnection(100);
+            Statement statement = connection.createStatement();
+            Assertions.assertEquals(1, pool.getAvailablePermits());
+
+            // aborted physical connection is closed and not returned to the pool
+            connection.abort(Runnable::run);
+            Assertions.assertTrue(connection.isClosed());
+            Assertions.assertTrue(factory.last.isClosed);
+            Assertions.assertEquals(0, pool.getIdleCount());
+            Assertions.assertEquals(2, pool.getAvailablePermits());
+
+            // errors of the broken connection and its closing don't release permits again
+            Assertions.assertThrows(SQLException.class, () -> connection.createStatement());
+            Assertions.assertThrows(SQLException.class, () -> statement.executeQuery("SELECT 1"));
+            connection.abort(Runnable::run);
+            connection.close();
+            Assertions.assertEquals(0, pool.getIdleCount());
+            Assertions.assertEquals(2, pool.getAvailablePermits());
+
+            pool.getConnection(100);
+            pool.getConnection(100);
+            Assertions.assertEquals(0, pool.getAvailablePermits());
+            Assertions.assertEquals(3, factory.created.get());
+        }
+    }
+
+    @Test
+    public void closedPoolTest() throws SQLException {
+        StubFactory factory = new StubFactory();
+        YdbConnectionPool pool = new YdbConnectionPool(factory, 2);
+        pool.getConnection(100).close();
+        Assertions.assertEquals(1, pool.getIdleCount());
+
+        pool.close();
+        Assertions.assertEquals(0, pool.getIdleCount());
+        Assertions.assertTrue(factory.last.isClosed);
+
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> pool.getConnection(100));
+        Assertions.assertEquals("Connection pool is closed", ex.getMessage());
+    }
+}
@@ -7,6 +7,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -293,6 +294,33 @@ public class YdbQueryConnectionImplTest {
         }
     }
 
+    @Test
+    public void readOnlyTransactions() throws SQLException {
+        jdbc.connection().setReadOnly(true);
+        try (Statement statement = jdbc.connection().createStatement()) {
+            // autocommit reads are executed in implicit transactions
+            Assertions.assertTrue(statement.execute(SELECT_2_2));
+            Assertions.assertNull(getTxId(jdbc.connection()));
+
+            jdbc.connection().setAutoCommit(false);
+            Assertions.assertNull(getTxId(jdbc.connection()));
+
+            // snapshot transaction is begun with the first statement
+            Assertions.assertTrue(statement.execute(SELECT_2_2));
+            String txId = getTxId(jdbc.connection());
+            Assertions.assertNotNull(txId);
+
+            Assertions.assertTrue(statement.execute(QUERIES.selectAllSQL()));
+            Assertions.assertEquals(txId, getTxId(jdbc.connection()));
+
+            jdbc.connection().commit();
+            Assertions.assertNull(getTxId(jdbc.connection()));
+        } finally {
+            jdbc.connection().setAutoCommit(true);
+            jdbc.connection().setReadOnly(false);
+        }
+    }
+
     @Test
     public void commit() throws SQLException {
         jdbc.connection().setAutoCommit(false);
@@ -632,7 +660,7 @@ public class YdbQueryConnectionImplTest {
         ExceptionAssert.sqlFeatureNotSupported("Blobs are not supported", () -> jdbc.connection().createBlob());
         ExceptionAssert.sqlFeatureNotSupported("NClobs are not supported", () -> jdbc.connection().createNClob());
         ExceptionAssert.sqlFeatureNotSupported("SQLXMLs are not supported", () -> jdbc.connection().createSQLXML());
-        ExceptionAssert.sqlFeatureNotSupported("Arrays are not supported",
+        ExceptionAssert.sqlException("Unable to find YDB type of array items: type",
                 () -> jdbc.connection().createArrayOf("type", new Object[] { })
         );
         ExceptionAssert.sqlFeatureNotSupported("Structs are not supported",
@@ -704,6 +732,59 @@ public class YdbQueryConnectionImplTest {
         }
     }
 
+    @Test
+    public void testListParameters() throws SQLException {
+        try (Statement statement = jdbc.connection().createStatement()) {
+            statement.execute(QUERIES.withTableName(
+                    "upsert into #tableName (key, c_Text) values (1, 'a'u), (2, 'b'u), (3, 'c'u)"
+            ));
+
+            String select = QUERIES.withTableName("select count(*) from #tableName where key in ?");
+            try (PreparedStatement ps = jdbc.connection().prepareStatement(select)) {
+                ps.setObject(1, Arrays.asList(1, 3, 5));
+                TableAssert.assertSelectInt(2, ps.executeQuery());
+
+                ps.setObject(1, new int[] {1, 2, 3});
+                TableAssert.assertSelectInt(3, ps.executeQuery());
+
+                ps.setArray(1, jdbc.connection().createArrayOf("Int32", new Object[] {2, 4}));
+                TableAssert.assertSelectInt(1, ps.executeQuery());
+
+                // list with nulls has optional items
+                ps.setObject(1, Arrays.asList(1, null, 3));
+                TableAssert.assertSelectInt(2, ps.executeQuery());
+
+                ExceptionAssert.sqlException("Unable to find YDB type of array items: unknown",
+                        () -> ps.setObject(1, Arrays.asList()));
+            }
+
+            // JDBC list is sent as single list parameter
+            String selectIn = QUERIES.withTableName("select count(*) from #tableName where key in (?, ?, ?)");
+            try (PreparedStatement ps = jdbc.connection().prepareStatement(selectIn)) {
+                ps.setInt(1, 1);
+                ps.setInt(2, 3);
+                ps.setNull(3, Types.INTEGER);
+                TableAssert.assertSelectInt(2, ps.executeQuery());
+            }
+
+            try (ResultSet rs = statement.executeQuery(QUERIES.withTableName(
+                    "select AGG_LIST(key) as keys, AGG_LIST(c_Text) as texts from #tableName"))) {
+                Assertions.assertTrue(rs.next());
+                // key is optional column, so items are boxed
+                Object[] keys = (Object[]) rs.getArray("keys").getArray();
+                Arrays.sort(keys);
+                Assertions.assertArrayEquals(new Integer[] {1, 2, 3}, keys);
+
+                Object[] texts = (Object[]) rs.getArray("texts").getArray();
+                Arrays.sort(texts);
+                Assertions.assertArrayEquals(new String[] {"a", "b", "c"}, texts);
+                Assertions.assertFalse(rs.next());
+            }
+        } finally {
+            cleanTable();
+        }
+    }
+
     @Test
     public void testAnsiLexer() throws SQLException {
         try (Statement statement = jdbc.connection().createStatement()) {
@@ -20,6 +20,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Locale;
@@ -237,7 +238,9 @@ public class YdbResultSetImplTest {
     @Test
     public void fetchSize() throws SQLException {
         Assertions.assertEquals(1000, resultSet.getFetchSize());
-        resultSet.setFetchSize(99); // do nothing
+        resultSet.setFetchSize(99);
+        Assertions.assertEquals(99, resultSet.getFetchSize());
+        resultSet.setFetchSize(0); // use statement fetch size
         Assertions.assertEquals(1000, resultSet.getFetchSize());
     }
 
@@ -1790,6 +1793,53 @@ public class YdbResultSetImplTest {
         checker.assertNoRows();
     }
 
+    @Test
+    public void getObjectWithType() throws SQLException {
+        Assertions.assertTrue(resultSet.next());
+
+        Assertions.assertEquals(Integer.valueOf(2000000001), resultSet.getObject("c_Int32", Integer.class));
+        Assertions.assertEquals(Long.valueOf(2000000001), resultSet.getObject("c_Int32", Long.class));
+        Assertions.assertEquals(Long.valueOf(2000000000002l), resultSet.getObject(10, Long.class));
+        Assertions.assertEquals(Boolean.TRUE, resultSet.getObject("c_Bool", Boolean.class));
+        Assertions.assertEquals(Short.valueOf((short) 20001), resultSet.getObject("c_Int16", Short.class));
+        Assertions.assertEquals(Double.valueOf(1.2345678912345679E8d), resultSet.getObject("c_Double", Double.class));
+        Assertions.assertEquals("text text text", resultSet.getObject("c_Text", String.class));
+        Assertions.assertEquals(new BigDecimal("3.335000000"), resultSet.getObject("c_Decimal", BigDecimal.class));
+
+        Assertions.assertEquals(LocalDate.parse("1978-07-09"), resultSet.getObject("c_Date", LocalDate.class));
+        Assertions.assertEquals(LocalDateTime.parse("1978-07-09T00:00:00"),
+                resultSet.getObject("c_Date", LocalDateTime.class));
+        Assertions.assertEquals(Instant.parse("1978-07-09T00:00:00Z"), resultSet.getObject("c_Date", Instant.class));
+
+        Assertions.assertEquals(LocalDateTime.parse("1970-02-06T00:11:51"),
+                resultSet.getObject("c_Datetime", LocalDateTime.class));
+        Assertions.assertEquals(LocalDate.parse("1970-02-06"), resultSet.getObject("c_Datetime", LocalDate.class));
+        Assertions.assertEquals(OffsetDateTime.parse("1970-02-06T00:11:51Z"),
+                resultSet.getObject("c_Datetime", OffsetDateTime.class));
+
+        Assertions.assertEquals(Instant.parse("1970-01-01T00:00:03.111112Z"),
+                resultSet.getObject("c_Timestamp", Instant.class));
+        Assertions.assertEquals(LocalDateTime.parse("1970-01-01T00:00:03.111112"),
+                resultSet.getObject("c_Timestamp", LocalDateTime.class));
+        Assertions.assertEquals(OffsetDateTime.parse("1970-01-01T00:00:03.111112Z"),
+                resultSet.getObject(20, OffsetDateTime.class));
+
+        Assertions.assertEquals(Duration.parse("PT3.111113S"), resultSet.getObject("c_Interval", Duration.class));
+
+        ExceptionAssert.sqlException("Cannot cast [Text] to [class java.time.LocalDate]",
+                () -> resultSet.getObject("c_Text", LocalDate.class));
+        ExceptionAssert.sqlException("Cannot cast [Date] to [class java.time.Duration]",
+                () -> resultSet.getObject("c_Date", Duration.class));
+        ExceptionAssert.sqlException("Type of object is required", () -> resultSet.getObject("c_Date", (Class<?>) null));
+
+        // null values
+        Assertions.assertTrue(resultSet.absolute(5));
+        Assertions.assertNull(resultSet.getObject("c_Int32", Integer.class));
+        Assertions.assertNull(resultSet.getObject("c_Date", LocalDate.class));
+        Assertions.assertNull(resultSet.getObject("c_Timestamp", Instant.class));
+        Assertions.assertNull(resultSet.getObject("c_Interval", Duration.class));
+    }
+
     private Reader reader(String string) {
         return new StringReader(string);
     }
@@ -1939,12 +1989,6 @@ public class YdbResultSetImplTest {
 
     @Test
     public void unsupportedGetters() {
-        // getObject with type
-        ExceptionAssert.sqlFeatureNotSupported("Object with type conversion is not supported yet",
-                () -> resultSet.getObject(1, Integer.class));
-        ExceptionAssert.sqlFeatureNotSupported("Object with type conversion is not supported yet",
-                () -> resultSet.getObject("Column", Integer.class));
-
         // getObject with type map
         ExceptionAssert.sqlFeatureNotSupported("Object with type conversion is not supported yet",
                 () -> resultSet.getObject(1, Collections.emptyMap()));
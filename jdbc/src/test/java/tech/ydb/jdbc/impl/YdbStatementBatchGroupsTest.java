@@ -0,0 +1,49 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.query.JdbcQueryLexer;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YdbQueryBuilder;
+import tech.ydb.jdbc.settings.YdbConfig;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+
+public class YdbStatementBatchGroupsTest {
+    private static String dmlTarget(String sql) throws SQLException {
+        YdbQueryProperties opts = new YdbQueryProperties(
+                YdbConfig.from("jdbc:ydb:localhost:2136/local", new Properties())
+        );
+        YdbQueryBuilder builder = new YdbQueryBuilder(sql, opts.getForcedQueryType());
+        JdbcQueryLexer.buildQuery(builder, opts);
+        YdbQuery query = builder.build(opts);
+        return YdbStatementImpl.dmlTarget(query);
+    }
+
+    @Test
+    public void groupedStatementsTest() throws SQLException {
+        Assertions.assertEquals("a", dmlTarget("UPSERT INTO a (id, value) VALUES (1, 'v'), (2, 'w')"));
+        Assertions.assertEquals("a", dmlTarget("insert into `A` (id) values ($p1)"));
+        Assertions.assertEquals("dir/a", dmlTarget("UPSERT INTO `dir/a` (id) VALUES (1)"));
+        Assertions.assertEquals("a", dmlTarget("UPDATE a SET value = value + 1 WHERE id = 1"));
+        Assertions.assertEquals("a", dmlTarget("DELETE FROM a WHERE id = 1"));
+    }
+
+    @Test
+    public void barrierStatementsTest() throws SQLException {
+        // statements which read other tables are executed alone
+        Assertions.assertNull(dmlTarget("UPSERT INTO a SELECT * FROM b"));
+        Assertions.assertNull(dmlTarget("INSERT INTO a (id) SELECT id FROM b WHERE id > 1"));
+        Assertions.assertNull(dmlTarget("UPDATE a ON SELECT id, 1 AS value FROM b"));
+        Assertions.assertNull(dmlTarget("DELETE FROM a ON SELECT id FROM b"));
+        Assertions.assertNull(dmlTarget("DELETE FROM a WHERE id IN (SELECT id FROM b)"));
+        Assertions.assertNull(dmlTarget("UPDATE a SET value = 1 WHERE id IN (select id from b)"));
+
+        Assertions.assertNull(dmlTarget("SELECT * FROM a"));
+        Assertions.assertNull(dmlTarget("CREATE TABLE a (id Int32, PRIMARY KEY(id))"));
+        Assertions.assertNull(dmlTarget("UPSERT INTO a (id) VALUES (1); DELETE FROM b"));
+    }
+}
@@ -1,5 +1,7 @@
 package tech.ydb.jdbc.impl;
 
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -147,9 +149,36 @@ public class YdbStatementImplTest {
 
     @Test
     public void maxRows() throws SQLException {
-        Assertions.assertEquals(1000, statement.getMaxRows());
-        statement.setMaxRows(99); // do nothing
-        Assertions.assertEquals(1000, statement.getMaxRows());
+        Assertions.assertEquals(0, statement.getMaxRows());
+        statement.setMaxRows(99);
+        Assertions.assertEquals(99, statement.getMaxRows());
+
+        ExceptionAssert.sqlException("Max rows value cannot be negative: -1", () -> statement.setMaxRows(-1));
+        Assertions.assertEquals(99, statement.getMaxRows());
+
+        statement.execute(TEST_UPSERT1_SQL + ";\n" + TEST_UPSERT2_SQL + ";\n" + TEST_UPSERT3_SQL + ";");
+
+        statement.setMaxRows(2);
+        try (ResultSet rs = statement.executeQuery(TEST_TABLE.withTableName("select * from #tableName"))) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertTrue(rs.next());
+            Assertions.assertFalse(rs.next());
+        }
+
+        try (ResultSet rs = statement.unwrap(YdbStatement.class)
+                .executeScanQuery(TEST_TABLE.withTableName("select * from #tableName"))) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertTrue(rs.next());
+            Assertions.assertFalse(rs.next());
+        }
+
+        statement.setMaxRows(0);
+        try (ResultSet rs = statement.executeQuery(TEST_TABLE.withTableName("select * from #tableName"))) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertTrue(rs.next());
+            Assertions.assertTrue(rs.next());
+            Assertions.assertFalse(rs.next());
+        }
     }
 
     @Test
@@ -168,8 +197,13 @@ public class YdbStatementImplTest {
 
     @Test
     public void cancel() throws SQLException {
-        statement.cancel(); // do nothing
+        statement.cancel(); // no in-flight operations, do nothing
         statement.cancel();
+
+        // statement is still usable after cancel
+        try (ResultSet rs = statement.executeQuery("select 1 + 2")) {
+            Assertions.assertTrue(rs.next());
+        }
     }
 
     @Test
@@ -202,8 +236,12 @@ public class YdbStatementImplTest {
     @Test
     public void fetchSize() throws SQLException {
         Assertions.assertEquals(1000, statement.getFetchSize());
-        statement.setFetchSize(100); // do nothing
+        statement.setFetchSize(100);
+        Assertions.assertEquals(100, statement.getFetchSize());
+        statement.setFetchSize(0); // reset to default
         Assertions.assertEquals(1000, statement.getFetchSize());
+
+        ExceptionAssert.sqlException("Fetch size cannot be negative: -1", () -> statement.setFetchSize(-1));
     }
 
     @Test
@@ -498,6 +536,31 @@ public class YdbStatementImplTest {
         }
     }
 
+    @Test
+    public void executeGroupedBatch() throws SQLException {
+        try (Connection connection = jdbc.createCustomConnection("batchParallelism", "2")) {
+            try (Statement st = connection.createStatement()) {
+                st.addBatch(TEST_UPSERT1_SQL);
+                st.addBatch("select 1 + 1"); // barrier, executed alone
+                st.addBatch(TEST_UPSERT2_SQL);
+                st.addBatch(TEST_UPSERT3_SQL);
+
+                int NI = Statement.SUCCESS_NO_INFO;
+                Assertions.assertArrayEquals(new int[]{NI, NI, NI, NI}, st.executeBatch());
+
+                try (YdbResultSet result = st.executeQuery(TEST_TABLE.selectSQL()).unwrap(YdbResultSet.class)) {
+                    Assertions.assertEquals(3, result.getYdbResultSetReader().getRowCount());
+                }
+
+                st.addBatch(TEST_UPSERT1_SQL);
+                st.addBatch("upsert into unknown_table (key) values (1)");
+
+                BatchUpdateException ex = Assertions.assertThrows(BatchUpdateException.class, st::executeBatch);
+                Assertions.assertArrayEquals(new int[]{NI, Statement.EXECUTE_FAILED}, ex.getUpdateCounts());
+            }
+        }
+    }
+
     @Test
     public void clearBatch() throws SQLException {
         statement.addBatch(TEST_UPSERT1_SQL);
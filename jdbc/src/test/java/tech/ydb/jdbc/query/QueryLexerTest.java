@@ -2,13 +2,20 @@ package tech.ydb.jdbc.query;
 
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import tech.ydb.jdbc.query.params.InMemoryParams;
 import tech.ydb.jdbc.settings.YdbConfig;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 
 
 
@@ -182,4 +189,111 @@ public class QueryLexerTest {
         ));
     }
 
+    @Test
+    public void inListTest() throws SQLException {
+        YdbQueryProperties opts = new ParamsBuilder().build();
+
+        YdbQuery query = parseQuery(opts, "SELECT * FROM t WHERE id IN (?, ?,?) AND value = ?");
+        Assertions.assertEquals("-- DECLARE 2 PARAMETERS\nSELECT * FROM t WHERE id IN $jp1 AND value = $jp2",
+                query.getYqlQuery(null));
+        Assertions.assertEquals(Arrays.asList("$jp1", "$jp1", "$jp1", "$jp2"), query.getIndexesParameters());
+        Assertions.assertEquals(Collections.singleton("$jp1"), query.getListParameters());
+
+        // all arities give the same YQL
+        Assertions.assertEquals(query.getYqlQuery(null),
+                parseQuery(opts, "SELECT * FROM t WHERE id IN(?) AND value = ?").getYqlQuery(null));
+        Assertions.assertEquals(query.getYqlQuery(null),
+                parseQuery(opts, "SELECT * FROM t WHERE id IN ( ?,\n?, ?, ?, ? ) AND value = ?").getYqlQuery(null));
+
+        // not a JDBC list
+        Assertions.assertEquals("-- DECLARE 3 PARAMETERS\n"
+                + "SELECT * FROM t WHERE id IN ($jp1, 5) AND name IN (? , $jp2) AND min($jp3)",
+                parseQuery(opts, "SELECT * FROM t WHERE id IN (?, 5) AND name IN (?? , ?) AND min(?)").getYqlQuery(null)
+        );
+        Assertions.assertEquals("SELECT * FROM t WHERE id IN ()",
+                parseQuery(opts, "SELECT * FROM t WHERE id IN ()").getYqlQuery(null));
+
+        YdbQueryProperties disabled = new ParamsBuilder().with("disableJdbcInListParameters", "true").build();
+        YdbQuery usual = parseQuery(disabled, "SELECT * FROM t WHERE id IN (?, ?)");
+        Assertions.assertEquals(Arrays.asList("$jp1", "$jp2"), usual.getIndexesParameters());
+        Assertions.assertTrue(usual.getListParameters().isEmpty());
+    }
+
+    @Test
+    public void inListParamsTest() throws SQLException {
+        YdbQueryProperties opts = new ParamsBuilder().build();
+        YdbQuery query = parseQuery(opts, "SELECT * FROM t WHERE id IN (?, ?, ?) AND value = ?");
+        InMemoryParams params = new InMemoryParams(query.getIndexesParameters(), query.getListParameters());
+
+        params.setParam(1, 1, PrimitiveType.Int32);
+        params.setParam(2, 2, PrimitiveType.Int32);
+        params.setParam(4, "text", PrimitiveType.Text);
+        Assertions.assertFalse(params.getCurrentParams().values().containsKey("$jp1"));
+
+        params.setParam(3, PrimitiveValue.newInt32(3), PrimitiveType.Int32);
+        Params current = params.getCurrentParams();
+        Assertions.assertEquals(ListType.of(PrimitiveType.Int32).newValue(Arrays.asList(
+                PrimitiveValue.newInt32(1), PrimitiveValue.newInt32(2), PrimitiveValue.newInt32(3)
+        )), current.values().get("$jp1"));
+        Assertions.assertEquals("DECLARE $jp1 AS List<Int32>;\nDECLARE $jp2 AS Text;\n"
+                + "SELECT * FROM t WHERE id IN $jp1 AND value = $jp2", query.getYqlQuery(current));
+
+        // null makes all items optional
+        params.setParam(2, null, PrimitiveType.Int32);
+        Assertions.assertEquals(ListType.of(PrimitiveType.Int32.makeOptional()).newValue(Arrays.asList(
+                PrimitiveValue.newInt32(1).makeOptional(), PrimitiveType.Int32.makeOptional().emptyValue(),
+                PrimitiveValue.newInt32(3).makeOptional()
+        )), params.getCurrentParams().values().get("$jp1"));
+
+        params.setParam(2, "2", PrimitiveType.Text);
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> params.getCurrentParams());
+        Assertions.assertEquals("Cannot cast parameter [$jp1] from [Text] to [Int32]", ex.getMessage());
+
+        params.clearParameters();
+        Assertions.assertTrue(params.getCurrentParams().values().isEmpty());
+    }
+
+    @Test
+    public void inListMixedTypesTest() throws SQLException {
+        YdbQueryProperties opts = new ParamsBuilder().build();
+        YdbQuery query = parseQuery(opts, "SELECT * FROM t WHERE id IN (?, ?, ?)");
+        InMemoryParams params = new InMemoryParams(query.getIndexesParameters(), query.getListParameters());
+
+        // setInt + setLong + setShort
+        params.setParam(1, 1, PrimitiveType.Int32);
+        params.setParam(2, 2L, PrimitiveType.Int64);
+        params.setParam(3, (short) 3, PrimitiveType.Int16);
+        Assertions.assertEquals(ListType.of(PrimitiveType.Int64).newValue(Arrays.asList(
+                PrimitiveValue.newInt64(1), PrimitiveValue.newInt64(2), PrimitiveValue.newInt64(3)
+        )), params.getCurrentParams().values().get("$jp1"));
+
+        // unsigned items are widened to signed type of bigger size
+        params.setParam(2, PrimitiveValue.newUint32(2), PrimitiveType.Uint32);
+        params.setParam(3, null, PrimitiveType.Int16);
+        Assertions.assertEquals(ListType.of(PrimitiveType.Int64.makeOptional()).newValue(Arrays.asList(
+                PrimitiveValue.newInt64(1).makeOptional(), PrimitiveValue.newInt64(2).makeOptional(),
+                PrimitiveType.Int64.makeOptional().emptyValue()
+        )), params.getCurrentParams().values().get("$jp1"));
+
+        params.setParam(2, PrimitiveValue.newUint64(2), PrimitiveType.Uint64);
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> params.getCurrentParams());
+        Assertions.assertEquals("Cannot cast parameter [$jp1] from [Uint64] to [Int32]", ex.getMessage());
+
+        // setFloat + setDouble
+        params.setParam(1, 1.5f, PrimitiveType.Float);
+        params.setParam(2, 2.5d, PrimitiveType.Double);
+        params.setParam(3, 3.5f, PrimitiveType.Float);
+        Assertions.assertEquals(ListType.of(PrimitiveType.Double).newValue(Arrays.asList(
+                PrimitiveValue.newDouble(1.5d), PrimitiveValue.newDouble(2.5d), PrimitiveValue.newDouble(3.5d)
+        )), params.getCurrentParams().values().get("$jp1"));
+
+        // setString + setNString + setBytes
+        params.setParam(1, "a", PrimitiveType.Text);
+        params.setParam(2, "b", PrimitiveType.Text);
+        params.setParam(3, new byte[] {'c'}, PrimitiveType.Bytes);
+        Assertions.assertEquals(ListType.of(PrimitiveType.Bytes).newValue(Arrays.asList(
+                PrimitiveValue.newBytes(new byte[] {'a'}), PrimitiveValue.newBytes(new byte[] {'b'}),
+                PrimitiveValue.newBytes(new byte[] {'c'})
+        )), params.getCurrentParams().values().get("$jp1"));
+    }
 }
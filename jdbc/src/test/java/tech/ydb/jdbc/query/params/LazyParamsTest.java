@@ -0,0 +1,130 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+
+public class LazyParamsTest {
+    private static final Map<String, Type> TYPES = new HashMap<>();
+
+    static {
+        TYPES.put("$key", PrimitiveType.Int64);
+        TYPES.put("$value", PrimitiveType.Text.makeOptional());
+    }
+
+    @Test
+    public void namedParamsTest() throws SQLException {
+        AtomicInteger prepares = new AtomicInteger();
+        LazyParams params = new LazyParams(() -> {
+            prepares.incrementAndGet();
+            return new PreparedParams(TYPES);
+        });
+
+        params.setParam("key", 1, PrimitiveType.Int32);
+        params.setParam("$value", "text", PrimitiveType.Text);
+
+        // types are inferred from values
+        Params current = params.getCurrentParams();
+        Assertions.assertEquals(PrimitiveValue.newInt32(1), current.values().get("$key"));
+        Assertions.assertEquals(PrimitiveValue.newText("text"), current.values().get("$value"));
+
+        Assertions.assertFalse(params.isPrepared());
+        Assertions.assertEquals(0, prepares.get());
+    }
+
+    @Test
+    public void batchParamsTest() throws SQLException {
+        AtomicInteger prepares = new AtomicInteger();
+        LazyParams params = new LazyParams(() -> {
+            prepares.incrementAndGet();
+            return new PreparedParams(TYPES);
+        });
+        Assertions.assertEquals(0, params.batchSize());
+        Assertions.assertTrue(params.getBatchParams().isEmpty());
+
+        // batches are always built with precise types
+        params.setParam("key", 1, PrimitiveType.Int32);
+        params.setParam("value", null, PrimitiveType.Text);
+        params.addBatch();
+        Assertions.assertTrue(params.isPrepared());
+
+        params.setParam("key", 2, PrimitiveType.Int32);
+        params.setParam("value", "text", PrimitiveType.Text);
+        params.addBatch();
+
+        Assertions.assertEquals(2, params.batchSize());
+        Assertions.assertEquals(PrimitiveValue.newInt64(1), params.getBatchParams().get(0).values().get("$key"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(2), params.getBatchParams().get(1).values().get("$key"));
+        Assertions.assertEquals(1, prepares.get());
+
+        params.clearBatch();
+        Assertions.assertEquals(0, params.batchSize());
+    }
+
+    @Test
+    public void prepareTest() throws SQLException {
+        AtomicInteger prepares = new AtomicInteger();
+        LazyParams params = new LazyParams(() -> {
+            prepares.incrementAndGet();
+            return new PreparedParams(TYPES);
+        });
+
+        params.setParam("key", 1, PrimitiveType.Int32);
+        params.setParam("value", "text", PrimitiveType.Text);
+        Assertions.assertEquals(PrimitiveValue.newInt32(1), params.getCurrentParams().values().get("$key"));
+
+        // f.e. the server has rejected inferred types of values
+        params.prepare();
+        params.prepare();
+        Assertions.assertTrue(params.isPrepared());
+        Assertions.assertEquals(1, prepares.get());
+        Assertions.assertEquals(PrimitiveValue.newInt64(1), params.getCurrentParams().values().get("$key"));
+    }
+
+    @Test
+    public void indexedParamsTest() throws SQLException {
+        AtomicInteger prepares = new AtomicInteger();
+        LazyParams params = new LazyParams(() -> {
+            prepares.incrementAndGet();
+            return new PreparedParams(TYPES);
+        });
+
+        params.setParam("value", "text", PrimitiveType.Text);
+        Assertions.assertEquals(0, prepares.get());
+
+        // access by index prepares the query and sets values again with precise types
+        params.setParam(1, 2, PrimitiveType.Int32);
+        Assertions.assertTrue(params.isPrepared());
+        Assertions.assertEquals(2, params.parametersCount());
+        Assertions.assertEquals("key", params.getNameByIndex(1));
+
+        Params current = params.getCurrentParams();
+        Assertions.assertEquals(PrimitiveValue.newInt64(2), current.values().get("$key"));
+        Assertions.assertEquals(PrimitiveValue.newText("text").makeOptional(), current.values().get("$value"));
+
+        params.setParam("value", null, PrimitiveType.Text);
+        Assertions.assertEquals(PrimitiveType.Text.makeOptional().emptyValue(),
+                params.getCurrentParams().values().get("$value"));
+        Assertions.assertEquals(1, prepares.get());
+    }
+
+    @Test
+    public void prepareErrorTest() {
+        LazyParams params = new LazyParams(() -> {
+            throw new SQLException("Cannot prepare data query");
+        });
+
+        SQLException ex = Assertions.assertThrows(SQLException.class, () -> params.setParam(1, 1, PrimitiveType.Int32));
+        Assertions.assertEquals("Cannot prepare data query", ex.getMessage());
+        Assertions.assertFalse(params.isPrepared());
+    }
+}
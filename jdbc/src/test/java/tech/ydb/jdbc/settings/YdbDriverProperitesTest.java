@@ -189,6 +189,31 @@ public class YdbDriverProperitesTest {
                 config.getConnectionString());
     }
 
+    @Test
+    public void configEqualityIgnoresOperationProperties() throws SQLException {
+        String url = "jdbc:ydb:ydb-demo.testhost.org:2135/test/db";
+        YdbConfig config = YdbConfig.from(url, new Properties());
+
+        Properties properties = new Properties();
+        properties.put("autoCommit", "false");
+        properties.put("queryTimeout", "10s");
+        YdbConfig withProps = YdbConfig.from(url, properties);
+        YdbConfig withArgs = YdbConfig.from(url + "?transactionLevel=4", null);
+
+        Assertions.assertEquals(config, withProps);
+        Assertions.assertEquals(config.hashCode(), withProps.hashCode());
+        Assertions.assertEquals(config, withArgs);
+        Assertions.assertFalse(config.hasEqualOperationProperties(withProps));
+        Assertions.assertFalse(config.hasEqualOperationProperties(withArgs));
+        Assertions.assertTrue(config.hasEqualOperationProperties(YdbConfig.from(url, null)));
+
+        Assertions.assertNotEquals(config, YdbConfig.from(url + "?sessionPoolSizeMax=10", null));
+        Assertions.assertNotEquals(config, YdbConfig.from(url + "?useQueryService=true", null));
+        Assertions.assertNotEquals(config, YdbConfig.from("jdbc:ydb:ydb-demo.testhost.org:2135/other/db", null));
+        Assertions.assertNotEquals(config, YdbConfig.from("jdbc:ydb:user:pass@ydb-demo.testhost.org:2135/test/db",
+                null));
+    }
+
     @ParameterizedTest(name = "[{index}] {0} => {1}")
     @MethodSource("tokensToCheck")
     public void getTokenAs(String token, String expectValue) throws SQLException {
@@ -267,7 +292,8 @@ public class YdbDriverProperitesTest {
         "preparedStatementCacheQueries",
         "sessionPoolSizeMin",
         "sessionPoolSizeMax",
-        "transactionLevel"
+        "transactionLevel",
+        "channelPoolSize"
     })
     public void invalidInteger(String param) {
         String url = "jdbc:ydb:ydb-demo.testhost.org:2135/test/db?" + param + "=1bc";
@@ -304,7 +330,10 @@ public class YdbDriverProperitesTest {
         return new DriverPropertyInfo[]{
             new DriverPropertyInfo("cacheConnectionsInDriver", "true"),
             new DriverPropertyInfo("preparedStatementCacheQueries", "256"),
+            new DriverPropertyInfo("resultCacheSize", "0"),
+            new DriverPropertyInfo("resultCacheTtl", "1s"),
             new DriverPropertyInfo("useQueryService", "false"),
+            new DriverPropertyInfo("useSharedScheduler", "false"),
             new DriverPropertyInfo("localDatacenter", localDatacenter),
             new DriverPropertyInfo("secureConnection", ""),
             new DriverPropertyInfo("secureConnectionCertificate", ""),
@@ -313,11 +342,14 @@ public class YdbDriverProperitesTest {
             new DriverPropertyInfo("useMetadata", ""),
             new DriverPropertyInfo("iamEndpoint", ""),
             new DriverPropertyInfo("metadataURL", ""),
+            new DriverPropertyInfo("channelPoolSize", "1"),
             new DriverPropertyInfo("keepQueryText", ""),
             new DriverPropertyInfo("sessionKeepAliveTime", ""),
             new DriverPropertyInfo("sessionMaxIdleTime", ""),
             new DriverPropertyInfo("sessionPoolSizeMin", ""),
             new DriverPropertyInfo("sessionPoolSizeMax", ""),
+            new DriverPropertyInfo("useReadOnlyContext", "false"),
+            new DriverPropertyInfo("readOnlySessionPoolSizeMax", ""),
             new DriverPropertyInfo("joinDuration", "5m"),
             new DriverPropertyInfo("queryTimeout", "0s"),
             new DriverPropertyInfo("scanQueryTimeout", "5m"),
@@ -328,11 +360,18 @@ public class YdbDriverProperitesTest {
             new DriverPropertyInfo("transactionLevel", "8"),
             new DriverPropertyInfo("schemeQueryTxMode", "ERROR"),
             new DriverPropertyInfo("scanQueryTxMode", "ERROR"),
+            new DriverPropertyInfo("useColumnarResults", "false"),
+            new DriverPropertyInfo("scanQuerySpillThreshold", "0"),
+            new DriverPropertyInfo("batchParallelism", "0"),
+            new DriverPropertyInfo("deferDmlQueries", "false"),
+            new DriverPropertyInfo("commitWithLastQuery", "false"),
             new DriverPropertyInfo("disablePrepareDataQuery", "false"),
+            new DriverPropertyInfo("lazyPrepareThreshold", "0"),
             new DriverPropertyInfo("disableAutoPreparedBatches", "false"),
             new DriverPropertyInfo("disableDetectSqlOperations", "false"),
             new DriverPropertyInfo("disableJdbcParameters", "false"),
             new DriverPropertyInfo("disableJdbcParameterDeclare", "false"),
+            new DriverPropertyInfo("disableJdbcInListParameters", "false"),
             new DriverPropertyInfo("forceQueryMode", ""),
         };
     }
@@ -341,7 +380,10 @@ public class YdbDriverProperitesTest {
         return new DriverPropertyInfo[]{
             new DriverPropertyInfo("cacheConnectionsInDriver", "false"),
             new DriverPropertyInfo("preparedStatementCacheQueries", "100"),
+            new DriverPropertyInfo("resultCacheSize", "1048576"),
+            new DriverPropertyInfo("resultCacheTtl", "10s"),
             new DriverPropertyInfo("useQueryService", "true"),
+            new DriverPropertyInfo("useSharedScheduler", "true"),
             new DriverPropertyInfo("localDatacenter", "sas"),
             new DriverPropertyInfo("secureConnection", "true"),
             new DriverPropertyInfo("secureConnectionCertificate", "classpath:data/certificate.txt"),
@@ -350,11 +392,14 @@ public class YdbDriverProperitesTest {
             new DriverPropertyInfo("useMetadata", "true"),
             new DriverPropertyInfo("iamEndpoint", "iam.endpoint.com"),
             new DriverPropertyInfo("metadataURL", "https://metadata.com"),
+            new DriverPropertyInfo("channelPoolSize", "4"),
             new DriverPropertyInfo("keepQueryText", "true"),
             new DriverPropertyInfo("sessionKeepAliveTime", "15m"),
             new DriverPropertyInfo("sessionMaxIdleTime", "5m"),
             new DriverPropertyInfo("sessionPoolSizeMin", "3"),
             new DriverPropertyInfo("sessionPoolSizeMax", "4"),
+            new DriverPropertyInfo("useReadOnlyContext", "true"),
+            new DriverPropertyInfo("readOnlySessionPoolSizeMax", "10"),
             new DriverPropertyInfo("joinDuration", "6m"),
             new DriverPropertyInfo("queryTimeout", "2m"),
             new DriverPropertyInfo("scanQueryTimeout", "3m"),
@@ -365,11 +410,18 @@ public class YdbDriverProperitesTest {
             new DriverPropertyInfo("transactionLevel", "16"),
             new DriverPropertyInfo("schemeQueryTxMode", "SHADOW_COMMIT"),
             new DriverPropertyInfo("scanQueryTxMode", "FAKE_TX"),
+            new DriverPropertyInfo("useColumnarResults", "true"),
+            new DriverPropertyInfo("scanQuerySpillThreshold", "100000"),
+            new DriverPropertyInfo("batchParallelism", "4"),
+            new DriverPropertyInfo("deferDmlQueries", "true"),
+            new DriverPropertyInfo("commitWithLastQuery", "true"),
             new DriverPropertyInfo("disablePrepareDataQuery", "true"),
+            new DriverPropertyInfo("lazyPrepareThreshold", "5"),
             new DriverPropertyInfo("disableAutoPreparedBatches", "true"),
             new DriverPropertyInfo("disableDetectSqlOperations", "true"),
             new DriverPropertyInfo("disableJdbcParameters", "true"),
             new DriverPropertyInfo("disableJdbcParameterDeclare", "true"),
+            new DriverPropertyInfo("disableJdbcInListParameters", "true"),
             new DriverPropertyInfo("forceQueryMode", "SCAN_QUERY"),
         };
     }
@@ -386,7 +438,16 @@ public class YdbDriverProperitesTest {
         Assertions.assertEquals(Duration.ofSeconds(6), ops.getSessionTimeout());
         Assertions.assertTrue(ops.isAutoCommit());
         Assertions.assertEquals(YdbConst.ONLINE_CONSISTENT_READ_ONLY, ops.getTransactionLevel());
+        Assertions.assertTrue(ops.isUseColumnarResults());
+        Assertions.assertEquals(100000, ops.getScanQuerySpillThreshold());
+        Assertions.assertEquals(4, ops.getBatchParallelism());
+        Assertions.assertTrue(ops.isDeferDmlQueries());
+        Assertions.assertTrue(ops.isCommitWithLastQuery());
         Assertions.assertFalse(config.isCacheConnectionsInDriver());
+        Assertions.assertTrue(config.isUseSharedScheduler());
+        Assertions.assertEquals(1048576, config.getResultCacheSize());
+        Assertions.assertEquals(Duration.ofSeconds(10), config.getResultCacheTtl());
+        Assertions.assertEquals(4, new YdbConnectionProperties(config).getChannelPoolSize());
     }
 
     @SuppressWarnings("UnstableApiUsage")